@@ -0,0 +1,179 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jetty.http.HttpMethod;
+import org.openhab.binding.milllan.internal.api.MillAPITool;
+import org.openhab.binding.milllan.internal.api.RequestEvent;
+import org.openhab.binding.milllan.internal.api.response.ChildLockResponse;
+import org.openhab.binding.milllan.internal.api.response.CloudCommunicationResponse;
+import org.openhab.binding.milllan.internal.api.response.CommercialLockCustomizationResponse;
+import org.openhab.binding.milllan.internal.api.response.CommercialLockResponse;
+import org.openhab.binding.milllan.internal.api.response.ControlStatusResponse;
+import org.openhab.binding.milllan.internal.api.response.ControllerTypeResponse;
+import org.openhab.binding.milllan.internal.api.response.DisplayUnitResponse;
+import org.openhab.binding.milllan.internal.api.response.GenericResponse;
+import org.openhab.binding.milllan.internal.api.response.HysteresisParametersResponse;
+import org.openhab.binding.milllan.internal.api.response.LimitedHeatingPowerResponse;
+import org.openhab.binding.milllan.internal.api.response.OilHeaterPowerResponse;
+import org.openhab.binding.milllan.internal.api.response.OpenWindowParametersResponse;
+import org.openhab.binding.milllan.internal.api.response.OperationModeResponse;
+import org.openhab.binding.milllan.internal.api.response.PIDParametersResponse;
+import org.openhab.binding.milllan.internal.api.response.PredictiveHeatingTypeResponse;
+import org.openhab.binding.milllan.internal.api.response.Response;
+import org.openhab.binding.milllan.internal.api.response.SetTemperatureResponse;
+import org.openhab.binding.milllan.internal.api.response.StatusResponse;
+import org.openhab.binding.milllan.internal.api.response.TemperatureCalibrationOffsetResponse;
+import org.openhab.binding.milllan.internal.api.response.TimeZoneOffsetResponse;
+import org.openhab.binding.milllan.internal.exception.MillException;
+import org.openhab.binding.milllan.internal.http.MillHTTPClientProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Benchmarks the part of {@link MillAPITool}'s request processing that takes place after the transport has
+ * completed: {@code HTTP status} checks, charset handling, building the response {@link String},
+ * deserialization and API status validation. Each endpoint is benchmarked with a payload in the format
+ * returned by the devices, found in the {@code payloads} resource folder.
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar -prof gc} to also get the allocation rate.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecodeBenchmark {
+
+    /** The response classes per endpoint */
+    private static final Map<String, Class<? extends Response>> ENDPOINTS = Map.ofEntries(
+        Map.entry("status", StatusResponse.class),
+        Map.entry("control-status", ControlStatusResponse.class),
+        Map.entry("operation-mode", OperationModeResponse.class),
+        Map.entry("temperature-calibration-offset", TemperatureCalibrationOffsetResponse.class),
+        Map.entry("commercial-lock", CommercialLockResponse.class),
+        Map.entry("child-lock", ChildLockResponse.class),
+        Map.entry("display-unit", DisplayUnitResponse.class),
+        Map.entry("set-temperature", SetTemperatureResponse.class),
+        Map.entry("limited-heating-power", LimitedHeatingPowerResponse.class),
+        Map.entry("controller-type", ControllerTypeResponse.class),
+        Map.entry("predictive-heating-type", PredictiveHeatingTypeResponse.class),
+        Map.entry("oil-heater-power", OilHeaterPowerResponse.class),
+        Map.entry("timezone-offset", TimeZoneOffsetResponse.class),
+        Map.entry("pid-parameters", PIDParametersResponse.class),
+        Map.entry("cloud-communication", CloudCommunicationResponse.class),
+        Map.entry("hysteresis-parameters", HysteresisParametersResponse.class),
+        Map.entry("commercial-lock-customization", CommercialLockCustomizationResponse.class),
+        Map.entry("open-window", OpenWindowParametersResponse.class),
+        Map.entry("generic", GenericResponse.class)
+    );
+
+    /** The endpoint to benchmark */
+    @Param({
+        "status",
+        "control-status",
+        "operation-mode",
+        "temperature-calibration-offset",
+        "commercial-lock",
+        "child-lock",
+        "display-unit",
+        "set-temperature",
+        "limited-heating-power",
+        "controller-type",
+        "predictive-heating-type",
+        "oil-heater-power",
+        "timezone-offset",
+        "pid-parameters",
+        "cloud-communication",
+        "hysteresis-parameters",
+        "commercial-lock-customization",
+        "open-window",
+        "generic"
+    })
+    public String endpoint;
+
+    /** The response character encoding, an empty value means that none is specified by the response */
+    @Param({"", "UTF-8"})
+    public String encoding;
+
+    private MillAPITool apiTool;
+
+    private Class<? extends Response> responseClass;
+
+    private URI uri;
+
+    private byte[] payload;
+
+    /**
+     * Loads the payload and prepares the {@link MillAPITool}.
+     *
+     * @throws IOException If the payload can't be read.
+     */
+    @Setup
+    public void setup() throws IOException {
+        responseClass = ENDPOINTS.get(endpoint);
+        if (responseClass == null) {
+            throw new IllegalArgumentException("Unknown endpoint: " + endpoint);
+        }
+        try (InputStream is = DecodeBenchmark.class.getResourceAsStream("/payloads/" + endpoint + ".json")) {
+            if (is == null) {
+                throw new IOException("Missing payload for endpoint: " + endpoint);
+            }
+            payload = is.readAllBytes();
+        }
+        uri = URI.create("http://127.0.0.1/" + endpoint);
+
+        // The transport isn't used, so no HTTP client provider is needed
+        apiTool = new MillAPITool((MillHTTPClientProvider) null);
+    }
+
+    /**
+     * Decodes the payload for the current endpoint.
+     *
+     * @return The decoded {@link Response}.
+     * @throws MillException If decoding fails.
+     */
+    @Benchmark
+    public Response decode() throws MillException {
+        return apiTool.decodeResponse(
+            responseClass,
+            uri,
+            200,
+            payload,
+            encoding.isEmpty() ? null : encoding,
+            "application/json",
+            true,
+            new RequestEvent(uri, HttpMethod.GET)
+        );
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.benchmark;
+
+import static org.openhab.binding.milllan.internal.MillBindingConstants.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jetty.http.HttpMethod;
+import org.openhab.binding.milllan.internal.MillPanelHeaterHandler;
+import org.openhab.binding.milllan.internal.api.MillAPITool;
+import org.openhab.binding.milllan.internal.api.RequestEvent;
+import org.openhab.binding.milllan.internal.api.response.ControlStatusResponse;
+import org.openhab.binding.milllan.internal.configuration.MillConfigDescriptionProvider;
+import org.openhab.binding.milllan.internal.discovery.MillAddressRegistry;
+import org.openhab.binding.milllan.internal.exception.MillException;
+import org.openhab.binding.milllan.internal.http.MillHTTPClientProvider;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.binding.builder.ThingBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Benchmarks publishing the states from {@code GET/control-status}, that is
+ * {@link MillPanelHeaterHandler#pollControlStatus()} with the transport and decoding replaced by a
+ * pre-decoded {@link ControlStatusResponse}, and the framework replaced by a
+ * {@link StubThingHandlerCallback}.
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar PollControlStatusBenchmark -prof gc}, the
+ * {@code gc.alloc.rate.norm} result is the number of bytes allocated per poll cycle.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PollControlStatusBenchmark {
+
+    /** Whether the temperatures change between every poll cycle or stay the same */
+    @Param({"false", "true"})
+    public boolean changingValues;
+
+    private StubThingHandlerCallback callback;
+
+    private BenchmarkHandler handler;
+
+    private ControlStatusResponse[] responses;
+
+    private int index;
+
+    /**
+     * Decodes the responses and initializes the handler.
+     *
+     * @throws IOException If the payload can't be read.
+     * @throws MillException If decoding or the initial poll fails.
+     */
+    @Setup
+    public void setup() throws IOException, MillException {
+        String payload;
+        try (InputStream is = PollControlStatusBenchmark.class.getResourceAsStream("/payloads/control-status.json")) {
+            if (is == null) {
+                throw new IOException("Missing control-status payload");
+            }
+            payload = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        MillAPITool decoder = new MillAPITool((MillHTTPClientProvider) null);
+        URI uri = URI.create("http://127.0.0.1/control-status");
+        responses = new ControlStatusResponse[] {
+            decode(decoder, uri, payload),
+            decode(
+                decoder,
+                uri,
+                payload.replace("\"ambient_temperature\":21.437500", "\"ambient_temperature\":21.500000")
+                    .replace("\"raw_ambient_temperature\":23.187500", "\"raw_ambient_temperature\":23.250000")
+                    .replace("\"current_power\":0.000000", "\"current_power\":600.000000")
+            )
+        };
+
+        Configuration configuration = new Configuration();
+        configuration.put(CONFIG_PARAM_HOSTNAME, "127.0.0.1");
+        configuration.put(CONFIG_PARAM_REFRESH_INTERVAL, BigDecimal.valueOf(86400L));
+        configuration.put(CONFIG_PARAM_INFREQUENT_REFRESH_INTERVAL, BigDecimal.valueOf(86400L));
+        Thing thing = ThingBuilder.create(THING_TYPE_PANEL_HEATER, "benchmark").withConfiguration(configuration)
+            .build();
+        callback = new StubThingHandlerCallback();
+        handler = new BenchmarkHandler(thing);
+        handler.setCallback(callback);
+
+        // The first poll sets the Thing online, which isn't part of the steady state
+        handler.pollControlStatus();
+    }
+
+    /**
+     * Publishes the states of one {@code GET/control-status} poll cycle.
+     *
+     * @return The {@link StubThingHandlerCallback}.
+     * @throws MillException If the poll fails.
+     */
+    @Benchmark
+    public StubThingHandlerCallback pollControlStatus() throws MillException {
+        if (changingValues) {
+            index ^= 1;
+        }
+        handler.pollControlStatus();
+        return callback;
+    }
+
+    private static ControlStatusResponse decode(MillAPITool decoder, URI uri, String payload) throws MillException {
+        return decoder.decodeResponse(
+            ControlStatusResponse.class,
+            uri,
+            200,
+            payload.getBytes(StandardCharsets.UTF_8),
+            "UTF-8",
+            "application/json",
+            true,
+            new RequestEvent(uri, HttpMethod.GET)
+        );
+    }
+
+    /**
+     * A {@link MillPanelHeaterHandler} that gets its {@link ControlStatusResponse}s from
+     * {@link PollControlStatusBenchmark#responses} and doesn't poll by itself.
+     */
+    private class BenchmarkHandler extends MillPanelHeaterHandler {
+
+        private final MillAPITool apiTool = new MillAPITool((MillHTTPClientProvider) null) {
+
+            @Override
+            public ControlStatusResponse getControlStatus(String hostname, String apiKey) {
+                return responses[index];
+            }
+        };
+
+        BenchmarkHandler(Thing thing) {
+            super(
+                thing,
+                (MillConfigDescriptionProvider) null,
+                (MillHTTPClientProvider) null,
+                () -> null,
+                (MillAddressRegistry) null
+            );
+        }
+
+        @Override
+        protected MillAPITool getAPITool() {
+            return apiTool;
+        }
+
+        @Override
+        protected Runnable createFrequentTask() {
+            return () -> {};
+        }
+
+        @Override
+        protected Runnable createInfrequentTask() {
+            return () -> {};
+        }
+    }
+}
@@ -16,9 +16,10 @@ package org.openhab.binding.milllan.internal;
 import static org.openhab.binding.milllan.internal.MillBindingConstants.*;
 import static org.openhab.binding.milllan.internal.MillUtil.isBlank;
 import static org.openhab.binding.milllan.internal.MillUtil.sameValue;
+import static org.openhab.binding.milllan.internal.MillUtil.toStringType;
 import java.io.IOException;
 import java.math.BigDecimal;
-import java.net.ConnectException;
+import java.math.RoundingMode;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
@@ -26,16 +27,29 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.measure.Quantity;
+import javax.measure.Unit;
 import javax.measure.quantity.Temperature;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -43,12 +57,18 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.http.HttpStatus;
 import org.openhab.binding.milllan.internal.api.ControllerType;
 import org.openhab.binding.milllan.internal.api.DisplayUnit;
+import org.openhab.binding.milllan.internal.api.HedgePolicy;
+import org.openhab.binding.milllan.internal.api.LinkQualityTracker;
 import org.openhab.binding.milllan.internal.api.LockStatus;
 import org.openhab.binding.milllan.internal.api.MillAPITool;
 import org.openhab.binding.milllan.internal.api.OpenWindowStatus;
 import org.openhab.binding.milllan.internal.api.OperationMode;
 import org.openhab.binding.milllan.internal.api.PredictiveHeatingType;
+import org.openhab.binding.milllan.internal.api.RequestEvent;
+import org.openhab.binding.milllan.internal.api.RequestDeadline;
+import org.openhab.binding.milllan.internal.api.RequestListener;
 import org.openhab.binding.milllan.internal.api.ResponseStatus;
+import org.openhab.binding.milllan.internal.api.SettingsCache;
 import org.openhab.binding.milllan.internal.api.TemperatureType;
 import org.openhab.binding.milllan.internal.api.request.OpenWindowParameters;
 import org.openhab.binding.milllan.internal.api.response.ChildLockResponse;
@@ -71,25 +91,39 @@ import org.openhab.binding.milllan.internal.api.response.StatusResponse;
 import org.openhab.binding.milllan.internal.api.response.TemperatureCalibrationOffsetResponse;
 import org.openhab.binding.milllan.internal.api.response.TimeZoneOffsetResponse;
 import org.openhab.binding.milllan.internal.configuration.MillConfigDescriptionProvider;
+import org.openhab.binding.milllan.internal.discovery.MillAddressRegistry;
+import org.openhab.binding.milllan.internal.discovery.MillAddressRegistry.AddressListener;
+import org.openhab.binding.milllan.internal.exception.MillCommunicationException;
 import org.openhab.binding.milllan.internal.exception.MillException;
 import org.openhab.binding.milllan.internal.exception.MillHTTPResponseException;
 import org.openhab.binding.milllan.internal.http.MillHTTPClientProvider;
+import org.openhab.binding.milllan.internal.http.MillHostResolver;
+import org.openhab.binding.milllan.internal.metrics.MillMetrics;
+import org.openhab.binding.milllan.internal.poll.MillPollPlanRegistry;
+import org.openhab.binding.milllan.internal.poll.PollCadence;
+import org.openhab.binding.milllan.internal.poll.PollEndpoint;
+import org.openhab.binding.milllan.internal.poll.PollPlan;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.core.status.ConfigStatusCallback;
 import org.openhab.core.config.core.status.ConfigStatusMessage;
 import org.openhab.core.config.core.status.ConfigStatusProvider;
+import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.PercentType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.MetricPrefix;
 import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.library.unit.Units;
+import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
+import org.openhab.core.thing.ThingStatusInfo;
 import org.openhab.core.thing.binding.BaseThingHandler;
+import org.openhab.core.thing.binding.BridgeHandler;
 import org.openhab.core.thing.binding.ThingConfigStatusSource;
 import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.thing.binding.ThingHandlerCallback;
@@ -97,6 +131,7 @@ import org.openhab.core.thing.binding.ThingHandlerService;
 import org.openhab.core.thing.type.ThingType;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.RefreshType;
+import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -113,6 +148,21 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
 
     private static final Pattern NON_DIGIT_PATTERN = Pattern.compile("[^\\d]+");
 
+    /** The number of requests the link quality {@link Channel}s are calculated from */
+    public static final int LINK_QUALITY_SAMPLES = 20;
+
+    /** The time after the configuration was last viewed during which the configuration endpoints are polled */
+    protected static final long CONFIG_VIEW_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(15L);
+
+    /** The share of the poll interval in percent that a poll cycle may use */
+    protected static final long CYCLE_BUDGET_PERCENT = 75L;
+
+    /** The minimum time budget of a poll cycle in nanoseconds */
+    protected static final long MIN_CYCLE_BUDGET_NANOS = TimeUnit.SECONDS.toNanos(5L);
+
+    /** The minimum remaining time budget in nanoseconds for a non-core endpoint poll to be started */
+    protected static final long MIN_STEP_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(500L);
+
     private final Logger logger = LoggerFactory.getLogger(AbstractMillThingHandler.class);
 
     /** The {@link ConfigStatusCallback} */
@@ -152,33 +202,131 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
     /** Whether the handler is currently "disposed"/not initialized, <b>must be synchronized</b> on {@link #lock}! */
     protected boolean isDisposed = true;
 
-    /** The {@link MillAPITool} instance */
+    /** The tail of the queued task chain, <b>must be synchronized</b> on {@link #lock}! */
+    protected CompletableFuture<?> taskQueueTail = CompletableFuture.completedFuture(Boolean.TRUE);
+
+    /** The {@link MillAPITool} instance used when not attached to a {@link MillBridgeHandler} */
     protected final MillAPITool apiTool;
 
+    /** The {@link Supplier} of the current {@link MillMetrics} service */
+    protected final Supplier<@Nullable MillMetrics> metricsSupplier;
+
+    /** The {@link MillAddressRegistry} used to find the device if its address changes */
+    protected final MillAddressRegistry addressRegistry;
+
+    /** The {@link AddressListener} that is notified when a device moves to a different address */
+    protected final AddressListener addressListener = this::addressChanged;
+
+    /** The {@link RequestListener} that receives the completed requests for this device */
+    protected final RequestListener requestListener = this::requestCompleted;
+
+    /**
+     * The {@link MillAPITool} {@link #requestListener} is registered with or {@code null},
+     * <b>must be synchronized</b> on {@link #lock}!
+     */
+    @Nullable
+    protected MillAPITool listenedAPITool;
+
+    /**
+     * The device key {@link #requestListener} is registered with or {@code null},
+     * <b>must be synchronized</b> on {@link #lock}!
+     */
+    @Nullable
+    protected String listenedDeviceKey;
+
+    /** The {@link LinkQualityTracker} that tracks the last {@link #LINK_QUALITY_SAMPLES} requests */
+    protected final LinkQualityTracker linkQuality = new LinkQualityTracker(LINK_QUALITY_SAMPLES);
+
+    /** The {@link HedgePolicy} used for {@code GET/control-status} if hedged requests are enabled */
+    protected final HedgePolicy hedgePolicy = new HedgePolicy(linkQuality::getP95DurationNanos);
+
+    /** The last published link quality {@link State}s per {@link Channel} ID */
+    protected final Map<String, State> linkQualityStates = new ConcurrentHashMap<>();
+
     /** The cached operation mode */
     @Nullable
     protected volatile OperationMode lastOperationMode;
 
+    /** The cached {@link ChannelUID}s per {@link Channel} ID */
+    protected final Map<String, ChannelUID> channelUIDs = new ConcurrentHashMap<>();
+
+    /** The last published {@link QuantityType} states per {@link Channel} ID */
+    protected final Map<String, QuantityState> quantityStates = new ConcurrentHashMap<>();
+
+    /** The {@link SettingsCache} with the last known device settings */
+    protected final SettingsCache settingsCache = new SettingsCache();
+
+    /** The failure descriptions of the endpoints that failed their most recent poll, per endpoint name */
+    protected final Map<String, String> failedEndpoints = new ConcurrentHashMap<>();
+
+    /** The IDs of the {@link Channel}s that are currently linked to an item */
+    protected volatile Set<String> linkedChannels = Set.of();
+
+    /** The configuration endpoints that have been polled since the {@link Thing} went online */
+    protected final Set<PollEndpoint> polledConfigEndpoints = ConcurrentHashMap.newKeySet();
+
+    /** The {@link PollPlan} for the thing type */
+    protected final PollPlan pollPlan;
+
+    /** The endpoints that were deferred because their poll cycle ran out of time */
+    protected final Set<PollEndpoint> deferredEndpoints = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The currently published degraded status description or {@code null},
+     * <b>must be synchronized</b> on {@link #lock}!
+     */
+    @Nullable
+    protected String degradedDescription;
+
     /**
      * Creates a new instance using the specified parameters.
      *
      * @param thing the {@link Thing} for which to create a handler.
      * @param configDescriptionProvider the {@link MillConfigDescriptionProvider} to use.
      * @param httpClientProvider the {@link MillHTTPClientProvider} to use.
+     * @param metricsSupplier the {@link Supplier} of the current {@link MillMetrics} service, if any.
+     * @param addressRegistry the {@link MillAddressRegistry} to use.
      */
     public AbstractMillThingHandler(
         Thing thing,
         MillConfigDescriptionProvider configDescriptionProvider,
-        MillHTTPClientProvider httpClientProvider
+        MillHTTPClientProvider httpClientProvider,
+        Supplier<@Nullable MillMetrics> metricsSupplier,
+        MillAddressRegistry addressRegistry
     ) {
         super(thing);
         this.configDescriptionProvider = configDescriptionProvider;
         this.httpClientProvider = httpClientProvider;
+        this.metricsSupplier = metricsSupplier;
+        this.addressRegistry = addressRegistry;
         this.apiTool = new MillAPITool(this.httpClientProvider);
+        this.pollPlan = MillPollPlanRegistry.getPlan(thing.getThingTypeUID());
     }
 
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
+        if (MillExecutors.isVirtualThreadsEnabled()) {
+            // Don't block the shared thread, but keep the commands for this device in order
+            queueTask(() -> {
+                processCommand(channelUID, command);
+                return Boolean.TRUE;
+            }).whenComplete((r, t) -> {
+                if (t != null && !(t instanceof CancellationException)) {
+                    logger.warn("Failed to handle command {} for channel {}: {}", command, channelUID, t.getMessage());
+                }
+            });
+        } else {
+            processCommand(channelUID, command);
+        }
+    }
+
+    /**
+     * Processes the specified command, which will block while the device is contacted.
+     *
+     * @param channelUID the {@link ChannelUID} of the {@link Channel} the command is for.
+     * @param command the {@link Command} to process.
+     */
+    protected void processCommand(ChannelUID channelUID, Command command) {
         try {
             switch (channelUID.getId()) {
                 case CHANNEL_AMBIENT_TEMPERATURE:
@@ -397,6 +545,14 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
                         setOpenWindowEnabled(command == OnOffType.ON);
                     }
                     break;
+                case CHANNEL_LAST_RTT:
+                case CHANNEL_P95_RTT:
+                case CHANNEL_SUCCESS_RATIO:
+                case CHANNEL_CONSECUTIVE_FAILURES:
+                    if (command instanceof RefreshType) {
+                        updateLinkQuality(true);
+                    }
+                    break;
             }
         } catch (MillException e) {
             setOffline(e);
@@ -411,8 +567,36 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         synchronized (lock) {
             isDisposed = false;
         }
+        addressRegistry.addAddressListener(addressListener);
+        updateHostResolver();
+        updateLinkedChannels();
         updateStatus(ThingStatus.UNKNOWN);
-        scheduler.execute(createInitializeTask());
+        getBlockingExecutor().execute(createInitializeTask());
+    }
+
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        updateLinkedChannels();
+        super.channelLinked(channelUID);
+    }
+
+    @Override
+    public void channelUnlinked(ChannelUID channelUID) {
+        updateLinkedChannels();
+        super.channelUnlinked(channelUID);
+    }
+
+    /**
+     * Recalculates {@link #linkedChannels}, which determines which endpoints are polled.
+     */
+    protected void updateLinkedChannels() {
+        Set<String> linked = new HashSet<>();
+        for (Channel channel : getThing().getChannels()) {
+            if (isLinked(channel.getUID())) {
+                linked.add(channel.getUID().getId());
+            }
+        }
+        linkedChannels = Set.copyOf(linked);
     }
 
     @Override
@@ -422,7 +606,10 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         }
         configDescriptionProvider.disableDescriptions(getThing().getUID());
         clearAllConfigParameterMessages();
+        addressRegistry.removeAddressListener(addressListener);
         ScheduledFuture<?> frequentFuture, infrequentFuture, offlineFuture;
+        MillAPITool listenedTool;
+        String listenedKey;
         synchronized (lock) {
             frequentFuture = frequentPollTask;
             frequentPollTask = null;
@@ -430,10 +617,30 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
             infrequentPollTask = null;
             offlineFuture = offlinePollTask;
             offlinePollTask = null;
+            listenedTool = listenedAPITool;
+            listenedAPITool = null;
+            listenedKey = listenedDeviceKey;
+            listenedDeviceKey = null;
             isDisposed = true;
             isOnline = false;
             onlineWithError = false;
-        }
+            degradedDescription = null;
+        }
+        if (listenedTool != null && listenedKey != null) {
+            listenedTool.removeRequestListener(listenedKey, requestListener);
+        }
+        MillMetrics metrics = metricsSupplier.get();
+        if (metrics != null) {
+            metrics.removeDevice(getThing().getUID());
+        }
+        linkQuality.clear();
+        linkQualityStates.clear();
+        hedgePolicy.reset();
+        quantityStates.clear();
+        settingsCache.clear();
+        failedEndpoints.clear();
+        polledConfigEndpoints.clear();
+        deferredEndpoints.clear();
         if (frequentFuture != null) {
             frequentFuture.cancel(true);
         }
@@ -445,13 +652,276 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         }
     }
 
+    @Override
+    public void bridgeStatusChanged(ThingStatusInfo bridgeStatusInfo) {
+        // The bridge only provides shared resources, the device status is determined by polling
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                "Bridge status for {} changed to {}, {} the bridge's API client",
+                getThing().getUID(),
+                bridgeStatusInfo.getStatus(),
+                bridgeStatusInfo.getStatus() == ThingStatus.ONLINE ? "using" : "not using"
+            );
+        }
+    }
+
+    /**
+     * Returns the {@link ExecutorService} to use for tasks that block while contacting the device. This is
+     * a virtual thread executor if available, or the {@link #scheduler} otherwise.
+     *
+     * @return The {@link ExecutorService} for blocking tasks.
+     */
+    protected ExecutorService getBlockingExecutor() {
+        return MillExecutors.getBlockingExecutor(scheduler);
+    }
+
+    /**
+     * Returns the {@link MillAPITool} to use, which is the one owned by the bridge if this {@link Thing}
+     * is attached to an initialized {@link MillBridgeHandler}, or this handler's own otherwise.
+     * {@link #requestListener} is registered with it for the currently configured hostname.
+     *
+     * @return The {@link MillAPITool} to use.
+     */
+    protected MillAPITool getAPITool() {
+        MillAPITool result = apiTool;
+        Bridge bridge = getBridge();
+        BridgeHandler bridgeHandler = bridge == null ? null : bridge.getHandler();
+        if (bridgeHandler instanceof MillBridgeHandler) {
+            MillAPITool bridgeTool = ((MillBridgeHandler) bridgeHandler).getAPITool();
+            if (bridgeTool != null) {
+                result = bridgeTool;
+            }
+        }
+
+        Object hostname = getConfig().get(CONFIG_PARAM_HOSTNAME);
+        String deviceKey;
+        try {
+            deviceKey = hostname instanceof String ? MillAPITool.getDeviceKey((String) hostname) : null;
+        } catch (NumberFormatException e) {
+            deviceKey = null;
+        }
+
+        MillAPITool oldTool;
+        String oldKey;
+        synchronized (lock) {
+            if (isDisposed || (listenedAPITool == result && Objects.equals(listenedDeviceKey, deviceKey))) {
+                return result;
+            }
+            oldTool = listenedAPITool;
+            oldKey = listenedDeviceKey;
+            listenedAPITool = result;
+            listenedDeviceKey = deviceKey;
+        }
+        if (oldTool != null && oldKey != null) {
+            oldTool.removeRequestListener(oldKey, requestListener);
+        }
+        if (deviceKey != null) {
+            result.addRequestListener(deviceKey, requestListener);
+        }
+        return result;
+    }
+
+    /**
+     * Called by {@link #requestListener} when a request to this device sent by the current
+     * {@link MillAPITool} has completed.
+     *
+     * @param event the {@link RequestEvent} describing the request.
+     */
+    protected void requestCompleted(RequestEvent event) {
+        linkQuality.add(event);
+        updateLinkQuality(false);
+        MillMetrics metrics = metricsSupplier.get();
+        if (metrics != null) {
+            metrics.requestCompleted(getThing().getUID(), event);
+        }
+    }
+
+    /**
+     * Updates the linked link quality {@link Channel}s from {@link #linkQuality}. No requests are sent.
+     *
+     * @param force {@code true} to update the {@link Channel}s even if their values are unchanged.
+     */
+    protected void updateLinkQuality(boolean force) {
+        long lastNanos = linkQuality.getLastDurationNanos();
+        updateLinkQualityState(
+            CHANNEL_LAST_RTT,
+            lastNanos < 0L ? UnDefType.UNDEF : new QuantityType<>(
+                BigDecimal.valueOf(Math.round(lastNanos / 1000000.0)),
+                MetricPrefix.MILLI(Units.SECOND)
+            ),
+            force
+        );
+        long p95Nanos = linkQuality.getP95DurationNanos();
+        updateLinkQualityState(
+            CHANNEL_P95_RTT,
+            p95Nanos < 0L ? UnDefType.UNDEF : new QuantityType<>(
+                BigDecimal.valueOf(Math.round(p95Nanos / 1000000.0)),
+                MetricPrefix.MILLI(Units.SECOND)
+            ),
+            force
+        );
+        double successPercentage = linkQuality.getSuccessPercentage();
+        updateLinkQualityState(
+            CHANNEL_SUCCESS_RATIO,
+            successPercentage < 0.0 ? UnDefType.UNDEF : new QuantityType<>(
+                BigDecimal.valueOf(successPercentage).setScale(0, RoundingMode.HALF_UP),
+                Units.PERCENT
+            ),
+            force
+        );
+        updateLinkQualityState(
+            CHANNEL_CONSECUTIVE_FAILURES,
+            new DecimalType(linkQuality.getConsecutiveFailures()),
+            force
+        );
+    }
+
+    @Override
+    protected void updateState(String channelID, State state) {
+        // Reuse the ChannelUIDs, since states are published for many channels every poll cycle
+        ChannelUID channelUID = channelUIDs.get(channelID);
+        if (channelUID == null) {
+            channelUID = new ChannelUID(getThing().getUID(), channelID);
+            channelUIDs.put(channelID, channelUID);
+        }
+        updateState(channelUID, state);
+    }
+
+    /**
+     * Updates the specified {@link Channel} with a {@link QuantityType} state. If the rounded value and unit
+     * are the same as last time, the previously published {@link QuantityType} instance is reused, so that
+     * unchanged values don't allocate.
+     *
+     * @param <Q> the {@link Quantity} type.
+     * @param channelId the {@link Channel} ID.
+     * @param value the value.
+     * @param precision the {@link DecimalPrecision} to round {@code value} with, or {@code null} to use
+     *        {@code value} as is.
+     * @param unit the {@link Unit}.
+     */
+    protected <Q extends Quantity<Q>> void updateQuantityState(
+        String channelId,
+        double value,
+        @Nullable DecimalPrecision precision,
+        Unit<Q> unit
+    ) {
+        double rounded = precision == null ? value : precision.roundToDouble(value);
+        QuantityState last = quantityStates.get(channelId);
+        QuantityType<?> state;
+        if (last != null && last.value == rounded && last.state.getUnit().equals(unit)) {
+            state = last.state;
+        } else {
+            state = precision == null ?
+                new QuantityType<>(Double.valueOf(value), unit) :
+                new QuantityType<>(precision.round(Double.valueOf(value)), unit);
+            quantityStates.put(channelId, new QuantityState(rounded, state));
+        }
+        updateState(channelId, state);
+    }
+
+    /**
+     * Updates the specified link quality {@link Channel} if it's linked and the value has changed.
+     *
+     * @param channelId the {@link Channel} ID.
+     * @param state the new {@link State}.
+     * @param force {@code true} to update the {@link Channel} even if the value is unchanged.
+     */
+    protected void updateLinkQualityState(String channelId, State state, boolean force) {
+        if (!isLinked(channelId)) {
+            linkQualityStates.remove(channelId);
+            return;
+        }
+        if (!state.equals(linkQualityStates.put(channelId, state)) || force) {
+            updateState(channelId, state);
+        }
+    }
+
+    /**
+     * Wraps a polling task so that the duration of each poll cycle is recorded in the {@link MillMetrics}
+     * service, if one is available.
+     *
+     * @param pollType the poll type, {@link MillMetrics#POLL_FREQUENT} or {@link MillMetrics#POLL_INFREQUENT}.
+     * @param task the polling task.
+     * @return The wrapping task.
+     */
+    protected Runnable createTimedTask(String pollType, Runnable task) {
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                MillMetrics metrics = metricsSupplier.get();
+                if (metrics != null) {
+                    metrics.pollCompleted(getThing().getUID(), pollType, System.nanoTime() - start);
+                }
+            }
+        };
+    }
+
+    /**
+     * Queues the specified task for asynchronous execution. The queued tasks for this device are executed
+     * one at a time on the {@link #getBlockingExecutor()}, in the order they were queued, while tasks queued for
+     * other devices execute in parallel.
+     * <p>
+     * Cancelling the returned {@link CompletableFuture} before the task has started will skip the task,
+     * a task that is already running will run to completion. Tasks that haven't started when the handler
+     * is disposed are cancelled.
+     *
+     * @param <T> the result type.
+     * @param task the task to queue.
+     * @return The {@link CompletableFuture} that completes with the result of {@code task}.
+     */
+    public <T> CompletableFuture<T> queueTask(Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<Boolean> done = new CompletableFuture<>();
+        CompletableFuture<?> previous;
+        synchronized (lock) {
+            if (isDisposed) {
+                result.cancel(false);
+                return result;
+            }
+            previous = taskQueueTail;
+            taskQueueTail = done;
+        }
+        previous.whenComplete((r, t) -> {
+            if (result.isDone()) {
+                done.complete(Boolean.TRUE);
+                return;
+            }
+            try {
+                getBlockingExecutor().execute(() -> {
+                    try {
+                        boolean disposed;
+                        synchronized (lock) {
+                            disposed = isDisposed;
+                        }
+                        if (disposed) {
+                            result.cancel(false);
+                        } else if (!result.isDone()) {
+                            result.complete(task.get());
+                        }
+                    } catch (RuntimeException e) {
+                        result.completeExceptionally(e);
+                    } finally {
+                        done.complete(Boolean.TRUE);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                result.completeExceptionally(e);
+                done.complete(Boolean.TRUE);
+            }
+        });
+        return result;
+    }
+
     /**
      * Retrieves the device status and updates the affected properties if necessary.
      *
      * @throws MillException If an error occurs during the operation.
      */
     public void pollStatus() throws MillException {
-        StatusResponse statusResponse = apiTool.getStatus(getHostname(), getAPIKey());
+        String hostname = getHostname();
+        StatusResponse statusResponse = getAPITool().getStatus(hostname, getAPIKey());
         setOnline();
         Map<String, String> properties = editProperties();
         boolean changed = false;
@@ -487,9 +957,15 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         s = statusResponse.getMacAddress();
         if (s == null || isBlank(s)) {
             removed |= properties.remove(Thing.PROPERTY_MAC_ADDRESS) != null;
-        } else if (!s.equals(properties.get(Thing.PROPERTY_MAC_ADDRESS))) {
-            properties.put(Thing.PROPERTY_MAC_ADDRESS, s);
-            changed |= true;
+        } else {
+            if (!s.equals(properties.get(Thing.PROPERTY_MAC_ADDRESS))) {
+                properties.put(Thing.PROPERTY_MAC_ADDRESS, s);
+                changed |= true;
+            }
+            String host = MillUtil.getHost(hostname);
+            if (MillUtil.isIPAddress(host)) {
+                addressRegistry.update(s, host);
+            }
         }
         if (removed) {
             updateProperties(null);
@@ -505,35 +981,42 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
      * @throws MillException If an error occurs during the operation.
      */
     public void pollControlStatus() throws MillException {
-        ControlStatusResponse controlStatusResponse = apiTool.getControlStatus(getHostname(), getAPIKey());
+        MillAPITool tool = getAPITool();
+        ControlStatusResponse controlStatusResponse = isHedgedRequests() ?
+            tool.getControlStatus(getHostname(), getAPIKey(), hedgePolicy) :
+            tool.getControlStatus(getHostname(), getAPIKey());
         setOnline();
         Double d;
         if ((d = controlStatusResponse.getAmbientTemperature()) != null) {
-            updateState(
+            updateQuantityState(
                 CHANNEL_AMBIENT_TEMPERATURE,
-                new QuantityType<>(DecimalPrecision.CHANNEL_AMBIENT_TEMPERATURE.round(d), SIUnits.CELSIUS)
+                d.doubleValue(),
+                DecimalPrecision.CHANNEL_AMBIENT_TEMPERATURE,
+                SIUnits.CELSIUS
             );
         }
         if ((d = controlStatusResponse.getCurrentPower()) != null) {
-            updateState(CHANNEL_CURRENT_POWER, new QuantityType<>(d, Units.WATT));
+            updateQuantityState(CHANNEL_CURRENT_POWER, d.doubleValue(), null, Units.WATT);
         }
         if ((d = controlStatusResponse.getControlSignal()) != null) {
-            updateState(CHANNEL_CONTROL_SIGNAL, new QuantityType<>(d, Units.PERCENT));
+            updateQuantityState(CHANNEL_CONTROL_SIGNAL, d.doubleValue(), null, Units.PERCENT);
         }
         if ((d = controlStatusResponse.getRawAmbientTemperature()) != null) {
-            updateState(
+            updateQuantityState(
                 CHANNEL_RAW_AMBIENT_TEMPERATURE,
-                new QuantityType<>(DecimalPrecision.CHANNEL_RAW_AMBIENT_TEMPERATURE.round(d), SIUnits.CELSIUS)
+                d.doubleValue(),
+                DecimalPrecision.CHANNEL_RAW_AMBIENT_TEMPERATURE,
+                SIUnits.CELSIUS
             );
         }
         LockStatus ls;
         if ((ls = controlStatusResponse.getLockStatus()) != null) {
-            updateState(CHANNEL_LOCK_STATUS, new StringType(ls.name()));
+            updateState(CHANNEL_LOCK_STATUS, toStringType(ls));
             updateState(CHANNEL_CHILD_LOCK, ls == LockStatus.CHILD_LOCK ? OnOffType.ON : OnOffType.OFF);
         }
         OpenWindowStatus ows;
         if ((ows = controlStatusResponse.getOpenWindowStatus()) != null) {
-            updateState(CHANNEL_OPEN_WINDOW_STATUS, new StringType(ows.name()));
+            updateState(CHANNEL_OPEN_WINDOW_STATUS, toStringType(ows));
             updateState(
                 CHANNEL_OPEN_WINDOW_ACTIVE,
                 ows == OpenWindowStatus.ENABLED_ACTIVE ? OnOffType.ON : OnOffType.OFF
@@ -548,22 +1031,24 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         OperationMode om;
         if ((om = controlStatusResponse.getOperatingMode()) != null) {
             lastOperationMode = om;
-            updateState(CHANNEL_OPERATION_MODE, new StringType(om.name()));
+            updateState(CHANNEL_OPERATION_MODE, toStringType(om));
         }
         if ((d = controlStatusResponse.getSetTemperature()) != null) {
-            updateState(
+            updateQuantityState(
                 CHANNEL_SET_TEMPERATURE,
-                new QuantityType<>(DecimalPrecision.CHANNEL_SET_TEMPERATURE.round(d), SIUnits.CELSIUS)
+                d.doubleValue(),
+                DecimalPrecision.CHANNEL_SET_TEMPERATURE,
+                SIUnits.CELSIUS
             );
             if (om == OperationMode.INDEPENDENT_DEVICE) {
-                updateState(
+                updateQuantityState(
                     CHANNEL_INDEPENDENT_MODE_SET_TEMPERATURE,
-                    new QuantityType<>(
-                        DecimalPrecision.CHANNEL_SET_TEMPERATURE.round(d),
-                        SIUnits.CELSIUS
-                    )
+                    d.doubleValue(),
+                    DecimalPrecision.CHANNEL_SET_TEMPERATURE,
+                    SIUnits.CELSIUS
                 );
             } else {
+                quantityStates.remove(CHANNEL_INDEPENDENT_MODE_SET_TEMPERATURE);
                 updateState(CHANNEL_INDEPENDENT_MODE_SET_TEMPERATURE, UnDefType.UNDEF);
             }
         }
@@ -581,7 +1066,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
     public void pollOperationMode() throws MillException {
         OperationModeResponse operationModeResponse;
         try {
-            operationModeResponse = apiTool.getOperationMode(getHostname(), getAPIKey());
+            operationModeResponse = getAPITool().getOperationMode(getHostname(), getAPIKey());
             setOnline();
         } catch (MillHTTPResponseException e) {
             // API function not implemented
@@ -594,7 +1079,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         OperationMode om;
         if ((om = operationModeResponse.getMode()) != null) {
             lastOperationMode = om;
-            updateState(CHANNEL_OPERATION_MODE, new StringType(om.name()));
+            updateState(CHANNEL_OPERATION_MODE, toStringType(om));
         }
     }
 
@@ -613,7 +1098,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
             return;
         }
 
-        Response response = apiTool.setOperationMode(getHostname(), getAPIKey(), mode);
+        Response response = getAPITool().setOperationMode(getHostname(), getAPIKey(), mode);
         pollControlStatus();
 
         // Set status after polling, or it will be overwritten
@@ -639,7 +1124,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
      * @throws MillException If an error occurs during the operation.
      */
     public void pollTemperatureCalibrationOffset() throws MillException {
-        TemperatureCalibrationOffsetResponse calibrationOffsetResponse = apiTool.getTemperatureCalibrationOffset(
+        TemperatureCalibrationOffsetResponse calibrationOffsetResponse = getAPITool().getTemperatureCalibrationOffset(
             getHostname(),
             getAPIKey()
         );
@@ -661,7 +1146,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
      * @throws MillException If an error occurs during the operation.
      */
     public void setTemperatureCalibrationOffset(BigDecimal offset) throws MillException {
-        Response response = apiTool.setTemperatureCalibrationOffset(getHostname(), getAPIKey(), offset);
+        Response response = getAPITool().setTemperatureCalibrationOffset(getHostname(), getAPIKey(), offset);
         pollTemperatureCalibrationOffset();
         pollControlStatus();
 
@@ -690,7 +1175,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
     public void pollCommercialLock() throws MillException {
         CommercialLockResponse commercialLockResponse;
         try {
-            commercialLockResponse = apiTool.getCommercialLock(getHostname(), getAPIKey());
+            commercialLockResponse = getAPITool().getCommercialLock(getHostname(), getAPIKey());
             setOnline();
         } catch (MillHTTPResponseException e) {
             // API function not implemented
@@ -714,7 +1199,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
      * @throws MillException If an error occurs during the operation.
      */
     public void setCommercialLock(Boolean value) throws MillException {
-        Response response = apiTool.setCommercialLock(getHostname(), getAPIKey(), value);
+        Response response = getAPITool().setCommercialLock(getHostname(), getAPIKey(), value);
         pollCommercialLock();
         pollControlStatus();
 
@@ -743,7 +1228,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
     public void pollChildLock() throws MillException {
         ChildLockResponse childLockResponse;
         try {
-            childLockResponse = apiTool.getChildLock(getHostname(), getAPIKey());
+            childLockResponse = getAPITool().getChildLock(getHostname(), getAPIKey());
             setOnline();
         } catch (MillHTTPResponseException e) {
             // API function not implemented
@@ -767,7 +1252,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
      * @throws MillException If an error occurs during the operation.
      */
     public void setChildLock(Boolean value) throws MillException {
-        Response response = apiTool.setChildLock(getHostname(), getAPIKey(), value);
+        Response response = getAPITool().setChildLock(getHostname(), getAPIKey(), value);
         pollChildLock();
         pollControlStatus();
 
@@ -796,7 +1281,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
     public void pollDisplayUnit() throws MillException {
         DisplayUnitResponse displayUnitResponse;
         try {
-            displayUnitResponse = apiTool.getDisplayUnit(getHostname(), getAPIKey());
+            displayUnitResponse = getAPITool().getDisplayUnit(getHostname(), getAPIKey());
             setOnline();
         } catch (MillHTTPResponseException e) {
             // API function not implemented
@@ -808,7 +1293,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         }
         DisplayUnit du;
         if ((du = displayUnitResponse.getDisplayUnit()) != null) {
-            updateState(CHANNEL_DISPLAY_UNIT, new StringType(du.name()));
+            updateState(CHANNEL_DISPLAY_UNIT, toStringType(du));
         }
     }
 
@@ -827,7 +1312,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
             return;
         }
 
-        Response response = apiTool.setDisplayUnit(getHostname(), getAPIKey(), displayUnit);
+        Response response = getAPITool().setDisplayUnit(getHostname(), getAPIKey(), displayUnit);
         pollDisplayUnit();
 
         // Set status after polling, or it will be overwritten
@@ -855,7 +1340,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
      * @throws MillException If an error occurs during the operation.
      */
     public void pollSetTemperature(String channel, TemperatureType temperatureType) throws MillException {
-        SetTemperatureResponse setTemperatureResponse = apiTool.getSetTemperature(
+        SetTemperatureResponse setTemperatureResponse = getAPITool().getSetTemperature(
             getHostname(),
             getAPIKey(),
             temperatureType
@@ -884,7 +1369,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         TemperatureType temperatureType,
         BigDecimal value
     ) throws MillException {
-        Response response = apiTool.setSetTemperature(getHostname(), getAPIKey(), temperatureType, value);
+        Response response = getAPITool().setSetTemperature(getHostname(), getAPIKey(), temperatureType, value);
         pollSetTemperature(channel, temperatureType);
         pollControlStatus();
 
@@ -914,7 +1399,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
      * @throws MillException If an error occurs during the operation.
      */
     public void setIndependentModeSetTemperature(BigDecimal value) throws MillException {
-        Response response = apiTool.setTemperatureInIndependentMode(getHostname(), getAPIKey(), value);
+        Response response = getAPITool().setTemperatureInIndependentMode(getHostname(), getAPIKey(), value);
         pollControlStatus();
 
         // Set status after polling, or it will be overwritten
@@ -942,7 +1427,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
     public void pollLimitedHeatingPower() throws MillException {
         LimitedHeatingPowerResponse heatingPowerResponse;
         try {
-            heatingPowerResponse = apiTool.getLimitedHeatingPower(getHostname(), getAPIKey());
+            heatingPowerResponse = getAPITool().getLimitedHeatingPower(getHostname(), getAPIKey());
             setOnline();
         } catch (MillHTTPResponseException e) {
             // API function not implemented
@@ -966,7 +1451,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
      * @throws MillException If an error occurs during the operation.
      */
     public void setLimitedHeatingPower(Integer value) throws MillException {
-        Response response = apiTool.setLimitedHeatingPower(getHostname(), getAPIKey(), value);
+        Response response = getAPITool().setLimitedHeatingPower(getHostname(), getAPIKey(), value);
         pollLimitedHeatingPower();
         pollControlStatus();
 
@@ -995,7 +1480,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
     public void pollControllerType() throws MillException {
         ControllerTypeResponse controllerTypeResponse;
         try {
-            controllerTypeResponse = apiTool.getControllerType(getHostname(), getAPIKey());
+            controllerTypeResponse = getAPITool().getControllerType(getHostname(), getAPIKey());
             setOnline();
         } catch (MillHTTPResponseException e) {
             // API function not implemented
@@ -1007,7 +1492,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         }
         ControllerType ct;
         if ((ct = controllerTypeResponse.getControllerType()) != null) {
-            updateState(CHANNEL_CONTROLLER_TYPE, new StringType(ct.name()));
+            updateState(CHANNEL_CONTROLLER_TYPE, toStringType(ct));
         }
     }
 
@@ -1029,7 +1514,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
             return;
         }
 
-        Response response = apiTool.setControllerType(getHostname(), getAPIKey(), controllerType);
+        Response response = getAPITool().setControllerType(getHostname(), getAPIKey(), controllerType);
         pollControllerType();
         pollControlStatus();
 
@@ -1058,7 +1543,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
     public void pollPredictiveHeatingType() throws MillException {
         PredictiveHeatingTypeResponse response;
         try {
-            response = apiTool.getPredictiveHeatingType(getHostname(), getAPIKey());
+            response = getAPITool().getPredictiveHeatingType(getHostname(), getAPIKey());
             setOnline();
         } catch (MillHTTPResponseException e) {
             // API function not implemented
@@ -1070,7 +1555,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         }
         PredictiveHeatingType pht;
         if ((pht = response.getPredictiveHeatingType()) != null) {
-            updateState(CHANNEL_PREDICTIVE_HEATING_TYPE, new StringType(pht.name()));
+            updateState(CHANNEL_PREDICTIVE_HEATING_TYPE, toStringType(pht));
         }
     }
 
@@ -1092,7 +1577,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
             return;
         }
 
-        Response response = apiTool.setPredictiveHeatingType(getHostname(), getAPIKey(), type);
+        Response response = getAPITool().setPredictiveHeatingType(getHostname(), getAPIKey(), type);
         pollPredictiveHeatingType();
         pollControlStatus();
 
@@ -1121,7 +1606,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
     public void pollOilHeaterPower() throws MillException {
         OilHeaterPowerResponse heatingPowerResponse;
         try {
-            heatingPowerResponse = apiTool.getOilHeaterPower(getHostname(), getAPIKey());
+            heatingPowerResponse = getAPITool().getOilHeaterPower(getHostname(), getAPIKey());
             setOnline();
         } catch (MillHTTPResponseException e) {
             // API function not implemented
@@ -1145,7 +1630,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
      * @throws MillException If an error occurs during the operation.
      */
     public void setOilHeaterPower(Integer value) throws MillException {
-        Response response = apiTool.setOilHeaterPower(getHostname(), getAPIKey(), value);
+        Response response = getAPITool().setOilHeaterPower(getHostname(), getAPIKey(), value);
         pollOilHeaterPower();
         pollControlStatus();
 
@@ -1192,7 +1677,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         }
         TimeZoneOffsetResponse offset;
         try {
-            offset = apiTool.getTimeZoneOffset(getHostname(), getAPIKey());
+            offset = getAPITool().getTimeZoneOffset(getHostname(), getAPIKey());
             setOnline();
         } catch (MillHTTPResponseException e) {
             // API function not implemented
@@ -1229,7 +1714,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
      */
     @Nullable
     public Integer setTimeZoneOffset(Integer value, boolean updateConfiguration) throws MillException {
-        Response response = apiTool.setTimeZoneOffset(getHostname(), getAPIKey(), value);
+        Response response = getAPITool().setTimeZoneOffset(getHostname(), getAPIKey(), value);
         Integer result = pollTimeZoneOffset(updateConfiguration);
 
         // Set status after polling, or it will be overwritten
@@ -1261,7 +1746,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
     public PIDParametersResponse pollPIDParameters(boolean updateConfiguration) throws MillException {
         PIDParametersResponse params;
         try {
-            params = apiTool.getPIDParameters(getHostname(), getAPIKey());
+            params = getAPITool().getPIDParameters(getHostname(), getAPIKey());
             setOnline();
         } catch (MillHTTPResponseException e) {
             // API function not implemented
@@ -1305,7 +1790,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         Number windupLimitPercentage,
         boolean updateConfiguration
     ) throws MillException {
-        Response response = apiTool.setPIDParameters(
+        Response response = getAPITool().setPIDParameters(
             getHostname(),
             getAPIKey(),
             kp.doubleValue(),
@@ -1344,7 +1829,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
     public Boolean pollCloudCommunication(boolean updateConfiguration) throws MillException {
         CloudCommunicationResponse enabled;
         try {
-            enabled = apiTool.getCloudCommunication(getHostname(), getAPIKey());
+            enabled = getAPITool().getCloudCommunication(getHostname(), getAPIKey());
             setOnline();
         } catch (MillHTTPResponseException e) {
             // API function not implemented
@@ -1381,7 +1866,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
      */
     @Nullable
     public Boolean setCloudCommunication(Boolean enabled, boolean updateConfiguration) throws MillException {
-        Response response = apiTool.setCloudCommunication(getHostname(), getAPIKey(), enabled);
+        Response response = getAPITool().setCloudCommunication(getHostname(), getAPIKey(), enabled);
         Boolean result = pollCloudCommunication(updateConfiguration);
 
         // Set status after polling, or it will be overwritten
@@ -1413,7 +1898,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
     public HysteresisParametersResponse pollHysteresisParameters(boolean updateConfiguration) throws MillException {
         HysteresisParametersResponse params;
         try {
-            params = apiTool.getHysteresisParameters(getHostname(), getAPIKey());
+            params = getAPITool().getHysteresisParameters(getHostname(), getAPIKey());
             setOnline();
         } catch (MillHTTPResponseException e) {
             // API function not implemented
@@ -1481,7 +1966,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         Number lower,
         boolean updateConfiguration
     ) throws MillException {
-        Response response = apiTool.setHysteresisParameters(
+        Response response = getAPITool().setHysteresisParameters(
             getHostname(),
             getAPIKey(),
             upper.doubleValue(),
@@ -1519,7 +2004,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
      */
     @Nullable
     public ResponseStatus setTemperatureInIndependentMode(BigDecimal value) throws MillException {
-        Response response = apiTool.setTemperatureInIndependentMode(getHostname(), getAPIKey(), value);
+        Response response = getAPITool().setTemperatureInIndependentMode(getHostname(), getAPIKey(), value);
         pollControlStatus();
 
         // Set status after polling, or it will be overwritten
@@ -1550,7 +2035,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
      */
     @Nullable
     public ResponseStatus setCustomName(@Nullable String customName) throws MillException {
-        Response response = apiTool.setCustomName(getHostname(), getAPIKey(), customName == null ? "" : customName);
+        Response response = getAPITool().setCustomName(getHostname(), getAPIKey(), customName == null ? "" : customName);
         pollStatus();
 
         // Set status after polling, or it will be overwritten
@@ -1584,7 +2069,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
     ) throws MillException {
         CommercialLockCustomizationResponse response;
         try {
-            response = apiTool.getCommercialLockCustomization(getHostname(), getAPIKey());
+            response = getAPITool().getCommercialLockCustomization(getHostname(), getAPIKey());
             setOnline();
         } catch (MillHTTPResponseException e) {
             // API function not implemented
@@ -1658,7 +2143,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         Number max,
         boolean updateConfiguration
     ) throws MillException {
-        Response response = apiTool.setCommercialLockCustomization(
+        Response response = getAPITool().setCommercialLockCustomization(
             getHostname(),
             getAPIKey(),
             min.doubleValue(),
@@ -1689,7 +2174,8 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
      * @throws MillException If an error occurs during the operation.
      */
     public void pollOpenWindow() throws MillException {
-        OpenWindowParametersResponse params = apiTool.getOpenWindowParameters(getHostname(), getAPIKey());
+        OpenWindowParametersResponse params = getAPITool().getOpenWindowParameters(getHostname(), getAPIKey());
+        settingsCache.put(params);
         setOnline();
         Boolean b;
         if ((b = params.getActiveNow()) != null) {
@@ -1712,7 +2198,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         parameters.setEnabled(enabled);
         String hostname = getHostname();
         String apiKey = getAPIKey();
-        OpenWindowParametersResponse current = apiTool.getOpenWindowParameters(hostname, apiKey);
+        OpenWindowParametersResponse current = getCurrentOpenWindowParameters(hostname, apiKey);
         if (!current.isComplete()) {
             throw new MillException(
                 "Received incomplete data from \"/open-window\" API call",
@@ -1737,13 +2223,14 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         if ((i = current.getMaxTime()) != null) {
             parameters.setMaxTime(i);
         }
-        Response response = apiTool.setOpenWindowParameters(hostname, apiKey, parameters);
+        Response response = writeOpenWindowParameters(hostname, apiKey, parameters);
         pollOpenWindow();
         pollControlStatus();
 
         // Set status after polling, or it will be overwritten
         ResponseStatus responseStatus;
         if ((responseStatus = response.getStatus()) != ResponseStatus.OK) {
+            settingsCache.invalidate(OpenWindowParametersResponse.class);
             logger.warn(
                 "Failed to set open window enabled: {}",
                 responseStatus == null ? null : responseStatus.getDescription()
@@ -1768,7 +2255,8 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
     public OpenWindowParametersResponse pollOpenWindowParameters(boolean updateConfiguration) throws MillException {
         OpenWindowParametersResponse params;
         try {
-            params = apiTool.getOpenWindowParameters(getHostname(), getAPIKey());
+            params = getAPITool().getOpenWindowParameters(getHostname(), getAPIKey());
+            settingsCache.put(params);
             setOnline();
         } catch (MillHTTPResponseException e) {
             // API function not implemented
@@ -1833,7 +2321,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         );
         String hostname = getHostname();
         String apiKey = getAPIKey();
-        OpenWindowParametersResponse result = apiTool.getOpenWindowParameters(hostname, apiKey);
+        OpenWindowParametersResponse result = getCurrentOpenWindowParameters(hostname, apiKey);
         Boolean b;
         parameters.setEnabled((b = result.getEnabled()) == null ? Boolean.TRUE : b);
         parameters.setIncreaseTemperatureThreshold(increaseTemperatureThreshold instanceof Double ?
@@ -1848,13 +2336,14 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
             (Integer) maxTime :
             maxTime.intValue()
         );
-        Response response = apiTool.setOpenWindowParameters(hostname, apiKey, parameters);
+        Response response = writeOpenWindowParameters(hostname, apiKey, parameters);
         result = pollOpenWindowParameters(updateConfiguration);
         pollControlStatus();
 
         // Set status after polling, or it will be overwritten
         ResponseStatus responseStatus;
         if ((responseStatus = response.getStatus()) != ResponseStatus.OK) {
+            settingsCache.invalidate(OpenWindowParametersResponse.class);
             logger.warn(
                 "Failed to set open-window parameters: {}",
                 responseStatus == null ? null : responseStatus.getDescription()
@@ -1869,6 +2358,53 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         return result;
     }
 
+    /**
+     * Returns the current open window parameters, from the {@link SettingsCache} if they are fresh enough,
+     * or from the device otherwise.
+     *
+     * @param hostname the hostname.
+     * @param apiKey the API key or {@code null}.
+     * @return The {@link OpenWindowParametersResponse}.
+     * @throws MillException If an error occurs during the operation.
+     */
+    protected OpenWindowParametersResponse getCurrentOpenWindowParameters(
+        String hostname,
+        @Nullable String apiKey
+    ) throws MillException {
+        OpenWindowParametersResponse result = settingsCache.get(
+            OpenWindowParametersResponse.class,
+            getSettingsCacheMaxAge()
+        );
+        if (result == null || !result.isComplete()) {
+            result = getAPITool().getOpenWindowParameters(hostname, apiKey);
+            settingsCache.put(result);
+        }
+        return result;
+    }
+
+    /**
+     * Sends the specified open window parameters to the device, invalidating the cached open window
+     * parameters if the request fails.
+     *
+     * @param hostname the hostname.
+     * @param apiKey the API key or {@code null}.
+     * @param parameters the {@link OpenWindowParameters} to send.
+     * @return The {@link Response}.
+     * @throws MillException If an error occurs during the operation.
+     */
+    protected Response writeOpenWindowParameters(
+        String hostname,
+        @Nullable String apiKey,
+        OpenWindowParameters parameters
+    ) throws MillException {
+        try {
+            return getAPITool().setOpenWindowParameters(hostname, apiKey, parameters);
+        } catch (MillException e) {
+            settingsCache.invalidate(OpenWindowParametersResponse.class);
+            throw e;
+        }
+    }
+
     /**
      * Instructs the device to set the specified new API key. If the command succeeds the device will reboot,
      * after which the new API key will be effective immediately.
@@ -1887,9 +2423,9 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         }
         Response response = null;
         try {
-            response = apiTool.setAPIKey(getHostname(), getAPIKey(), apiKey);
+            response = getAPITool().setAPIKey(getHostname(), getAPIKey(), apiKey);
         } catch (MillException e) {
-            if (!(e.getCause() instanceof TimeoutException)) {
+            if (!MillCommunicationException.isType(e, MillCommunicationException.Type.TIMEOUT)) {
                 throw e;
             }
         }
@@ -1915,8 +2451,8 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
             // offline polls to set it online again quickly
             InetAddress[] addresses = resolveOfflineAddresses();
             if (addresses != null) {
-                scheduler.schedule(createOfflineTask(addresses), 8L, TimeUnit.SECONDS);
-                scheduler.schedule(createOfflineTask(addresses), 12L, TimeUnit.SECONDS);
+                MillExecutors.schedule(scheduler, createOfflineTask(addresses), 8L, TimeUnit.SECONDS);
+                MillExecutors.schedule(scheduler, createOfflineTask(addresses), 12L, TimeUnit.SECONDS);
             }
         }
     }
@@ -1931,9 +2467,9 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
     public void sendReboot() throws MillException {
         Response response = null;
         try {
-            response = apiTool.sendReboot(getHostname(), getAPIKey());
+            response = getAPITool().sendReboot(getHostname(), getAPIKey());
         } catch (MillException e) {
-            if (!(e.getCause() instanceof TimeoutException)) {
+            if (!MillCommunicationException.isType(e, MillCommunicationException.Type.TIMEOUT)) {
                 throw e;
             }
         }
@@ -1955,8 +2491,8 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
             // offline polls to set it online again quickly
             InetAddress[] addresses = resolveOfflineAddresses();
             if (addresses != null) {
-                scheduler.schedule(createOfflineTask(addresses), 8L, TimeUnit.SECONDS);
-                scheduler.schedule(createOfflineTask(addresses), 12L, TimeUnit.SECONDS);
+                MillExecutors.schedule(scheduler, createOfflineTask(addresses), 8L, TimeUnit.SECONDS);
+                MillExecutors.schedule(scheduler, createOfflineTask(addresses), 12L, TimeUnit.SECONDS);
             }
         }
     }
@@ -2223,10 +2759,12 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
             wasOnline = isOnline;
             isOnline = true;
             onlineWithError = isError;
+            degradedDescription = null;
             frequentFuture = frequentPollTask;
             if (!isDisposed && refreshInterval > 0) {
-                frequentPollTask = scheduler.scheduleWithFixedDelay(
-                    createFrequentTask(),
+                frequentPollTask = MillExecutors.scheduleWithFixedDelay(
+                    scheduler,
+                    createTimedTask(MillMetrics.POLL_FREQUENT, createFrequentTask()),
                     0L,
                     refreshInterval,
                     TimeUnit.SECONDS
@@ -2236,8 +2774,9 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
             }
             infrequentFuture = infrequentPollTask;
             if (!isDisposed && infrequentRefreshInterval > 0) {
-                infrequentPollTask = scheduler.scheduleWithFixedDelay(
-                    createInfrequentTask(),
+                infrequentPollTask = MillExecutors.scheduleWithFixedDelay(
+                    scheduler,
+                    createTimedTask(MillMetrics.POLL_INFREQUENT, createInfrequentTask()),
                     700L,
                     infrequentRefreshInterval * 1000L,
                     TimeUnit.MILLISECONDS
@@ -2292,8 +2831,11 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
      * @param e the {@link MillException} that caused the {@link Thing} to go offline.
      */
     protected void setOffline(MillException e) {
+        if (logger.isTraceEnabled()) {
+            logger.trace("Setting Thing \"{}\" offline because of:", getThing().getUID(), e);
+        }
         Object object;
-        if (e.getCause() instanceof ConnectException) {
+        if (MillCommunicationException.isType(e, MillCommunicationException.Type.CONNECTION_REFUSED)) {
             setOffline(ThingStatusDetail.CONFIGURATION_ERROR, "Connection refused: Verify hostname and API key");
         } else if (
             e instanceof MillHTTPResponseException &&
@@ -2346,6 +2888,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         synchronized (lock) {
             wasOnline = isOnline || offlinePollTask == null;
             isOnline = false;
+            degradedDescription = null;
             frequentFuture = frequentPollTask;
             frequentPollTask = null;
             infrequentFuture = infrequentPollTask;
@@ -2357,7 +2900,8 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
                 refreshInterval > 0
             ) {
                 logger.debug("Mill device \"{}\" is offline, starting offline polling", getThing().getUID());
-                offlinePollTask = scheduler.scheduleWithFixedDelay(
+                offlinePollTask = MillExecutors.scheduleWithFixedDelay(
+                    scheduler,
                     createOfflineTask(addresses),
                     1L,
                     refreshInterval,
@@ -2405,11 +2949,221 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         );
 
         if (wasOnline) {
+            settingsCache.clear();
+            failedEndpoints.clear();
+            polledConfigEndpoints.clear();
+            deferredEndpoints.clear();
             configDescriptionProvider.disableDescriptions(getThing().getUID());
             clearConfigParameterMessages(CONFIG_DYNAMIC_PARAMETERS.toArray(String[]::new));
         }
     }
 
+    /**
+     * Polls the specified endpoints in order, isolating the failures of the individual endpoints. Endpoints
+     * whose results have no consumer, as determined by {@link #isConsumed}, are skipped. If a core endpoint
+     * fails, or if more than half of the polled endpoints fail, the {@link Thing} is set offline. Otherwise,
+     * the {@link Thing} remains online and the failing endpoints are listed in the status description until
+     * they succeed again.
+     * <p>
+     * If a time budget is specified, no request to a non-core endpoint is allowed to run past it. Non-core
+     * endpoints that can't be polled within the budget are deferred, and polled before the other non-core
+     * endpoints in the next cycle. Core endpoints decide whether the device is online, so they are always
+     * polled with their full timeout.
+     *
+     * @param steps the {@link PollPlan.Step}s to execute.
+     * @param budgetNanos the time budget of the poll cycle in nanoseconds, or {@code 0} for no limit.
+     */
+    protected void pollEndpoints(List<PollPlan.Step> steps, long budgetNanos) {
+        Set<String> linked = linkedChannels;
+        boolean configViewed = configDescriptionProvider.isViewed(getThing().getUID(), CONFIG_VIEW_TIMEOUT_NANOS);
+        long deadline = System.nanoTime() + budgetNanos;
+        int polled = 0;
+        int failures = 0;
+        int deferred = 0;
+        MillException firstFailure = null;
+        try {
+            for (PollPlan.Step step : orderSteps(steps)) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                PollEndpoint endpoint = step.getEndpoint();
+                if (!isConsumed(endpoint, linked, configViewed)) {
+                    failedEndpoints.remove(endpoint.getName());
+                    deferredEndpoints.remove(endpoint);
+                    continue;
+                }
+                if (budgetNanos > 0L && !endpoint.isCore() && deadline - System.nanoTime() < MIN_STEP_BUDGET_NANOS) {
+                    deferredEndpoints.add(endpoint);
+                    deferred++;
+                    continue;
+                }
+                if (budgetNanos > 0L) {
+                    if (endpoint.isCore()) {
+                        RequestDeadline.clear();
+                    } else {
+                        RequestDeadline.set(deadline);
+                    }
+                }
+                try {
+                    endpoint.poll(this);
+                    polled++;
+                    failedEndpoints.remove(endpoint.getName());
+                    deferredEndpoints.remove(endpoint);
+                    if (endpoint.isConfiguration()) {
+                        polledConfigEndpoints.add(endpoint);
+                    }
+                } catch (MillException e) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                    if (endpoint.isCore()) {
+                        setOffline(e);
+                        return;
+                    }
+                    if (
+                        budgetNanos > 0L &&
+                        MillCommunicationException.isType(e, MillCommunicationException.Type.DEADLINE_PASSED)
+                    ) {
+                        // The request was cut short by the budget, which says nothing about the endpoint
+                        deferredEndpoints.add(endpoint);
+                        deferred++;
+                        continue;
+                    }
+                    logger.debug(
+                        "Polling \"{}\" from Mill device \"{}\" failed: {}",
+                        endpoint.getName(),
+                        getThing().getUID(),
+                        e.getMessage()
+                    );
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("Polling \"{}\" failed with:", endpoint.getName(), e);
+                    }
+                    polled++;
+                    failures++;
+                    if (firstFailure == null) {
+                        firstFailure = e;
+                    }
+                    String message = e.getMessage();
+                    failedEndpoints.put(endpoint.getName(), message == null ? "" : message);
+                }
+            }
+        } finally {
+            if (budgetNanos > 0L) {
+                RequestDeadline.clear();
+            }
+        }
+        if (deferred > 0) {
+            logger.debug(
+                "Deferred {} endpoint polls for Mill device \"{}\" to the next cycle because the time budget " +
+                "of {} ms ran out",
+                deferred,
+                getThing().getUID(),
+                TimeUnit.NANOSECONDS.toMillis(budgetNanos)
+            );
+        }
+        if (firstFailure != null && failures * 2 > polled) {
+            setOffline(firstFailure);
+            return;
+        }
+        updateDegradedStatus();
+    }
+
+    /**
+     * Orders the specified {@link PollPlan.Step}s so that core endpoints come first, followed by the endpoints
+     * that were deferred in a previous cycle and then the rest. The relative order is otherwise kept.
+     *
+     * @param steps the {@link PollPlan.Step}s in priority order.
+     * @return The ordered {@link List} of {@link PollPlan.Step}s.
+     */
+    protected List<PollPlan.Step> orderSteps(List<PollPlan.Step> steps) {
+        if (deferredEndpoints.isEmpty()) {
+            return steps;
+        }
+        List<PollPlan.Step> result = new ArrayList<>(steps.size());
+        for (PollPlan.Step step : steps) {
+            if (step.getEndpoint().isCore()) {
+                result.add(step);
+            }
+        }
+        for (PollPlan.Step step : steps) {
+            if (!step.getEndpoint().isCore() && deferredEndpoints.contains(step.getEndpoint())) {
+                result.add(step);
+            }
+        }
+        for (PollPlan.Step step : steps) {
+            if (!step.getEndpoint().isCore() && !deferredEndpoints.contains(step.getEndpoint())) {
+                result.add(step);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the time budget of a poll cycle from the poll intervals. The budget is a share of the
+     * interval of the cycle, but the infrequent cycle never gets more than the frequent cycle, so that slow
+     * infrequent polls can't delay the frequent polls.
+     *
+     * @param cadence the {@link PollCadence} of the poll cycle.
+     * @return The time budget in nanoseconds, or {@code 0} if it can't be calculated.
+     */
+    protected long getCycleBudgetNanos(PollCadence cadence) {
+        int interval;
+        try {
+            interval = getRefreshInterval();
+            if (cadence == PollCadence.INFREQUENT) {
+                interval = Math.min(interval, getInfrequentRefreshInterval());
+            }
+        } catch (MillException e) {
+            return 0L;
+        }
+        return Math.max(TimeUnit.SECONDS.toNanos(interval) * CYCLE_BUDGET_PERCENT / 100L, MIN_CYCLE_BUDGET_NANOS);
+    }
+
+    /**
+     * Determines whether the result of the specified endpoint has a consumer. Core endpoints and endpoints
+     * that neither update {@link Channel}s nor configuration parameters are always polled. Other endpoints
+     * are polled if one of their {@link Channel}s is linked, or if they update configuration parameters and
+     * either haven't been polled since the {@link Thing} went online or the configuration is being viewed.
+     *
+     * @param endpoint the {@link PollEndpoint} to evaluate.
+     * @param linked the IDs of the currently linked {@link Channel}s.
+     * @param configViewed whether the configuration has been viewed recently.
+     * @return {@code true} if the endpoint should be polled.
+     */
+    protected boolean isConsumed(PollEndpoint endpoint, Set<String> linked, boolean configViewed) {
+        if (endpoint.isCore() || (endpoint.getChannels().isEmpty() && !endpoint.isConfiguration())) {
+            return true;
+        }
+        for (String channel : endpoint.getChannels()) {
+            if (linked.contains(channel)) {
+                return true;
+            }
+        }
+        return endpoint.isConfiguration() && (configViewed || !polledConfigEndpoints.contains(endpoint));
+    }
+
+    /**
+     * Updates the {@link Thing} status description to reflect the content of {@link #failedEndpoints}, if the
+     * {@link Thing} is online without errors.
+     */
+    protected void updateDegradedStatus() {
+        String description = failedEndpoints.isEmpty() ?
+            null :
+            "Degraded, failing endpoints: " + String.join(", ", new TreeSet<>(failedEndpoints.keySet()));
+        synchronized (lock) {
+            if (!isOnline || onlineWithError || Objects.equals(description, degradedDescription)) {
+                return;
+            }
+            degradedDescription = description;
+        }
+        if (description == null) {
+            logger.debug("All endpoints of Mill device \"{}\" are responding again", getThing().getUID());
+            updateStatus(ThingStatus.ONLINE);
+        } else {
+            updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE, description);
+        }
+    }
+
     /**
      * Gets the hostname from the current {@link Configuration}.
      *
@@ -2535,7 +3289,58 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
     }
 
     /**
-     * Tries to resolve the IP address(es) of the configured hostname.
+     * Gets the maximum age of the cached device settings from the current {@link Configuration}.
+     *
+     * @return The maximum age in nanoseconds, {@code 0} if caching is disabled.
+     */
+    protected long getSettingsCacheMaxAge() {
+        Object object = getConfig().get(CONFIG_PARAM_SETTINGS_CACHE_MAX_AGE);
+        if (!(object instanceof Number)) {
+            return TimeUnit.SECONDS.toNanos(DEFAULT_SETTINGS_CACHE_MAX_AGE);
+        }
+        long l = ((Number) object).longValue();
+        return l <= 0L ? 0L : TimeUnit.SECONDS.toNanos(l);
+    }
+
+    /**
+     * Returns the maximum age of the cached IP addresses of the configured hostname from the current
+     * {@link Configuration}.
+     *
+     * @return The maximum age in nanoseconds, {@code 0} if caching is disabled.
+     */
+    protected long getAddressCacheMaxAge() {
+        Object object = getConfig().get(CONFIG_PARAM_ADDRESS_CACHE_MAX_AGE);
+        if (!(object instanceof Number)) {
+            return TimeUnit.SECONDS.toNanos(DEFAULT_ADDRESS_CACHE_MAX_AGE);
+        }
+        long l = ((Number) object).longValue();
+        return l <= 0L ? 0L : TimeUnit.SECONDS.toNanos(l);
+    }
+
+    /**
+     * Registers the configured hostname and the address cache maximum age with the {@link MillHostResolver},
+     * which resolves the hostname in the background if it's a DNS name.
+     */
+    protected void updateHostResolver() {
+        Object object = getConfig().get(CONFIG_PARAM_HOSTNAME);
+        if (object instanceof String && !isBlank((String) object)) {
+            httpClientProvider.getHostResolver().setMaxAge(
+                MillUtil.getHost((String) object),
+                getAddressCacheMaxAge()
+            );
+        }
+    }
+
+    /**
+     * @return {@code true} if hedged requests are enabled in the current {@link Configuration}.
+     */
+    protected boolean isHedgedRequests() {
+        return Boolean.TRUE.equals(getConfig().get(CONFIG_PARAM_HEDGED_REQUESTS));
+    }
+
+    /**
+     * Tries to resolve the IP address(es) of the configured hostname using the {@link MillHostResolver}, which
+     * returns the cached addresses without blocking if the hostname has been resolved before.
      *
      * @return The array of {@link InetAddress}es or {@code null} if none were resolved.
      */
@@ -2567,7 +3372,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
             );
         } else {
             try {
-                result = InetAddress.getAllByName(hostname);
+                result = httpClientProvider.getHostResolver().getAddresses(MillUtil.getHost(hostname));
                 clearConfigParameterMessages(CONFIG_PARAM_HOSTNAME);
             } catch (UnknownHostException e) {
                 logger.warn(
@@ -2619,8 +3424,33 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
                 configurationParameters.get(CONFIG_PARAM_INFREQUENT_REFRESH_INTERVAL)
             );
         }
+        if (modifiedParameters.contains(CONFIG_PARAM_SETTINGS_CACHE_MAX_AGE)) {
+            configuration.put(
+                CONFIG_PARAM_SETTINGS_CACHE_MAX_AGE,
+                configurationParameters.get(CONFIG_PARAM_SETTINGS_CACHE_MAX_AGE)
+            );
+        }
+        if (modifiedParameters.contains(CONFIG_PARAM_ADDRESS_CACHE_MAX_AGE)) {
+            configuration.put(
+                CONFIG_PARAM_ADDRESS_CACHE_MAX_AGE,
+                configurationParameters.get(CONFIG_PARAM_ADDRESS_CACHE_MAX_AGE)
+            );
+        }
+        if (modifiedParameters.contains(CONFIG_PARAM_HEDGED_REQUESTS)) {
+            configuration.put(
+                CONFIG_PARAM_HEDGED_REQUESTS,
+                configurationParameters.get(CONFIG_PARAM_HEDGED_REQUESTS)
+            );
+        }
+
+        // Plan one write per device endpoint with modified parameters. The current configuration reflects the
+        // device settings as last polled, so parameters that are unchanged compared to it aren't written.
+        List<Callable<Boolean>> writes = new ArrayList<>();
         if (modifiedParameters.contains(CONFIG_PARAM_TIMEZONE_OFFSET)) {
-            handleTimeZoneOffsetUpdate(configuration, configurationParameters, online);
+            writes.add(() -> {
+                handleTimeZoneOffsetUpdate(configuration, configurationParameters, online);
+                return Boolean.FALSE;
+            });
         }
         if (
             modifiedParameters.contains(CONFIG_PARAM_PID_KP) ||
@@ -2629,22 +3459,32 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
             modifiedParameters.contains(CONFIG_PARAM_PID_KD_FILTER_N) ||
             modifiedParameters.contains(CONFIG_PARAM_PID_WINDUP_LIMIT_PCT)
         ) {
-            handlePIDParametersUpdate(configuration, configurationParameters, online);
+            writes.add(() -> {
+                handlePIDParametersUpdate(configuration, configurationParameters, online);
+                return Boolean.FALSE;
+            });
         }
         if (modifiedParameters.contains(CONFIG_PARAM_CLOUD_COMMUNICATION)) {
-            rebootRequired |= handleCloudCommunicationUpdate(configuration, configurationParameters, online);
+            writes.add(() -> Boolean.valueOf(
+                handleCloudCommunicationUpdate(configuration, configurationParameters, online)
+            ));
         }
         if (
             modifiedParameters.contains(CONFIG_PARAM_HYSTERESIS_UPPER) ||
             modifiedParameters.contains(CONFIG_PARAM_HYSTERESIS_LOWER)
         ) {
-            rebootRequired |= handleHysteresisParametersUpdate(configuration, configurationParameters, online);
+            writes.add(() -> Boolean.valueOf(
+                handleHysteresisParametersUpdate(configuration, configurationParameters, online)
+            ));
         }
         if (
             modifiedParameters.contains(CONFIG_PARAM_COMMERCIAL_LOCK_MIN) ||
             modifiedParameters.contains(CONFIG_PARAM_COMMERCIAL_LOCK_MAX)
         ) {
-            handleCommercialLockParametersUpdate(configuration, configurationParameters, online);
+            writes.add(() -> {
+                handleCommercialLockParametersUpdate(configuration, configurationParameters, online);
+                return Boolean.FALSE;
+            });
         }
         if (
             modifiedParameters.contains(CONFIG_PARAM_OPEN_WINDOW_DROP_TEMP_THR) ||
@@ -2653,14 +3493,19 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
             modifiedParameters.contains(CONFIG_PARAM_OPEN_WINDOW_INC_TIME_RANGE) ||
             modifiedParameters.contains(CONFIG_PARAM_OPEN_WINDOW_MAX_TIME)
         ) {
-            handleOpenWindowParametersUpdate(configuration, configurationParameters, online);
+            writes.add(() -> {
+                handleOpenWindowParametersUpdate(configuration, configurationParameters, online);
+                return Boolean.FALSE;
+            });
         }
+        rebootRequired |= applyConfigurationWrites(writes, online);
 
         if ((
                 modifiedParameters.contains(CONFIG_PARAM_HOSTNAME) ||
                 modifiedParameters.contains(CONFIG_PARAM_API_KEY) ||
                 modifiedParameters.contains(CONFIG_PARAM_REFRESH_INTERVAL) ||
-                modifiedParameters.contains(CONFIG_PARAM_INFREQUENT_REFRESH_INTERVAL)
+                modifiedParameters.contains(CONFIG_PARAM_INFREQUENT_REFRESH_INTERVAL) ||
+                modifiedParameters.contains(CONFIG_PARAM_ADDRESS_CACHE_MAX_AGE)
             ) &&
             isInitialized()
         ) {
@@ -2674,7 +3519,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
             callback.configurationUpdated(getThing());
         }
         if (rebootRequired) {
-            scheduler.schedule(() -> {
+            MillExecutors.schedule(scheduler, () -> {
                 try {
                     sendReboot();
                 } catch (MillException e) {
@@ -2688,6 +3533,65 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
         }
     }
 
+    /**
+     * Executes the planned configuration writes. The writes are to different device endpoints and are
+     * independent of each other, so if the {@link Thing} is online and there is more than one, they are executed
+     * in parallel, with the first on the calling thread. Each write does its own verification read.
+     *
+     * @param writes the {@link List} of writes, each returning whether a reboot is required.
+     * @param online whether the {@link Thing} is currently online.
+     * @return {@code true} if any of the writes require a reboot.
+     */
+    protected boolean applyConfigurationWrites(List<Callable<Boolean>> writes, boolean online) {
+        if (writes.isEmpty()) {
+            return false;
+        }
+        List<Future<Boolean>> futures = new ArrayList<>(writes.size());
+        if (online && writes.size() > 1) {
+            for (Callable<Boolean> write : writes.subList(1, writes.size())) {
+                try {
+                    futures.add(getBlockingExecutor().submit(write));
+                } catch (RejectedExecutionException e) {
+                    futures.add(new FutureTask<>(write));
+                }
+            }
+        } else {
+            for (Callable<Boolean> write : writes.subList(1, writes.size())) {
+                futures.add(new FutureTask<>(write));
+            }
+        }
+
+        boolean result = false;
+        try {
+            result |= writes.get(0).call().booleanValue();
+        } catch (Exception e) {
+            logger.warn(
+                "An unexpected error occurred while applying configuration to Thing \"{}\": {}",
+                getThing().getUID(),
+                e.getMessage()
+            );
+        }
+        for (Future<Boolean> future : futures) {
+            if (future instanceof FutureTask && !future.isDone()) {
+                ((FutureTask<Boolean>) future).run();
+            }
+            try {
+                result |= future.get().booleanValue();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                logger.warn(
+                    "An unexpected error occurred while applying configuration to Thing \"{}\": {}",
+                    getThing().getUID(),
+                    cause == null ? e.getMessage() : cause.getMessage()
+                );
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return result;
+    }
+
     /**
      * Handles the update of the current configuration with a new time zone offset, including
      * setting and logging error states.
@@ -3696,14 +4600,116 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
      *
      * @return The new frequent polling task.
      */
-    protected abstract Runnable createFrequentTask();
+    protected Runnable createFrequentTask() {
+        return new PollTask(PollCadence.FREQUENT);
+    }
 
     /**
      * Creates a new infrequent polling task.
      *
      * @return The new infrequent polling task.
      */
-    protected abstract Runnable createInfrequentTask();
+    protected Runnable createInfrequentTask() {
+        return new PollTask(PollCadence.INFREQUENT);
+    }
+
+    /**
+     * Called by the {@link MillAddressRegistry} when a device has been seen at a different address. If it's
+     * this device and it's offline, an attempt to contact it at the new address is scheduled.
+     *
+     * @param macAddress the normalized MAC address of the device.
+     * @param address the new IP address.
+     */
+    protected void addressChanged(String macAddress, String address) {
+        String thingMACAddress = getThing().getProperties().get(Thing.PROPERTY_MAC_ADDRESS);
+        if (thingMACAddress == null || !macAddress.equals(MillAddressRegistry.normalize(thingMACAddress))) {
+            return;
+        }
+        synchronized (lock) {
+            if (isOnline || isDisposed) {
+                return;
+            }
+        }
+        try {
+            getBlockingExecutor().execute(this::rebindMovedDevice);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Unable to schedule rebinding of Mill device \"{}\": {}", getThing().getUID(), e.getMessage());
+        }
+    }
+
+    /**
+     * Checks if the {@link MillAddressRegistry} knows a different address for this offline device than the
+     * configured one. If so, and the device answers with the same MAC address at the new address, the configured
+     * hostname is updated and the device is polled. Hostnames that aren't IP addresses are left alone, since
+     * they are expected to follow the device through DNS.
+     *
+     * @return {@code true} if the configured hostname was updated, {@code false} otherwise.
+     */
+    protected boolean rebindMovedDevice() {
+        String macAddress = getThing().getProperties().get(Thing.PROPERTY_MAC_ADDRESS);
+        if (macAddress == null || isBlank(macAddress)) {
+            return false;
+        }
+        String address = addressRegistry.getAddress(macAddress);
+        if (address == null) {
+            return false;
+        }
+        String hostname, newHostname;
+        try {
+            hostname = getHostname();
+            String host = MillUtil.getHost(hostname);
+            if (address.equals(host) || !MillUtil.isIPAddress(host)) {
+                return false;
+            }
+            newHostname = MillUtil.toHostname(address, MillUtil.getPort(hostname));
+        } catch (MillException | NumberFormatException e) {
+            return false;
+        }
+        synchronized (lock) {
+            if (isOnline || isDisposed) {
+                return false;
+            }
+        }
+
+        try {
+            StatusResponse statusResponse = getAPITool().getStatus(newHostname, getAPIKey());
+            String s = statusResponse.getMacAddress();
+            if (s == null || !MillAddressRegistry.normalize(s).equals(MillAddressRegistry.normalize(macAddress))) {
+                logger.debug(
+                    "Not moving Mill device \"{}\" to {} because the MAC address doesn't match ({})",
+                    getThing().getUID(),
+                    newHostname,
+                    s
+                );
+                return false;
+            }
+        } catch (MillException e) {
+            logger.debug(
+                "Not moving Mill device \"{}\" to {} because it couldn't be contacted: {}",
+                getThing().getUID(),
+                newHostname,
+                e.getMessage()
+            );
+            return false;
+        }
+
+        logger.info(
+            "Mill device \"{}\" has moved from {} to {}, updating the configuration",
+            getThing().getUID(),
+            hostname,
+            newHostname
+        );
+        Configuration configuration = editConfiguration();
+        configuration.put(CONFIG_PARAM_HOSTNAME, newHostname);
+        updateConfiguration(configuration);
+        try {
+            pollStatus();
+        } catch (MillException e) {
+            // Restarts offline polling with the new address
+            setOffline(e);
+        }
+        return true;
+    }
 
     /**
      * Creates a new offline polling task.
@@ -3769,6 +4775,9 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
 
         @Override
         public void run() {
+            if (rebindMovedDevice()) {
+                return;
+            }
             for (InetAddress address : addresses) {
                 try {
                     if (address.isReachable(1000)) {
@@ -3777,7 +4786,7 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
                             getThing().getUID(),
                             address.getHostAddress()
                         );
-                        scheduler.execute(() -> {
+                        getBlockingExecutor().execute(() -> {
                             try {
                                 pollControlStatus();
                             } catch (MillException e) {
@@ -3805,4 +4814,49 @@ public abstract class AbstractMillThingHandler extends BaseThingHandler implemen
             }
         }
     }
+
+    /**
+     * The {@link Runnable} that executes the {@link PollPlan.Step}s of one {@link PollCadence}.
+     */
+    protected class PollTask implements Runnable {
+
+        private final PollCadence cadence;
+
+        /**
+         * Creates a new instance that polls the endpoints of the specified {@link PollCadence}.
+         *
+         * @param cadence the {@link PollCadence}.
+         */
+        public PollTask(PollCadence cadence) {
+            this.cadence = cadence;
+        }
+
+        @Override
+        public void run() {
+            pollEndpoints(pollPlan.getSteps(cadence), getCycleBudgetNanos(cadence));
+        }
+    }
+
+    /**
+     * An immutable holder of a published {@link QuantityType} state and the rounded value it was created from.
+     */
+    protected static class QuantityState {
+
+        /** The rounded value */
+        protected final double value;
+
+        /** The published {@link QuantityType} */
+        protected final QuantityType<?> state;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param value the rounded value.
+         * @param state the published {@link QuantityType}.
+         */
+        public QuantityState(double value, QuantityType<?> state) {
+            this.value = value;
+            this.state = state;
+        }
+    }
 }
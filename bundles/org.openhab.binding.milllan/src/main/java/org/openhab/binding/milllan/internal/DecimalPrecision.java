@@ -93,11 +93,13 @@ public enum DecimalPrecision {
     private final String name;
     private final Double delta;
     private final int roundingScale;
+    private final double scaleFactor;
 
     private DecimalPrecision(String name, Double delta, int roundingScale) {
         this.name = name;
         this.delta = delta;
         this.roundingScale = roundingScale;
+        this.scaleFactor = Math.pow(10d, roundingScale);
     }
 
     /**
@@ -125,6 +127,23 @@ public enum DecimalPrecision {
         return bcValue.setScale(roundingScale, RoundingMode.HALF_UP);
     }
 
+    /**
+     * Rounds the specified value with the predetermined precision without going through {@link BigDecimal},
+     * so that no objects are allocated. The result is the {@code double} closest to what {@link #round(Number)}
+     * returns, for values with less than 15 significant digits.
+     *
+     * @param value the value to round.
+     * @return The rounded result.
+     */
+    public double roundToDouble(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return value;
+        }
+        // nextUp compensates for decimal fractions like x.xx5 being stored as slightly less than their value
+        double scaled = Math.floor(Math.nextUp(Math.abs(value) * scaleFactor) + 0.5) / scaleFactor;
+        return value < 0d ? -scaled : scaled;
+    }
+
     /**
      * @return The number of digits to keep after the decimal point.
      */
@@ -52,13 +52,17 @@ public class MillBindingConstants {
     /** The {@code All Functions} {@link ThingTypeUID} */
     public static final ThingTypeUID THING_TYPE_ALL_FUNCTIONS = new ThingTypeUID(BINDING_ID, "all-functions");
 
+    /** The {@code Bridge} {@link ThingTypeUID} */
+    public static final ThingTypeUID THING_TYPE_BRIDGE = new ThingTypeUID(BINDING_ID, "bridge");
+
     /** The {@link Set} of supported {@link ThingType}s */
     public static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Set.of(
         THING_TYPE_PANEL_HEATER,
         THING_TYPE_CONVECTION_HEATER,
         THING_TYPE_OIL_HEATER,
         THING_TYPE_WIFI_SOCKET,
-        THING_TYPE_ALL_FUNCTIONS
+        THING_TYPE_ALL_FUNCTIONS,
+        THING_TYPE_BRIDGE
     );
 
     // mDNS property names
@@ -143,6 +147,29 @@ public class MillBindingConstants {
     /** The Open Window Enabled {@link Channel} */
     public static final String CHANNEL_OPEN_WINDOW_ENABLED = "open-window-enabled";
 
+    /** The Last Round-Trip Time {@link Channel} */
+    public static final String CHANNEL_LAST_RTT = "last-rtt";
+
+    /** The P95 Round-Trip Time {@link Channel} */
+    public static final String CHANNEL_P95_RTT = "p95-rtt";
+
+    /** The Success Ratio {@link Channel} */
+    public static final String CHANNEL_SUCCESS_RATIO = "success-ratio";
+
+    /** The Consecutive Failures {@link Channel} */
+    public static final String CHANNEL_CONSECUTIVE_FAILURES = "consecutive-failures";
+
+    // List of all bridge Channel IDs
+
+    /** The Request Rate {@link Channel} */
+    public static final String CHANNEL_REQUEST_RATE = "request-rate";
+
+    /** The Error Rate {@link Channel} */
+    public static final String CHANNEL_ERROR_RATE = "error-rate";
+
+    /** The P95 Latency {@link Channel} */
+    public static final String CHANNEL_P95_LATENCY = "p95-latency";
+
     // Property constants
 
     /** The {@code name} {@link Property} */
@@ -173,6 +200,21 @@ public class MillBindingConstants {
     /** The infrequent refresh interval configuration parameter */
     public static final String CONFIG_PARAM_INFREQUENT_REFRESH_INTERVAL = "infrequentRefreshInterval";
 
+    /** The settings cache maximum age configuration parameter */
+    public static final String CONFIG_PARAM_SETTINGS_CACHE_MAX_AGE = "settingsCacheMaxAge";
+
+    /** The default settings cache maximum age in seconds */
+    public static final long DEFAULT_SETTINGS_CACHE_MAX_AGE = 60L;
+
+    /** The address cache maximum age configuration parameter */
+    public static final String CONFIG_PARAM_ADDRESS_CACHE_MAX_AGE = "addressCacheMaxAge";
+
+    /** The default address cache maximum age in seconds */
+    public static final long DEFAULT_ADDRESS_CACHE_MAX_AGE = 300L;
+
+    /** The hedged requests configuration parameter */
+    public static final String CONFIG_PARAM_HEDGED_REQUESTS = "hedgedRequests";
+
     /** The time zone offset configuration parameter */
     public static final String CONFIG_PARAM_TIMEZONE_OFFSET = "timeZoneOffset";
 
@@ -221,6 +263,15 @@ public class MillBindingConstants {
     /** The open window maximum time configuration parameter */
     public static final String CONFIG_PARAM_OPEN_WINDOW_MAX_TIME = "openWindowMaxTime";
 
+    /** The maximum concurrent requests bridge configuration parameter */
+    public static final String CONFIG_PARAM_MAX_CONCURRENT_REQUESTS = "maxConcurrentRequests";
+
+    /** The maximum requests per second bridge configuration parameter */
+    public static final String CONFIG_PARAM_MAX_REQUESTS_PER_SECOND = "maxRequestsPerSecond";
+
+    /** The request timeout bridge configuration parameter */
+    public static final String CONFIG_PARAM_REQUEST_TIMEOUT = "requestTimeout";
+
     /** The {@link Set} of dynamic configuration parameters */
     public static final Set<String> CONFIG_DYNAMIC_PARAMETERS = Set.of(
         CONFIG_PARAM_TIMEZONE_OFFSET, CONFIG_PARAM_PID_KP, CONFIG_PARAM_PID_KI, CONFIG_PARAM_PID_KD,
@@ -0,0 +1,216 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal;
+
+import static org.openhab.binding.milllan.internal.MillBindingConstants.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.milllan.internal.api.MillAPITool;
+import org.openhab.binding.milllan.internal.api.RequestLimiter;
+import org.openhab.binding.milllan.internal.api.RequestStatistics;
+import org.openhab.binding.milllan.internal.http.MillHTTPClientProvider;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.unit.MetricPrefix;
+import org.openhab.core.library.unit.Units;
+import org.openhab.core.thing.Bridge;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingStatusDetail;
+import org.openhab.core.thing.binding.BaseBridgeHandler;
+import org.openhab.core.types.Command;
+import org.openhab.core.types.RefreshType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * The {@link Bridge} handler for the optional {@code Bridge} thing type. The bridge owns a shared
+ * {@link MillAPITool} that is used by all the attached devices, applies the site-wide request limits,
+ * and publishes aggregate request statistics for all the attached devices.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public class MillBridgeHandler extends BaseBridgeHandler {
+
+    /** The interval in seconds between updates of the statistics {@link org.openhab.core.thing.Channel}s */
+    public static final int STATISTICS_INTERVAL = 15;
+
+    /** The length of the statistics window in minutes */
+    public static final int STATISTICS_WINDOW = 5;
+
+    /** The maximum time in seconds a request will wait for the request limits */
+    public static final int MAX_QUEUE_TIME = 30;
+
+    private final Logger logger = LoggerFactory.getLogger(MillBridgeHandler.class);
+
+    /** The {@link MillHTTPClientProvider} */
+    protected final MillHTTPClientProvider httpClientProvider;
+
+    /** The aggregate {@link RequestStatistics} for all attached devices */
+    protected final RequestStatistics statistics = new RequestStatistics(STATISTICS_WINDOW, TimeUnit.MINUTES);
+
+    /** The object used for synchronization of class fields */
+    protected final Object lock = new Object();
+
+    /** The shared {@link MillAPITool} or {@code null}, <b>must be synchronized</b> on {@link #lock}! */
+    @Nullable
+    protected MillAPITool apiTool;
+
+    /** Current statistics task or {@code null}, <b>must be synchronized</b> on {@link #lock}! */
+    @Nullable
+    protected ScheduledFuture<?> statisticsTask;
+
+    /**
+     * Creates a new instance using the specified parameters.
+     *
+     * @param bridge the {@link Bridge} for which to create a handler.
+     * @param httpClientProvider the {@link MillHTTPClientProvider} to use.
+     */
+    public MillBridgeHandler(Bridge bridge, MillHTTPClientProvider httpClientProvider) {
+        super(bridge);
+        this.httpClientProvider = httpClientProvider;
+    }
+
+    @Override
+    public void initialize() {
+        int maxConcurrent = getIntConfig(CONFIG_PARAM_MAX_CONCURRENT_REQUESTS, 4);
+        double maxRate = getDoubleConfig(CONFIG_PARAM_MAX_REQUESTS_PER_SECOND, 0.0);
+        int requestTimeout = getIntConfig(CONFIG_PARAM_REQUEST_TIMEOUT, 0);
+        if (maxConcurrent < 0 || maxRate < 0.0 || requestTimeout < 0) {
+            updateStatus(
+                ThingStatus.OFFLINE,
+                ThingStatusDetail.CONFIGURATION_ERROR,
+                "Request limits and timeout can't be negative"
+            );
+            return;
+        }
+
+        RequestLimiter limiter = maxConcurrent > 0 || maxRate > 0.0 ?
+            new RequestLimiter(maxConcurrent, maxRate, MAX_QUEUE_TIME, TimeUnit.SECONDS) :
+            null;
+        MillAPITool tool = new MillAPITool(httpClientProvider, limiter, TimeUnit.SECONDS.toMillis(requestTimeout));
+        tool.addRequestListener(statistics);
+        statistics.clear();
+
+        ScheduledFuture<?> oldTask;
+        synchronized (lock) {
+            apiTool = tool;
+            oldTask = statisticsTask;
+            statisticsTask = scheduler.scheduleWithFixedDelay(
+                this::updateStatistics,
+                STATISTICS_INTERVAL,
+                STATISTICS_INTERVAL,
+                TimeUnit.SECONDS
+            );
+        }
+        if (oldTask != null) {
+            oldTask.cancel(true);
+        }
+        logger.debug(
+            "Bridge {} initialized with maxConcurrentRequests={}, maxRequestsPerSecond={}, requestTimeout={}",
+            getThing().getUID(),
+            maxConcurrent,
+            maxRate,
+            requestTimeout
+        );
+        updateStatus(ThingStatus.ONLINE);
+    }
+
+    @Override
+    public void dispose() {
+        ScheduledFuture<?> task;
+        synchronized (lock) {
+            task = statisticsTask;
+            statisticsTask = null;
+            apiTool = null;
+        }
+        if (task != null) {
+            task.cancel(true);
+        }
+    }
+
+    @Override
+    public void handleCommand(ChannelUID channelUID, Command command) {
+        if (command instanceof RefreshType) {
+            updateStatistics();
+        }
+    }
+
+    /**
+     * @return The shared {@link MillAPITool} or {@code null} if the bridge isn't initialized.
+     */
+    @Nullable
+    public MillAPITool getAPITool() {
+        synchronized (lock) {
+            return apiTool;
+        }
+    }
+
+    /**
+     * Updates the statistics {@link org.openhab.core.thing.Channel}s from the current {@link RequestStatistics}.
+     */
+    protected void updateStatistics() {
+        RequestStatistics.Snapshot snapshot = statistics.getSnapshot();
+        updateState(
+            CHANNEL_REQUEST_RATE,
+            new DecimalType(BigDecimal.valueOf(snapshot.getRequestsPerMinute()).setScale(1, RoundingMode.HALF_UP))
+        );
+        updateState(
+            CHANNEL_ERROR_RATE,
+            new QuantityType<>(
+                BigDecimal.valueOf(snapshot.getErrorPercentage()).setScale(1, RoundingMode.HALF_UP),
+                Units.PERCENT
+            )
+        );
+        updateState(
+            CHANNEL_P95_LATENCY,
+            new QuantityType<>(
+                BigDecimal.valueOf(snapshot.getP95Millis()).setScale(0, RoundingMode.HALF_UP),
+                MetricPrefix.MILLI(Units.SECOND)
+            )
+        );
+    }
+
+    /**
+     * Reads an integer configuration parameter.
+     *
+     * @param parameter the configuration parameter name.
+     * @param defaultValue the value to return if the parameter isn't set.
+     * @return The configuration parameter value.
+     */
+    protected int getIntConfig(String parameter, int defaultValue) {
+        Object object = getConfig().get(parameter);
+        return object instanceof Number ? ((Number) object).intValue() : defaultValue;
+    }
+
+    /**
+     * Reads a decimal configuration parameter.
+     *
+     * @param parameter the configuration parameter name.
+     * @param defaultValue the value to return if the parameter isn't set.
+     * @return The configuration parameter value.
+     */
+    protected double getDoubleConfig(String parameter, double defaultValue) {
+        Object object = getConfig().get(parameter);
+        return object instanceof Number ? ((Number) object).doubleValue() : defaultValue;
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal;
+
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * This class decides where blocking device I/O is executed. On Java 21 and newer, blocking tasks run on
+ * virtual threads, and the shared openHAB schedulers are only used to fire timers. On older Java versions,
+ * or if disabled with the system property {@value #VIRTUAL_THREADS_PROPERTY}{@code =false}, everything runs
+ * on the specified fallback executors as before.
+ * <p>
+ * Virtual threads are looked up using reflection, since the binding is built for Java 17.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public final class MillExecutors {
+
+    /** The system property that can be set to {@code false} to disable the use of virtual threads */
+    public static final String VIRTUAL_THREADS_PROPERTY = "org.openhab.binding.milllan.virtualThreads";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MillExecutors.class);
+
+    /** The virtual thread per task {@link ExecutorService} or {@code null} if virtual threads aren't used */
+    @Nullable
+    private static final ExecutorService VIRTUAL_THREAD_EXECUTOR = createVirtualThreadExecutor();
+
+    /**
+     * Not to be instantiated.
+     */
+    private MillExecutors() {
+    }
+
+    /**
+     * @return {@code true} if blocking tasks are executed on virtual threads.
+     */
+    public static boolean isVirtualThreadsEnabled() {
+        return VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * Returns the {@link ExecutorService} to use for blocking tasks.
+     *
+     * @param fallback the {@link ExecutorService} to use if virtual threads aren't available.
+     * @return The virtual thread {@link ExecutorService} or {@code fallback}.
+     */
+    public static ExecutorService getBlockingExecutor(ExecutorService fallback) {
+        ExecutorService executor = VIRTUAL_THREAD_EXECUTOR;
+        return executor == null ? fallback : executor;
+    }
+
+    /**
+     * Schedules a blocking one-shot task. If virtual threads are available, the {@code scheduler} only fires
+     * the timer and the task itself is executed on a virtual thread.
+     *
+     * @param scheduler the {@link ScheduledExecutorService} used for the timer.
+     * @param task the task to execute.
+     * @param delay the delay before the task is executed.
+     * @param unit the {@link TimeUnit} of {@code delay}.
+     * @return The {@link ScheduledFuture} of the timer.
+     */
+    public static ScheduledFuture<?> schedule(
+        ScheduledExecutorService scheduler,
+        Runnable task,
+        long delay,
+        TimeUnit unit
+    ) {
+        ExecutorService executor = VIRTUAL_THREAD_EXECUTOR;
+        if (executor == null) {
+            return scheduler.schedule(task, delay, unit);
+        }
+        OffloadedTask offloaded = new OffloadedTask(task, executor);
+        return new OffloadedFuture(scheduler.schedule(offloaded, delay, unit), offloaded);
+    }
+
+    /**
+     * Schedules a repeating blocking task. If virtual threads are available, the {@code scheduler} only fires
+     * the timer and the task itself is executed on a virtual thread. If the previous execution is still
+     * running when the timer fires, the execution is skipped, so that executions never overlap.
+     * <p>
+     * Cancelling the returned {@link ScheduledFuture} also cancels a running execution.
+     *
+     * @param scheduler the {@link ScheduledExecutorService} used for the timer.
+     * @param task the task to execute.
+     * @param initialDelay the delay before the first execution.
+     * @param delay the delay between executions.
+     * @param unit the {@link TimeUnit} of {@code initialDelay} and {@code delay}.
+     * @return The {@link ScheduledFuture} of the timer.
+     */
+    public static ScheduledFuture<?> scheduleWithFixedDelay(
+        ScheduledExecutorService scheduler,
+        Runnable task,
+        long initialDelay,
+        long delay,
+        TimeUnit unit
+    ) {
+        ExecutorService executor = VIRTUAL_THREAD_EXECUTOR;
+        if (executor == null) {
+            return scheduler.scheduleWithFixedDelay(task, initialDelay, delay, unit);
+        }
+        OffloadedTask offloaded = new OffloadedTask(task, executor);
+        return new OffloadedFuture(
+            scheduler.scheduleWithFixedDelay(offloaded, initialDelay, delay, unit),
+            offloaded
+        );
+    }
+
+    /**
+     * Tries to create a virtual thread per task {@link ExecutorService} using reflection.
+     *
+     * @return The new {@link ExecutorService} or {@code null} if virtual threads aren't available or disabled.
+     */
+    @Nullable
+    private static ExecutorService createVirtualThreadExecutor() {
+        if ("false".equalsIgnoreCase(System.getProperty(VIRTUAL_THREADS_PROPERTY))) {
+            LOGGER.debug("Virtual threads are disabled by system property {}", VIRTUAL_THREADS_PROPERTY);
+            return null;
+        }
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "OH-milllan-", 0L);
+            ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            ExecutorService result = (ExecutorService) Executors.class
+                .getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, factory);
+            LOGGER.debug("Blocking device I/O will be executed on virtual threads");
+            return result;
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            LOGGER.debug("Virtual threads aren't available, using the shared thread pools: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * A timer task that executes the actual task on an {@link ExecutorService}, skipping executions while
+     * the previous one is still running.
+     */
+    private static class OffloadedTask implements Runnable {
+
+        private final Runnable task;
+        private final ExecutorService executor;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private volatile boolean cancelled;
+
+        @Nullable
+        private volatile Future<?> current;
+
+        OffloadedTask(Runnable task, ExecutorService executor) {
+            this.task = task;
+            this.executor = executor;
+        }
+
+        @Override
+        public void run() {
+            if (cancelled || !running.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                current = executor.submit(() -> {
+                    try {
+                        if (!cancelled) {
+                            task.run();
+                        }
+                    } finally {
+                        running.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                running.set(false);
+                LOGGER.warn("Unable to execute task: {}", e.getMessage());
+            }
+        }
+
+        void cancel(boolean mayInterruptIfRunning) {
+            cancelled = true;
+            Future<?> future = current;
+            if (future != null) {
+                future.cancel(mayInterruptIfRunning);
+            }
+        }
+    }
+
+    /**
+     * A {@link ScheduledFuture} that cancels both the timer and the running execution of an
+     * {@link OffloadedTask}.
+     */
+    private static class OffloadedFuture implements ScheduledFuture<Object> {
+
+        private final ScheduledFuture<?> timer;
+        private final OffloadedTask task;
+
+        OffloadedFuture(ScheduledFuture<?> timer, OffloadedTask task) {
+            this.timer = timer;
+            this.task = task;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return timer.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return timer.compareTo(o);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            task.cancel(mayInterruptIfRunning);
+            return timer.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return timer.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return timer.isDone();
+        }
+
+        @Override
+        public @Nullable Object get() throws InterruptedException, ExecutionException {
+            return timer.get();
+        }
+
+        @Override
+        public @Nullable Object get(
+            long timeout,
+            TimeUnit unit
+        ) throws InterruptedException, ExecutionException, TimeoutException {
+            return timer.get(timeout, unit);
+        }
+    }
+}
@@ -15,10 +15,15 @@ package org.openhab.binding.milllan.internal;
 
 import static org.openhab.binding.milllan.internal.MillBindingConstants.*;
 
+import java.util.function.Supplier;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.milllan.internal.configuration.MillConfigDescriptionProvider;
+import org.openhab.binding.milllan.internal.discovery.MillAddressRegistry;
 import org.openhab.binding.milllan.internal.http.MillHTTPClientProvider;
+import org.openhab.binding.milllan.internal.metrics.MillMetrics;
+import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.binding.BaseThingHandlerFactory;
@@ -28,6 +33,8 @@ import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 
 /**
  * The {@link MillThingHandlerFactory} is responsible for creating things and thing
@@ -41,23 +48,35 @@ public class MillThingHandlerFactory extends BaseThingHandlerFactory {
 
     private final MillConfigDescriptionProvider configDescriptionProvider;
     private final MillHTTPClientProvider httpClientProvider;
+    private final MillAddressRegistry addressRegistry;
+
+    /** The {@link MillMetrics} service or {@code null} if metrics aren't available */
+    @Nullable
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    private volatile MillMetrics metrics;
+
+    /** The {@link Supplier} of the current {@link MillMetrics} that is passed to the handlers */
+    private final Supplier<@Nullable MillMetrics> metricsSupplier = () -> metrics;
 
     /**
      * Creates a new instance using the specified parameters.
      *
      * @param configDescriptionProvider the {@link MillConfigDescriptionProvider} to use.
      * @param httpClientProvider the {@link MillHTTPClientProvider} to use.
+     * @param addressRegistry the {@link MillAddressRegistry} to use.
      * @param componentContext the {@link ComponentContext}.
      */
     @Activate
     public MillThingHandlerFactory(
         @Reference MillConfigDescriptionProvider configDescriptionProvider,
         @Reference MillHTTPClientProvider httpClientProvider,
+        @Reference MillAddressRegistry addressRegistry,
         ComponentContext componentContext
     ) {
         super.activate(componentContext);
         this.configDescriptionProvider = configDescriptionProvider;
         this.httpClientProvider = httpClientProvider;
+        this.addressRegistry = addressRegistry;
     }
 
     @Override
@@ -69,20 +88,53 @@ public class MillThingHandlerFactory extends BaseThingHandlerFactory {
     protected @Nullable ThingHandler createHandler(Thing thing) {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
+        if (THING_TYPE_BRIDGE.equals(thingTypeUID)) {
+            return new MillBridgeHandler((Bridge) thing, httpClientProvider);
+        }
         if (THING_TYPE_PANEL_HEATER.equals(thingTypeUID)) {
-            return new MillPanelHeaterHandler(thing, configDescriptionProvider, httpClientProvider);
+            return new MillPanelHeaterHandler(
+                thing,
+                configDescriptionProvider,
+                httpClientProvider,
+                metricsSupplier,
+                addressRegistry
+            );
         }
         if (THING_TYPE_CONVECTION_HEATER.equals(thingTypeUID)) {
-            return new MillConvectionHeaterHandler(thing, configDescriptionProvider, httpClientProvider);
+            return new MillConvectionHeaterHandler(
+                thing,
+                configDescriptionProvider,
+                httpClientProvider,
+                metricsSupplier,
+                addressRegistry
+            );
         }
         if (THING_TYPE_OIL_HEATER.equals(thingTypeUID)) {
-            return new MillConvectionHeaterHandler(thing, configDescriptionProvider, httpClientProvider);
+            return new MillConvectionHeaterHandler(
+                thing,
+                configDescriptionProvider,
+                httpClientProvider,
+                metricsSupplier,
+                addressRegistry
+            );
         }
         if (THING_TYPE_WIFI_SOCKET.equals(thingTypeUID)) {
-            return new MillWiFiSocketHandler(thing, configDescriptionProvider, httpClientProvider);
+            return new MillWiFiSocketHandler(
+                thing,
+                configDescriptionProvider,
+                httpClientProvider,
+                metricsSupplier,
+                addressRegistry
+            );
         }
         if (THING_TYPE_ALL_FUNCTIONS.equals(thingTypeUID)) {
-            return new MillAllFunctionsHandler(thing, configDescriptionProvider, httpClientProvider);
+            return new MillAllFunctionsHandler(
+                thing,
+                configDescriptionProvider,
+                httpClientProvider,
+                metricsSupplier,
+                addressRegistry
+            );
         }
 
         return null;
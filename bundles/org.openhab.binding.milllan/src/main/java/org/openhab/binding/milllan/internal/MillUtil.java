@@ -15,10 +15,14 @@ package org.openhab.binding.milllan.internal;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.StringType;
 
 
 /**
@@ -29,12 +33,32 @@ import org.openhab.core.library.types.DecimalType;
 @NonNullByDefault
 public class MillUtil {
 
+    /** The cached {@link StringType}s per {@code enum} constant */
+    private static final Map<Enum<?>, StringType> ENUM_STRING_TYPES = new ConcurrentHashMap<>();
+
+    /** The {@link Pattern} matching an IPv4 address literal */
+    private static final Pattern IPV4_PATTERN = Pattern.compile("\\d{1,3}(?:\\.\\d{1,3}){3}");
+
+    /** The {@link Pattern} matching an IPv6 address literal, possibly with a zone ID */
+    private static final Pattern IPV6_PATTERN = Pattern.compile("[0-9A-Fa-f:.]+(?:%[\\w.]+)?");
+
     /**
      * Not to be instantiated.
      */
     private MillUtil() {
     }
 
+    /**
+     * Returns a {@link StringType} with the name of the specified {@code enum} constant. The instances
+     * are immutable and are cached, so that publishing an {@code enum} state doesn't allocate.
+     *
+     * @param value the {@code enum} constant.
+     * @return The cached {@link StringType}.
+     */
+    public static StringType toStringType(Enum<?> value) {
+        return ENUM_STRING_TYPES.computeIfAbsent(value, v -> new StringType(v.name()));
+    }
+
     /**
      * Evaluates if the specified character sequence is {@code null}, empty or
      * only consists of whitespace.
@@ -71,6 +95,86 @@ public class MillUtil {
         return true;
     }
 
+    /**
+     * Extracts the host part of a configured hostname, which might include a port number like
+     * {@code "192.168.0.201:8080"}. IPv6 addresses must be enclosed in square brackets if a port
+     * number is specified.
+     *
+     * @param hostname the hostname, with or without port number.
+     * @return The host part of {@code hostname}.
+     */
+    public static String getHost(String hostname) {
+        String s = hostname.trim();
+        if (s.startsWith("[")) {
+            int idx = s.indexOf(']');
+            return idx < 0 ? s.substring(1) : s.substring(1, idx);
+        }
+        int idx = s.indexOf(':');
+        if (idx < 0 || s.indexOf(':', idx + 1) >= 0) {
+            // No port or an IPv6 address without brackets
+            return s;
+        }
+        return s.substring(0, idx);
+    }
+
+    /**
+     * Extracts the port number of a configured hostname like {@code "192.168.0.201:8080"}. IPv6
+     * addresses must be enclosed in square brackets if a port number is specified.
+     *
+     * @param hostname the hostname, with or without port number.
+     * @return The port number or {@code -1} if {@code hostname} doesn't include a port number.
+     * @throws NumberFormatException If the port number is invalid.
+     */
+    public static int getPort(String hostname) {
+        String s = hostname.trim();
+        int idx;
+        if (s.startsWith("[")) {
+            idx = s.indexOf("]:");
+            if (idx < 0) {
+                return -1;
+            }
+            idx++;
+        } else {
+            idx = s.indexOf(':');
+            if (idx < 0 || s.indexOf(':', idx + 1) >= 0) {
+                return -1;
+            }
+        }
+        int result = Integer.parseInt(s.substring(idx + 1));
+        if (result < 1 || result > 65535) {
+            throw new NumberFormatException("Port number out of range: " + result);
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the specified host is an IP address literal, as opposed to a name that must be resolved.
+     *
+     * @param host the host without port number.
+     * @return {@code true} if {@code host} is an IPv4 or IPv6 address, {@code false} otherwise.
+     */
+    public static boolean isIPAddress(String host) {
+        if (host.indexOf(':') >= 0) {
+            return IPV6_PATTERN.matcher(host).matches();
+        }
+        return IPV4_PATTERN.matcher(host).matches();
+    }
+
+    /**
+     * Creates a configured hostname from the specified host and port number, enclosing IPv6 addresses
+     * in square brackets if a port number is specified.
+     *
+     * @param host the host.
+     * @param port the port number or {@code -1} for none.
+     * @return The resulting hostname.
+     */
+    public static String toHostname(String host, int port) {
+        if (port < 0) {
+            return host;
+        }
+        return (host.indexOf(':') >= 0 ? "[" + host + "]" : host) + ':' + port;
+    }
+
     /**
      * Checks if the two specified {@link Number}s have the same value.
      *
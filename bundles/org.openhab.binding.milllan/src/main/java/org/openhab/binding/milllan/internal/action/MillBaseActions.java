@@ -15,8 +15,18 @@ package org.openhab.binding.milllan.internal.action;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -43,6 +53,9 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public class MillBaseActions implements ThingActions {
 
+    /** The result {@link Map} key for the {@link CompletableFuture} returned by asynchronous {@link Action}s */
+    public static final String FUTURE_KEY = "future";
+
     private final Logger logger = LoggerFactory.getLogger(MillBaseActions.class);
 
     /** The {@link ThingHandler} instance */
@@ -465,4 +478,254 @@ public class MillBaseActions implements ThingActions {
             return result;
         }
     }
+
+    /**
+     * Queues a {@code reboot} command for the device and returns immediately. The result
+     * {@link Map} of the {@link Action} is available from the {@link CompletableFuture}
+     * stored under {@link #FUTURE_KEY}.
+     *
+     * @return The resulting {@link ActionOutput} {@link Map}.
+     */
+    protected Map<String, Object> sendRebootAsync() {
+        return queueAction("sendReboot", () -> sendReboot());
+    }
+
+    /**
+     * Queues setting the {@code time zone offset} in the device and returns immediately. The result
+     * {@link Map} of the {@link Action} is available from the {@link CompletableFuture}
+     * stored under {@link #FUTURE_KEY}.
+     *
+     * @param offset the offset from UTC in minutes.
+     * @return The resulting {@link ActionOutput} {@link Map}.
+     */
+    protected Map<String, Object> setTimeZoneOffsetAsync(@Nullable Integer offset) {
+        return queueAction("setTimeZoneOffset", () -> setTimeZoneOffset(offset));
+    }
+
+    /**
+     * Queues setting the {@code PID parameters} in the device and returns immediately. The result
+     * {@link Map} of the {@link Action} is available from the {@link CompletableFuture}
+     * stored under {@link #FUTURE_KEY}.
+     *
+     * @param kp the proportional gain factor.
+     * @param ki the integral gain factor.
+     * @param kd the derivative gain factor.
+     * @param kdFilterN the derivative filter time coefficient.
+     * @param windupLimitPct the wind-up limit for integral part from 0 to 100.
+     * @return The resulting {@link ActionOutput} {@link Map}.
+     */
+    public Map<String, Object> setPIDParametersAsync(
+        @Nullable Double kp,
+        @Nullable Double ki,
+        @Nullable Double kd,
+        @Nullable Double kdFilterN,
+        @Nullable Double windupLimitPct
+    ) {
+        return queueAction("setPIDParameters", () -> setPIDParameters(kp, ki, kd, kdFilterN, windupLimitPct));
+    }
+
+    /**
+     * Queues setting whether {@code cloud communication} is enabled in the device and returns immediately.
+     * The result {@link Map} of the {@link Action} is available from the {@link CompletableFuture}
+     * stored under {@link #FUTURE_KEY}.
+     *
+     * @param enabled {@code true} to enabled cloud communication, {@code false} otherwise.
+     * @return The resulting {@link ActionOutput} {@link Map}.
+     */
+    public Map<String, Object> setCloudCommunicationAsync(@Nullable Boolean enabled) {
+        return queueAction("setCloudCommunication", () -> setCloudCommunication(enabled));
+    }
+
+    /**
+     * Queues setting the {@code hysteresis parameters} in the device and returns immediately. The result
+     * {@link Map} of the {@link Action} is available from the {@link CompletableFuture}
+     * stored under {@link #FUTURE_KEY}.
+     *
+     * @param upper the upper hysteresis limit in C.
+     * @param lower the lower hysteresis limit in C.
+     * @return The resulting {@link ActionOutput} {@link Map}.
+     */
+    public Map<String, Object> setHysteresisParametersAsync(@Nullable Double upper, @Nullable Double lower) {
+        return queueAction("setHysteresisParameters", () -> setHysteresisParameters(upper, lower));
+    }
+
+    /**
+     * Queues setting the {@code open window parameters} in the device and returns immediately. The result
+     * {@link Map} of the {@link Action} is available from the {@link CompletableFuture}
+     * stored under {@link #FUTURE_KEY}.
+     *
+     * @param dropTempThr the temperature drop required to trigger (activate) the open
+     *        window function in C.
+     * @param dropTimeRange the time range for which a drop in temperature will be evaluated in seconds.
+     * @param incTempThr the temperature increase required to deactivate the open window
+     *        function in C.
+     * @param incTimeRange the time range for which an increase in temperature will be evaluated in seconds.
+     * @param maxTime the maximum time the open window function will remain active.
+     * @return The resulting {@link ActionOutput} {@link Map}.
+     */
+    public Map<String, Object> setOpenWindowParametersAsync(
+        @Nullable Double dropTempThr,
+        @Nullable Integer dropTimeRange,
+        @Nullable Double incTempThr,
+        @Nullable Integer incTimeRange,
+        @Nullable Integer maxTime
+    ) {
+        return queueAction(
+            "setOpenWindowParameters",
+            () -> setOpenWindowParameters(dropTempThr, dropTimeRange, incTempThr, incTimeRange, maxTime)
+        );
+    }
+
+    /**
+     * Queues the specified {@link Action} implementation in the device's task queue and returns
+     * a result {@link Map} holding the {@link CompletableFuture} under {@link #FUTURE_KEY}.
+     *
+     * @param actionName the name of the {@link Action} used for logging and messages.
+     * @param action the {@link Action} implementation to queue.
+     * @return The resulting {@link ActionOutput} {@link Map}.
+     */
+    protected Map<String, Object> queueAction(String actionName, Supplier<Map<String, Object>> action) {
+        Map<String, Object> result = new HashMap<>();
+        AbstractMillThingHandler handlerInst = thingHandler;
+        if (handlerInst == null) {
+            logger.warn("Call to {}Async Action failed because the thingHandler was null", actionName);
+            result.put("result", "Failed: The Thing handler is null");
+            return result;
+        }
+        CompletableFuture<Map<String, Object>> future = handlerInst.queueTask(action);
+        if (future.isCancelled()) {
+            logger.warn(
+                "Call to {}Async Action failed because the Thing handler for {} is disposed",
+                actionName,
+                handlerInst.getThing().getUID()
+            );
+            result.put("result", "Failed: The Thing handler is disposed");
+            return result;
+        }
+        result.put("result", "The " + actionName + " Action was queued.");
+        result.put(FUTURE_KEY, future);
+        return result;
+    }
+
+    // Methods for handling the results of asynchronous actions
+
+    /**
+     * Waits for the asynchronous {@link Action}s represented by the specified result {@link Map}s to
+     * complete, and returns their results. Since the {@link Action}s run in parallel for different devices,
+     * the total waiting time is roughly that of the slowest device. The timeout is shared by all the
+     * {@link Action}s, and those that haven't completed when it expires will have a "timed out" result,
+     * but will <i>not</i> be cancelled.
+     *
+     * @param actionResults the result {@link Map}s returned by the asynchronous {@link Action}s.
+     *        Elements that don't contain a {@link Future} are returned as they are.
+     * @param timeoutSeconds the maximum total time to wait in seconds.
+     * @return A {@link List} of result {@link Map}s in the same order as {@code actionResults}.
+     */
+    public static List<Map<String, Object>> awaitActions(
+        @Nullable Collection<?> actionResults,
+        long timeoutSeconds
+    ) {
+        List<Map<String, Object>> results = new ArrayList<>();
+        if (actionResults == null) {
+            return results;
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        Map<String, Object> result;
+        for (Object actionResult : actionResults) {
+            Future<?> future = getFuture(actionResult);
+            if (future == null) {
+                results.add(toResultMap(actionResult, "Failed: Not an asynchronous Action result"));
+                continue;
+            }
+            try {
+                results.add(toResultMap(
+                    future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS),
+                    "Failed: Missing result"
+                ));
+            } catch (CancellationException e) {
+                result = new HashMap<>();
+                result.put("result", "Cancelled");
+                results.add(result);
+            } catch (TimeoutException e) {
+                result = new HashMap<>();
+                result.put("result", "Failed: Timed out while waiting for the Action to complete");
+                results.add(result);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                result = new HashMap<>();
+                result.put("result", "Failed: " + (cause == null ? e.getMessage() : cause.getMessage()));
+                results.add(result);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result = new HashMap<>();
+                result.put("result", "Failed: Interrupted while waiting for the Action to complete");
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Cancels the asynchronous {@link Action}s represented by the specified result {@link Map}s that
+     * haven't started executing yet. {@link Action}s that are already running will run to completion.
+     *
+     * @param actionResults the result {@link Map}s returned by the asynchronous {@link Action}s.
+     * @return The number of {@link Action}s that were cancelled.
+     */
+    public static int cancelActions(@Nullable Collection<?> actionResults) {
+        if (actionResults == null) {
+            return 0;
+        }
+        int result = 0;
+        for (Object actionResult : actionResults) {
+            Future<?> future = getFuture(actionResult);
+            if (future != null && future.cancel(false)) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Copies the specified {@link Action} result {@link Map}, or creates a new result {@link Map} with
+     * the specified message if {@code actionResult} isn't a {@link Map}.
+     *
+     * @param actionResult the {@link Action} result.
+     * @param message the message to use if {@code actionResult} isn't a {@link Map}.
+     * @return The resulting {@link Map}.
+     */
+    protected static Map<String, Object> toResultMap(@Nullable Object actionResult, String message) {
+        Map<String, Object> result = new HashMap<>();
+        if (actionResult instanceof Map) {
+            Object value;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) actionResult).entrySet()) {
+                value = entry.getValue();
+                if (value != null) {
+                    result.put(String.valueOf(entry.getKey()), value);
+                }
+            }
+        } else {
+            result.put("result", message);
+        }
+        return result;
+    }
+
+    /**
+     * Extracts the {@link Future} from an asynchronous {@link Action} result {@link Map}.
+     *
+     * @param actionResult the {@link Action} result.
+     * @return The {@link Future} or {@code null}.
+     */
+    protected static @Nullable Future<?> getFuture(@Nullable Object actionResult) {
+        if (actionResult instanceof Future) {
+            return (Future<?>) actionResult;
+        }
+        if (actionResult instanceof Map) {
+            Object future = ((Map<?, ?>) actionResult).get(FUTURE_KEY);
+            if (future instanceof Future) {
+                return (Future<?>) future;
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,476 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.action;
+
+import static org.openhab.binding.milllan.internal.MillBindingConstants.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.milllan.internal.AbstractMillThingHandler;
+import org.openhab.binding.milllan.internal.MillUtil;
+import org.openhab.binding.milllan.internal.api.OperationMode;
+import org.openhab.binding.milllan.internal.api.TemperatureType;
+import org.openhab.binding.milllan.internal.exception.MillException;
+import org.openhab.core.automation.Action;
+import org.openhab.core.automation.AnnotatedActions;
+import org.openhab.core.automation.annotation.ActionInput;
+import org.openhab.core.automation.annotation.ActionOutput;
+import org.openhab.core.automation.annotation.ActionOutputs;
+import org.openhab.core.automation.annotation.ActionScope;
+import org.openhab.core.automation.annotation.RuleAction;
+import org.openhab.core.items.GroupItem;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingRegistry;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.ThingHandler;
+import org.openhab.core.thing.link.ItemChannelLinkRegistry;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Binding-level {@link Action}s that apply the same setting to many devices in parallel.
+ * <p>
+ * The targets are specified as a comma separated list, where each element is either a {@link ThingUID},
+ * the name of an {@link Item} or {@link GroupItem}, or an {@link Item} tag. {@link Item}s are resolved
+ * to the {@link Thing}s they are linked to. The writes are queued in each device's task queue, so they
+ * are ordered with any other queued {@link Action}s for the same device, while the number of devices
+ * that are written to at the same time is bounded.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = {AnnotatedActions.class, MillBulkActions.class})
+@ActionScope(name = "binding." + BINDING_ID)
+public class MillBulkActions implements AnnotatedActions {
+
+    /** The default maximum number of devices to write to at the same time */
+    public static final int DEFAULT_MAX_PARALLEL = 8;
+
+    /** The maximum time in seconds to wait for a bulk operation to complete */
+    public static final long BULK_TIMEOUT_SECONDS = 60L;
+
+    private final Logger logger = LoggerFactory.getLogger(MillBulkActions.class);
+
+    private final ThingRegistry thingRegistry;
+
+    private final ItemRegistry itemRegistry;
+
+    private final ItemChannelLinkRegistry linkRegistry;
+
+    /**
+     * Creates a new instance using the specified parameters.
+     *
+     * @param thingRegistry the {@link ThingRegistry} to use.
+     * @param itemRegistry the {@link ItemRegistry} to use.
+     * @param linkRegistry the {@link ItemChannelLinkRegistry} to use.
+     */
+    @Activate
+    public MillBulkActions(
+        @Reference ThingRegistry thingRegistry,
+        @Reference ItemRegistry itemRegistry,
+        @Reference ItemChannelLinkRegistry linkRegistry
+    ) {
+        this.thingRegistry = thingRegistry;
+        this.itemRegistry = itemRegistry;
+        this.linkRegistry = linkRegistry;
+    }
+
+    /**
+     * Sets the {@code operation mode} in all the targeted devices.
+     *
+     * @param targets the comma separated list of {@link ThingUID}s, {@link Item} names or tags.
+     * @param mode the {@link OperationMode} name.
+     * @param maxParallel the maximum number of devices to write to at the same time or {@code null}
+     *        to use {@link #DEFAULT_MAX_PARALLEL}.
+     * @return The resulting {@link ActionOutput} {@link Map}.
+     */
+    @ActionOutputs(value = {
+        @ActionOutput(name = "result", type = "java.lang.String"),
+        @ActionOutput(name = "results", type = "java.util.Map"),
+        @ActionOutput(name = "timings", type = "java.util.Map")
+    })
+    @RuleAction(
+        label = "@text/actions.milllan.bulk-set-operation-mode.label",
+        description = "@text/actions.milllan.bulk-set-operation-mode.description"
+    )
+    public Map<String, Object> setOperationMode(
+        @Nullable @ActionInput(
+            name = "targets",
+            label = "@text/actions-input.milllan.bulk.targets.label",
+            description = "@text/actions-input.milllan.bulk.targets.description",
+            required = true
+        ) String targets,
+        @Nullable @ActionInput(
+            name = "mode",
+            label = "@text/actions-input.milllan.bulk-set-operation-mode.mode.label",
+            description = "@text/actions-input.milllan.bulk-set-operation-mode.mode.description",
+            required = true
+        ) String mode,
+        @Nullable @ActionInput(
+            name = "maxParallel",
+            label = "@text/actions-input.milllan.bulk.max-parallel.label",
+            description = "@text/actions-input.milllan.bulk.max-parallel.description",
+            required = false
+        ) Integer maxParallel
+    ) {
+        OperationMode operationMode = OperationMode.typeOf(mode);
+        if (operationMode == null || operationMode == OperationMode.INVALID) {
+            logger.warn("Call to bulk setOperationMode Action failed because the mode \"{}\" is invalid", mode);
+            Map<String, Object> result = new HashMap<>();
+            result.put("result", "Failed: Invalid operation mode \"" + mode + '"');
+            return result;
+        }
+        String modeName = operationMode.name();
+        return execute("setOperationMode", targets, maxParallel, handler -> handler.setOperationMode(modeName));
+    }
+
+    /**
+     * Sets the {@code set-temperature} of the specified {@link TemperatureType} in all the targeted devices.
+     *
+     * @param targets the comma separated list of {@link ThingUID}s, {@link Item} names or tags.
+     * @param temperatureType the {@link TemperatureType} name, one of {@code NORMAL}, {@code COMFORT},
+     *        {@code SLEEP} or {@code AWAY}.
+     * @param temperature the set-temperature in degrees Celsius.
+     * @param maxParallel the maximum number of devices to write to at the same time or {@code null}
+     *        to use {@link #DEFAULT_MAX_PARALLEL}.
+     * @return The resulting {@link ActionOutput} {@link Map}.
+     */
+    @ActionOutputs(value = {
+        @ActionOutput(name = "result", type = "java.lang.String"),
+        @ActionOutput(name = "results", type = "java.util.Map"),
+        @ActionOutput(name = "timings", type = "java.util.Map")
+    })
+    @RuleAction(
+        label = "@text/actions.milllan.bulk-set-set-temperature.label",
+        description = "@text/actions.milllan.bulk-set-set-temperature.description"
+    )
+    public Map<String, Object> setSetTemperature(
+        @Nullable @ActionInput(
+            name = "targets",
+            label = "@text/actions-input.milllan.bulk.targets.label",
+            description = "@text/actions-input.milllan.bulk.targets.description",
+            required = true
+        ) String targets,
+        @Nullable @ActionInput(
+            name = "temperatureType",
+            label = "@text/actions-input.milllan.bulk-set-set-temperature.type.label",
+            description = "@text/actions-input.milllan.bulk-set-set-temperature.type.description",
+            required = true
+        ) String temperatureType,
+        @Nullable @ActionInput(
+            name = "temperature",
+            label = "@text/actions-input.milllan.bulk-set-set-temperature.temperature.label",
+            description = "@text/actions-input.milllan.bulk-set-set-temperature.temperature.description",
+            required = true
+        ) Number temperature,
+        @Nullable @ActionInput(
+            name = "maxParallel",
+            label = "@text/actions-input.milllan.bulk.max-parallel.label",
+            description = "@text/actions-input.milllan.bulk.max-parallel.description",
+            required = false
+        ) Integer maxParallel
+    ) {
+        Map<String, Object> result = new HashMap<>();
+        if (temperature == null) {
+            logger.warn("Call to bulk setSetTemperature Action failed because the temperature was null");
+            result.put("result", "Failed: The temperature parameter is null");
+            return result;
+        }
+        String channel;
+        TemperatureType type;
+        String typeName = temperatureType == null ? "" : temperatureType.trim().toUpperCase(Locale.ROOT);
+        switch (typeName) {
+            case "NORMAL":
+                type = TemperatureType.NORMAL;
+                channel = CHANNEL_NORMAL_SET_TEMPERATURE;
+                break;
+            case "COMFORT":
+                type = TemperatureType.COMFORT;
+                channel = CHANNEL_COMFORT_SET_TEMPERATURE;
+                break;
+            case "SLEEP":
+                type = TemperatureType.SLEEP;
+                channel = CHANNEL_SLEEP_SET_TEMPERATURE;
+                break;
+            case "AWAY":
+                type = TemperatureType.AWAY;
+                channel = CHANNEL_AWAY_SET_TEMPERATURE;
+                break;
+            default:
+                logger.warn(
+                    "Call to bulk setSetTemperature Action failed because the temperature type \"{}\" is invalid",
+                    temperatureType
+                );
+                result.put("result", "Failed: Invalid temperature type \"" + temperatureType + '"');
+                return result;
+        }
+        BigDecimal value = MillUtil.toBigDecimal(temperature);
+        return execute(
+            "setSetTemperature",
+            targets,
+            maxParallel,
+            handler -> handler.setSetTemperature(channel, type, value)
+        );
+    }
+
+    /**
+     * Executes the specified task for all the targeted devices, with the specified bounded parallelism,
+     * and waits for all of them to complete or {@link #BULK_TIMEOUT_SECONDS} to elapse. Writes that haven't
+     * started when the time is up are cancelled, so that they are never executed after being reported as
+     * failed.
+     *
+     * @param actionName the name of the {@link Action} used for logging and messages.
+     * @param targets the comma separated list of {@link ThingUID}s, {@link Item} names or tags.
+     * @param maxParallel the maximum number of devices to write to at the same time or {@code null}
+     *        to use {@link #DEFAULT_MAX_PARALLEL}.
+     * @param task the {@link DeviceTask} to execute for each device.
+     * @return The resulting {@link ActionOutput} {@link Map}.
+     */
+    protected Map<String, Object> execute(
+        String actionName,
+        @Nullable String targets,
+        @Nullable Integer maxParallel,
+        DeviceTask task
+    ) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(BULK_TIMEOUT_SECONDS);
+        Map<String, Object> result = new HashMap<>();
+        Map<String, String> results = new LinkedHashMap<>();
+        Map<String, Long> timings = new LinkedHashMap<>();
+        Map<String, CompletableFuture<DeviceResult>> futures = new LinkedHashMap<>();
+        Map<String, AtomicBoolean> started = new HashMap<>();
+
+        Set<ThingUID> thingUIDs = resolveTargets(targets);
+        if (thingUIDs.isEmpty()) {
+            logger.warn("Call to bulk {} Action failed because no targets were found for \"{}\"", actionName, targets);
+            result.put("result", "Failed: No Mill devices found for \"" + targets + '"');
+            return result;
+        }
+
+        Semaphore permits = new Semaphore(
+            maxParallel == null || maxParallel.intValue() < 1 ? DEFAULT_MAX_PARALLEL : maxParallel.intValue()
+        );
+        Thing thing;
+        ThingHandler handler;
+        for (ThingUID thingUID : thingUIDs) {
+            String uid = thingUID.getAsString();
+            thing = thingRegistry.get(thingUID);
+            handler = thing == null ? null : thing.getHandler();
+            if (!(handler instanceof AbstractMillThingHandler)) {
+                results.put(uid, "Failed: Not an initialized Mill Thing");
+                continue;
+            }
+            AbstractMillThingHandler millHandler = (AbstractMillThingHandler) handler;
+            try {
+                if (!permits.tryAcquire(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    results.put(uid, "Failed: Timed out while waiting to be executed");
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.put(uid, "Failed: Interrupted");
+                break;
+            }
+            // Whoever sets this first decides if the write runs, so that it never runs after it has timed out
+            AtomicBoolean claimed = new AtomicBoolean();
+            CompletableFuture<DeviceResult> future = millHandler.queueTask(() -> {
+                long taskStart = System.nanoTime();
+                if (!claimed.compareAndSet(false, true)) {
+                    return new DeviceResult("Cancelled", taskStart);
+                }
+                try {
+                    task.execute(millHandler);
+                    return new DeviceResult("OK", taskStart);
+                } catch (MillException e) {
+                    logger.warn(
+                        "Failed to execute bulk {} Action on Thing {}: {}",
+                        actionName,
+                        uid,
+                        e.getMessage()
+                    );
+                    return new DeviceResult("Failed: " + e.getMessage(), taskStart);
+                }
+            });
+            future.whenComplete((r, t) -> permits.release());
+            futures.put(uid, future);
+            started.put(uid, claimed);
+        }
+
+        int succeeded = 0;
+        DeviceResult deviceResult;
+        for (Entry<String, CompletableFuture<DeviceResult>> entry : futures.entrySet()) {
+            try {
+                deviceResult = entry.getValue().get(
+                    Math.max(0L, deadline - System.nanoTime()),
+                    TimeUnit.NANOSECONDS
+                );
+                results.put(entry.getKey(), deviceResult.message);
+                timings.put(entry.getKey(), Long.valueOf(deviceResult.durationMillis));
+                if ("OK".equals(deviceResult.message)) {
+                    succeeded++;
+                }
+            } catch (CancellationException e) {
+                results.put(entry.getKey(), "Cancelled");
+            } catch (TimeoutException e) {
+                AtomicBoolean claimed = started.get(entry.getKey());
+                if (claimed != null && claimed.compareAndSet(false, true)) {
+                    entry.getValue().cancel(false);
+                    results.put(entry.getKey(), "Failed: Timed out before the write was started");
+                } else {
+                    results.put(entry.getKey(), "Unknown: Timed out while the write was in progress");
+                }
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                results.put(entry.getKey(), "Failed: " + (cause == null ? e.getMessage() : cause.getMessage()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.put(entry.getKey(), "Failed: Interrupted");
+            }
+        }
+        long totalMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        logger.debug(
+            "Bulk {} Action succeeded for {} of {} devices in {} ms",
+            actionName,
+            succeeded,
+            results.size(),
+            totalMillis
+        );
+        result.put(
+            "result",
+            actionName + " succeeded for " + succeeded + " of " + results.size() + " devices in " +
+            totalMillis + " ms."
+        );
+        result.put("results", results);
+        result.put("timings", timings);
+        return result;
+    }
+
+    /**
+     * Resolves the specified targets into the {@link ThingUID}s of this binding.
+     *
+     * @param targets the comma separated list of {@link ThingUID}s, {@link Item} names or tags.
+     * @return The resulting {@link Set} of {@link ThingUID}s.
+     */
+    protected Set<ThingUID> resolveTargets(@Nullable String targets) {
+        Set<ThingUID> result = new LinkedHashSet<>();
+        if (targets == null || MillUtil.isBlank(targets)) {
+            return result;
+        }
+        for (String target : targets.split(",")) {
+            String s = target.trim();
+            if (s.isEmpty()) {
+                continue;
+            }
+            if (s.indexOf(':') >= 0) {
+                try {
+                    ThingUID thingUID = new ThingUID(s);
+                    if (BINDING_ID.equals(thingUID.getBindingId())) {
+                        result.add(thingUID);
+                    }
+                } catch (IllegalArgumentException e) {
+                    logger.warn("Ignoring invalid Thing UID \"{}\": {}", s, e.getMessage());
+                }
+                continue;
+            }
+
+            List<Item> items = new ArrayList<>();
+            Item item = itemRegistry.get(s);
+            if (item != null) {
+                items.add(item);
+                if (item instanceof GroupItem) {
+                    items.addAll(((GroupItem) item).getAllMembers());
+                }
+            } else {
+                Collection<Item> tagged = itemRegistry.getItemsByTag(s);
+                items.addAll(tagged);
+                for (Item taggedItem : tagged) {
+                    if (taggedItem instanceof GroupItem) {
+                        items.addAll(((GroupItem) taggedItem).getAllMembers());
+                    }
+                }
+            }
+            for (Item targetItem : items) {
+                for (Thing thing : linkRegistry.getBoundThings(targetItem.getName())) {
+                    if (BINDING_ID.equals(thing.getUID().getBindingId())) {
+                        result.add(thing.getUID());
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A task to execute for a single device.
+     */
+    @FunctionalInterface
+    protected interface DeviceTask {
+
+        /**
+         * Executes the task.
+         *
+         * @param handler the {@link AbstractMillThingHandler} of the device.
+         * @throws MillException If an error occurs during the operation.
+         */
+        void execute(AbstractMillThingHandler handler) throws MillException;
+    }
+
+    /**
+     * The result of a {@link DeviceTask} execution.
+     */
+    protected static class DeviceResult {
+
+        /** The result message */
+        public final String message;
+
+        /** The execution time in milliseconds */
+        public final long durationMillis;
+
+        /**
+         * Creates a new instance using the specified parameters.
+         *
+         * @param message the result message.
+         * @param startNanos the {@link System#nanoTime()} value when the execution started.
+         */
+        public DeviceResult(String message, long startNanos) {
+            this.message = message;
+            this.durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -14,6 +14,7 @@
 package org.openhab.binding.milllan.internal.action;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -201,6 +202,129 @@ public class MillOilActions extends MillBaseActions {
         return super.setAPIKey(apiKey, confirm);
     }
 
+    @Override
+    @ActionOutputs(value = {
+        @ActionOutput(name = "result", type = "java.lang.String"),
+        @ActionOutput(name = "future", type = "java.util.concurrent.CompletableFuture")
+    })
+    @RuleAction(
+        label = "@text/actions.milllan.send-reboot-async.label",
+        description = "@text/actions.milllan.send-reboot-async.description"
+    )
+    public @ActionOutput(name = "result", type = "java.lang.String") Map<String, Object> sendRebootAsync() {
+        return super.sendRebootAsync();
+    }
+
+    @Override
+    @ActionOutputs(value = {
+        @ActionOutput(name = "result", type = "java.lang.String"),
+        @ActionOutput(name = "future", type = "java.util.concurrent.CompletableFuture")
+    })
+    @RuleAction(
+        label = "@text/actions.milllan.set-timezone-offset-async.label",
+        description = "@text/actions.milllan.set-timezone-offset-async.description"
+    )
+    public @ActionOutput(name = "result", type = "java.lang.String") Map<String, Object> setTimeZoneOffsetAsync(
+        @Nullable @ActionInput(
+            name = "offset",
+            label = "@text/actions-input.milllan.set-timezone-offset.offset.label",
+            description = "@text/actions-input.milllan.set-timezone-offset.offset.description",
+            required = true
+        ) Integer offset
+    ) {
+        return super.setTimeZoneOffsetAsync(offset);
+    }
+
+    @Override
+    @ActionOutputs(value = {
+        @ActionOutput(name = "result", type = "java.lang.String"),
+        @ActionOutput(name = "future", type = "java.util.concurrent.CompletableFuture")
+    })
+    @RuleAction(
+        label = "@text/actions.milllan.set-cloud-communication-async.label",
+        description = "@text/actions.milllan.set-cloud-communication-async.description"
+    )
+    public @ActionOutput(name = "result", type = "java.lang.String") Map<String, Object> setCloudCommunicationAsync(
+        @Nullable @ActionInput(
+            name = "enabled",
+            label = "@text/actions-input.milllan.set-cloud-communication.enabled.label",
+            description = "@text/actions-input.milllan.set-cloud-communication.enabled.description",
+            required = true
+        ) Boolean enabled
+    ) {
+        return super.setCloudCommunicationAsync(enabled);
+    }
+
+    @Override
+    @ActionOutputs(value = {
+        @ActionOutput(name = "result", type = "java.lang.String"),
+        @ActionOutput(name = "future", type = "java.util.concurrent.CompletableFuture")
+    })
+    @RuleAction(
+        label = "@text/actions.milllan.set-hysteresis-parameters-async.label",
+        description = "@text/actions.milllan.set-hysteresis-parameters-async.description"
+    )
+    public @ActionOutput(name = "result", type = "java.lang.String") Map<String, Object> setHysteresisParametersAsync(
+        @Nullable @ActionInput(
+            name = "upper",
+            label = "@text/actions-input.milllan.set-hysteresis-parameters.upper.label",
+            description = "@text/actions-input.milllan.set-hysteresis-parameters.upper.description",
+            required = true
+        ) Double upper,
+        @Nullable @ActionInput(
+            name = "lower",
+            label = "@text/actions-input.milllan.set-hysteresis-parameters.lower.label",
+            description = "@text/actions-input.milllan.set-hysteresis-parameters.lower.description",
+            required = true
+        ) Double lower
+    ) {
+        return super.setHysteresisParametersAsync(upper, lower);
+    }
+
+    @Override
+    @ActionOutputs(value = {
+        @ActionOutput(name = "result", type = "java.lang.String"),
+        @ActionOutput(name = "future", type = "java.util.concurrent.CompletableFuture")
+    })
+    @RuleAction(
+        label = "@text/actions.milllan.set-open-window-parameters-async.label",
+        description = "@text/actions.milllan.set-open-window-parameters-async.description"
+    )
+    public @ActionOutput(name = "result", type = "java.lang.String") Map<String, Object> setOpenWindowParametersAsync(
+        @Nullable @ActionInput(
+            name = "dropTempThr",
+            label = "@text/actions-input.milllan.set-open-window-parameters.drop-temp-thr.label",
+            description = "@text/actions-input.milllan.set-open-window-parameters.drop-temp-thr.description",
+            required = true
+        ) Double dropTempThr,
+        @Nullable @ActionInput(
+            name = "dropTimeRange",
+            label = "@text/actions-input.milllan.set-open-window-parameters.drop-time-range.label",
+            description = "@text/actions-input.milllan.set-open-window-parameters.drop-time-range.description",
+            required = true
+        ) Integer dropTimeRange,
+        @Nullable @ActionInput(
+            name = "incTempThr",
+            label = "@text/actions-input.milllan.set-open-window-parameters.inc-temp-thr.label",
+            description = "@text/actions-input.milllan.set-open-window-parameters.inc-temp-thr.description",
+            required = true
+        ) Double incTempThr,
+        @Nullable @ActionInput(
+            name = "incTimeRange",
+            label = "@text/actions-input.milllan.set-open-window-parameters.inc-time-range.label",
+            description = "@text/actions-input.milllan.set-open-window-parameters.inc-time-range.description",
+            required = true
+        ) Integer incTimeRange,
+        @Nullable @ActionInput(
+            name = "maxTime",
+            label = "@text/actions-input.milllan.set-open-window-parameters.max-time.label",
+            description = "@text/actions-input.milllan.set-open-window-parameters.max-time.description",
+            required = true
+        ) Integer maxTime
+    ) {
+        return super.setOpenWindowParametersAsync(dropTempThr, dropTimeRange, incTempThr, incTimeRange, maxTime);
+    }
+
     // Methods for Rules DSL rule support
 
     /**
@@ -309,4 +433,78 @@ public class MillOilActions extends MillBaseActions {
     public static void setAPIKey(ThingActions actions, String apiKey, String confirm) {
         ((MillOilActions) actions).setAPIKey(apiKey, confirm);
     }
+
+    /**
+     * Queues sending a {@code reboot} command to the device and returns immediately.
+     *
+     * @param actions the {@link ThingActions} instance.
+     * @return The resulting {@link Map} holding the {@link CompletableFuture} under "future".
+     */
+    public static Map<String, Object> sendRebootAsync(ThingActions actions) {
+        return ((MillOilActions) actions).sendRebootAsync();
+    }
+
+    /**
+     * Queues setting the {@code time zone offset} in the device and returns immediately.
+     *
+     * @param actions the {@link ThingActions} instance.
+     * @param offset the offset from UTC in minutes.
+     * @return The resulting {@link Map} holding the {@link CompletableFuture} under "future".
+     */
+    public static Map<String, Object> setTimeZoneOffsetAsync(ThingActions actions, Integer offset) {
+        return ((MillOilActions) actions).setTimeZoneOffsetAsync(offset);
+    }
+
+    /**
+     * Queues setting whether {@code cloud communication} is enabled in the device and returns immediately.
+     *
+     * @param actions the {@link ThingActions} instance.
+     * @param enabled {@code true} to enabled cloud communication, {@code false} otherwise.
+     * @return The resulting {@link Map} holding the {@link CompletableFuture} under "future".
+     */
+    public static Map<String, Object> setCloudCommunicationAsync(ThingActions actions, Boolean enabled) {
+        return ((MillOilActions) actions).setCloudCommunicationAsync(enabled);
+    }
+
+    /**
+     * Queues setting the {@code hysteresis parameters} in the device and returns immediately.
+     *
+     * @param actions the {@link ThingActions} instance.
+     * @param upper the upper hysteresis limit in C.
+     * @param lower the lower hysteresis limit in C.
+     * @return The resulting {@link Map} holding the {@link CompletableFuture} under "future".
+     */
+    public static Map<String, Object> setHysteresisParametersAsync(ThingActions actions, Double upper, Double lower) {
+        return ((MillOilActions) actions).setHysteresisParametersAsync(upper, lower);
+    }
+
+    /**
+     * Queues setting the {@code open window parameters} in the device and returns immediately.
+     *
+     * @param actions the {@link ThingActions} instance.
+     * @param dropTempThr the temperature drop required to trigger (activate) the open
+     *        window function in C.
+     * @param dropTimeRange the time range for which a drop in temperature will be evaluated in seconds.
+     * @param incTempThr the temperature increase required to deactivate the open window
+     *        function in C.
+     * @param incTimeRange the time range for which an increase in temperature will be evaluated in seconds.
+     * @param maxTime the maximum time the open window function will remain active.
+     * @return The resulting {@link Map} holding the {@link CompletableFuture} under "future".
+     */
+    public static Map<String, Object> setOpenWindowParametersAsync(
+        ThingActions actions,
+        Double dropTempThr,
+        Integer dropTimeRange,
+        Double incTempThr,
+        Integer incTimeRange,
+        Integer maxTime
+    ) {
+        return ((MillOilActions) actions).setOpenWindowParametersAsync(
+            dropTempThr,
+            dropTimeRange,
+            incTempThr,
+            incTimeRange,
+            maxTime
+        );
+    }
 }
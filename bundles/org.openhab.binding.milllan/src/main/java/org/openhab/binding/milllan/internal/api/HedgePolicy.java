@@ -0,0 +1,97 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.api;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+
+/**
+ * This class decides when a duplicate ("hedge") of an idempotent request is sent to a single device, and
+ * limits how many hedges are sent so that the device isn't overloaded. It is thread-safe.
+ * <p>
+ * A hedge is sent if no response has been received within the observed 95th percentile round-trip time of
+ * the device. Every hedgeable request adds {@link #BUDGET_RATIO} to the budget and every hedge uses one,
+ * which means that at most about one in ten requests are hedged over time.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public class HedgePolicy {
+
+    /** The shortest time to wait for a response before a hedge is sent */
+    public static final long MIN_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(50L);
+
+    /** The time to wait for a response before a hedge is sent when the round-trip time is unknown */
+    public static final long DEFAULT_DELAY_NANOS = TimeUnit.SECONDS.toNanos(1L);
+
+    /** The budget added for every hedgeable request */
+    public static final double BUDGET_RATIO = 0.1;
+
+    /** The maximum budget that can be saved up */
+    public static final double MAX_BUDGET = 2.0;
+
+    /** The {@link LongSupplier} of the 95th percentile round-trip time in nanoseconds, or {@code -1} */
+    private final LongSupplier p95Supplier;
+
+    /** The current budget, <b>must be synchronized</b> on {@code this}! */
+    private double budget = 1.0;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param p95Supplier the {@link LongSupplier} that supplies the observed 95th percentile round-trip time
+     *        of the device in nanoseconds, or {@code -1} if it's unknown.
+     */
+    public HedgePolicy(LongSupplier p95Supplier) {
+        this.p95Supplier = p95Supplier;
+    }
+
+    /**
+     * @return The time in nanoseconds to wait for a response before a hedge is sent.
+     */
+    public long getDelayNanos() {
+        long p95 = p95Supplier.getAsLong();
+        return p95 < 0L ? DEFAULT_DELAY_NANOS : Math.max(MIN_DELAY_NANOS, p95);
+    }
+
+    /**
+     * Registers that a hedgeable request is sent, which adds to the budget.
+     */
+    public synchronized void requestStarted() {
+        budget = Math.min(MAX_BUDGET, budget + BUDGET_RATIO);
+    }
+
+    /**
+     * Tries to use the budget for one hedge.
+     *
+     * @return {@code true} if a hedge may be sent, {@code false} if the budget is exhausted.
+     */
+    public synchronized boolean tryAcquire() {
+        if (budget < 1.0) {
+            return false;
+        }
+        budget -= 1.0;
+        return true;
+    }
+
+    /**
+     * Resets the budget to its initial value.
+     */
+    public synchronized void reset() {
+        budget = 1.0;
+    }
+}
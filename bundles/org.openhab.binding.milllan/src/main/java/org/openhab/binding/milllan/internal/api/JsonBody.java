@@ -0,0 +1,256 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+
+/**
+ * This class creates the {@code JSON} request bodies sent to the devices as {@code UTF-8} encoded byte arrays.
+ * <p>
+ * Bodies that consist of a single enum or boolean value are created once, and the same array is returned
+ * every time. Other bodies are written directly to a byte array by a {@link Writer}, without creating an
+ * intermediate {@code JSON} tree or {@link String}. The returned arrays must not be modified.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public final class JsonBody {
+
+    /** The {@link Gson} instance used to serialize the enum values, so that their serialized names are used */
+    private static final Gson GSON = new GsonBuilder().create();
+
+    private static final Map<OperationMode, byte[]> OPERATION_MODES = createBodies(OperationMode.class, "mode");
+
+    private static final Map<DisplayUnit, byte[]> DISPLAY_UNITS = createBodies(DisplayUnit.class, "value");
+
+    private static final Map<ControllerType, byte[]> CONTROLLER_TYPES = createBodies(
+        ControllerType.class,
+        "regulator_type"
+    );
+
+    private static final Map<PredictiveHeatingType, byte[]> PREDICTIVE_HEATING_TYPES = createBodies(
+        PredictiveHeatingType.class,
+        "predictive_heating_type"
+    );
+
+    private static final Map<TemperatureType, byte[]> TEMPERATURE_TYPES = createBodies(
+        TemperatureType.class,
+        "type"
+    );
+
+    /** The serialized {@link TemperatureType} values, used when writing bodies with more fields */
+    private static final Map<TemperatureType, byte[]> TEMPERATURE_TYPE_VALUES = createValues(TemperatureType.class);
+
+    private static final byte[] VALUE_TRUE = writer().add("value", true).toBytes();
+
+    private static final byte[] VALUE_FALSE = writer().add("value", false).toBytes();
+
+    /**
+     * Not to be instantiated.
+     */
+    private JsonBody() {
+    }
+
+    /**
+     * @param mode the {@link OperationMode}.
+     * @return The body {@code {"mode":<mode>}}.
+     */
+    public static byte[] operationMode(OperationMode mode) {
+        return get(OPERATION_MODES, mode);
+    }
+
+    /**
+     * @param displayUnit the {@link DisplayUnit}.
+     * @return The body {@code {"value":<displayUnit>}}.
+     */
+    public static byte[] displayUnit(DisplayUnit displayUnit) {
+        return get(DISPLAY_UNITS, displayUnit);
+    }
+
+    /**
+     * @param controllerType the {@link ControllerType}.
+     * @return The body {@code {"regulator_type":<controllerType>}}.
+     */
+    public static byte[] controllerType(ControllerType controllerType) {
+        return get(CONTROLLER_TYPES, controllerType);
+    }
+
+    /**
+     * @param type the {@link PredictiveHeatingType}.
+     * @return The body {@code {"predictive_heating_type":<type>}}.
+     */
+    public static byte[] predictiveHeatingType(PredictiveHeatingType type) {
+        return get(PREDICTIVE_HEATING_TYPES, type);
+    }
+
+    /**
+     * @param temperatureType the {@link TemperatureType}.
+     * @return The body {@code {"type":<temperatureType>}}.
+     */
+    public static byte[] temperatureType(TemperatureType temperatureType) {
+        return get(TEMPERATURE_TYPES, temperatureType);
+    }
+
+    /**
+     * @param value the boolean value.
+     * @return The body {@code {"value":<value>}}.
+     */
+    public static byte[] value(boolean value) {
+        return value ? VALUE_TRUE : VALUE_FALSE;
+    }
+
+    /**
+     * Serializes the specified object using {@link Gson}, for bodies that contain text that might need
+     * escaping or that are sent too rarely to be worth writing by hand.
+     *
+     * @param object the object to serialize.
+     * @return The serialized object.
+     */
+    public static byte[] toJson(Object object) {
+        return GSON.toJson(object).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return A new {@link Writer}.
+     */
+    public static Writer writer() {
+        return new Writer();
+    }
+
+    private static <E extends Enum<E>> byte[] get(Map<E, byte[]> bodies, E key) {
+        byte[] result = bodies.get(key);
+        if (result == null) {
+            throw new IllegalArgumentException("No body for " + key);
+        }
+        return result;
+    }
+
+    private static <E extends Enum<E>> Map<E, byte[]> createValues(Class<E> enumClass) {
+        Map<E, byte[]> result = new EnumMap<>(enumClass);
+        for (E constant : enumClass.getEnumConstants()) {
+            result.put(constant, GSON.toJson(constant).getBytes(StandardCharsets.UTF_8));
+        }
+        return result;
+    }
+
+    private static <E extends Enum<E>> Map<E, byte[]> createBodies(Class<E> enumClass, String name) {
+        Map<E, byte[]> result = new EnumMap<>(enumClass);
+        for (Map.Entry<E, byte[]> entry : createValues(enumClass).entrySet()) {
+            result.put(entry.getKey(), writer().addRaw(name, entry.getValue()).toBytes());
+        }
+        return result;
+    }
+
+    /**
+     * A writer of flat {@code JSON} objects with numeric, boolean and {@link TemperatureType} fields. The
+     * field names must be plain {@code ASCII} that doesn't need escaping.
+     */
+    public static class Writer {
+
+        private byte[] buffer = new byte[64];
+        private int length;
+
+        private Writer() {
+            buffer[length++] = '{';
+        }
+
+        /**
+         * Adds a numeric field.
+         *
+         * @param name the field name.
+         * @param value the value.
+         * @return This {@link Writer}.
+         */
+        public Writer add(String name, Number value) {
+            name(name);
+            writeASCII(value.toString());
+            return this;
+        }
+
+        /**
+         * Adds a boolean field.
+         *
+         * @param name the field name.
+         * @param value the value.
+         * @return This {@link Writer}.
+         */
+        public Writer add(String name, boolean value) {
+            name(name);
+            writeASCII(value ? "true" : "false");
+            return this;
+        }
+
+        /**
+         * Adds a {@link TemperatureType} field.
+         *
+         * @param name the field name.
+         * @param value the value.
+         * @return This {@link Writer}.
+         */
+        public Writer add(String name, TemperatureType value) {
+            return addRaw(name, get(TEMPERATURE_TYPE_VALUES, value));
+        }
+
+        /**
+         * @return The resulting body.
+         */
+        public byte[] toBytes() {
+            ensureCapacity(1);
+            buffer[length++] = '}';
+            return Arrays.copyOf(buffer, length);
+        }
+
+        private Writer addRaw(String name, byte[] value) {
+            name(name);
+            ensureCapacity(value.length);
+            System.arraycopy(value, 0, buffer, length, value.length);
+            length += value.length;
+            return this;
+        }
+
+        private void name(String name) {
+            ensureCapacity(name.length() + 4);
+            if (length > 1) {
+                buffer[length++] = ',';
+            }
+            buffer[length++] = '"';
+            writeASCII(name);
+            buffer[length++] = '"';
+            buffer[length++] = ':';
+        }
+
+        private void writeASCII(String s) {
+            int len = s.length();
+            ensureCapacity(len);
+            for (int i = 0; i < len; i++) {
+                buffer[length++] = (byte) s.charAt(i);
+            }
+        }
+
+        private void ensureCapacity(int additional) {
+            if (length + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + additional));
+            }
+        }
+    }
+}
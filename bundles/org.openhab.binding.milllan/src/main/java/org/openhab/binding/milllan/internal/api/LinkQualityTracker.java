@@ -0,0 +1,147 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.api;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+
+/**
+ * This class keeps track of the link quality of a single device, based on the last {@code N}
+ * completed requests. It is thread-safe.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public class LinkQualityTracker {
+
+    /** The round-trip times of the successful requests in nanoseconds, used as a ring buffer */
+    private final long[] durations;
+
+    /** Whether the requests were successful, used as a ring buffer */
+    private final boolean[] successes;
+
+    /** The next ring buffer index, <b>must be synchronized</b> on {@code this}! */
+    private int next;
+
+    /** The number of used ring buffer entries, <b>must be synchronized</b> on {@code this}! */
+    private int count;
+
+    /** The round-trip time of the last successful request, <b>must be synchronized</b> on {@code this}! */
+    private long lastDuration = -1L;
+
+    /** The number of failures since the last success, <b>must be synchronized</b> on {@code this}! */
+    private int consecutiveFailures;
+
+    /**
+     * Creates a new instance that evaluates the specified number of requests.
+     *
+     * @param size the number of requests to evaluate.
+     */
+    public LinkQualityTracker(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+        this.durations = new long[size];
+        this.successes = new boolean[size];
+    }
+
+    /**
+     * Registers a completed request. Only {@link RequestEvent#isLinkFailure() link failures} count as
+     * failures, other responses count as successes since they prove that the link works. Requests that
+     * were never sent are ignored.
+     *
+     * @param event the {@link RequestEvent} describing the request.
+     */
+    public synchronized void add(RequestEvent event) {
+        if (!event.isSent()) {
+            return;
+        }
+        boolean success = !event.isLinkFailure();
+        successes[next] = success;
+        durations[next] = success ? event.getDurationNanos() : -1L;
+        next = (next + 1) % durations.length;
+        if (count < durations.length) {
+            count++;
+        }
+        if (success) {
+            lastDuration = event.getDurationNanos();
+            consecutiveFailures = 0;
+        } else {
+            consecutiveFailures++;
+        }
+    }
+
+    /**
+     * Removes all registered requests.
+     */
+    public synchronized void clear() {
+        next = 0;
+        count = 0;
+        lastDuration = -1L;
+        consecutiveFailures = 0;
+    }
+
+    /**
+     * @return The round-trip time of the last successful request in nanoseconds, or {@code -1}
+     *         if no request has succeeded.
+     */
+    public synchronized long getLastDurationNanos() {
+        return lastDuration;
+    }
+
+    /**
+     * @return The 95th percentile round-trip time of the successful requests in nanoseconds, or {@code -1}
+     *         if none of the evaluated requests succeeded.
+     */
+    public synchronized long getP95DurationNanos() {
+        long[] values = new long[count];
+        int i = 0;
+        for (int j = 0; j < count; j++) {
+            if (durations[j] >= 0L) {
+                values[i++] = durations[j];
+            }
+        }
+        if (i == 0) {
+            return -1L;
+        }
+        Arrays.sort(values, 0, i);
+        return values[Math.max(0, (int) Math.ceil(i * 0.95) - 1)];
+    }
+
+    /**
+     * @return The percentage of the evaluated requests that were successful from {@code 0} to {@code 100},
+     *         or {@code -1} if no requests have been registered.
+     */
+    public synchronized double getSuccessPercentage() {
+        if (count == 0) {
+            return -1.0;
+        }
+        int succeeded = 0;
+        for (int j = 0; j < count; j++) {
+            if (successes[j]) {
+                succeeded++;
+            }
+        }
+        return succeeded * 100.0 / count;
+    }
+
+    /**
+     * @return The number of failed requests since the last successful request.
+     */
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+}
@@ -13,16 +13,24 @@
  */
 package org.openhab.binding.milllan.internal.api;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -51,6 +59,7 @@ import org.openhab.binding.milllan.internal.api.response.SetTemperatureResponse;
 import org.openhab.binding.milllan.internal.api.response.StatusResponse;
 import org.openhab.binding.milllan.internal.api.response.TemperatureCalibrationOffsetResponse;
 import org.openhab.binding.milllan.internal.api.response.TimeZoneOffsetResponse;
+import org.openhab.binding.milllan.internal.exception.MillCommunicationException;
 import org.openhab.binding.milllan.internal.exception.MillException;
 import org.openhab.binding.milllan.internal.exception.MillHTTPResponseException;
 import org.openhab.binding.milllan.internal.http.MillHTTPClientProvider;
@@ -76,13 +85,109 @@ public class MillAPITool {
     private final MillHTTPClientProvider httpClientProvider;
     private final Gson gson = new GsonBuilder().create();
 
+    /** The {@link RequestLimiter} or {@code null} if requests aren't limited */
+    @Nullable
+    private final RequestLimiter limiter;
+
+    /** The timeout in milliseconds that overrides the request specific timeouts, or {@code 0} */
+    private final long timeoutOverrideMillis;
+
+    /** The registered {@link RequestListener}s */
+    private final List<RequestListener> listeners = new CopyOnWriteArrayList<>();
+
+    /** The {@link RequestListener}s registered for a single device by device key */
+    private final Map<String, List<RequestListener>> deviceListeners = new ConcurrentHashMap<>();
+
     /**
      * Creates a new instance.
      *
      * @param httpClientProvider the {@link MillHTTPClientProvider} to use.
      */
     public MillAPITool(MillHTTPClientProvider httpClientProvider) {
+        this(httpClientProvider, null, 0L);
+    }
+
+    /**
+     * Creates a new instance using the specified parameters.
+     *
+     * @param httpClientProvider the {@link MillHTTPClientProvider} to use.
+     * @param limiter the {@link RequestLimiter} to use or {@code null}.
+     * @param timeoutOverrideMillis the timeout in milliseconds to use for all requests, or {@code 0} to use
+     *        the request specific timeouts.
+     */
+    public MillAPITool(
+        MillHTTPClientProvider httpClientProvider,
+        @Nullable RequestLimiter limiter,
+        long timeoutOverrideMillis
+    ) {
         this.httpClientProvider = httpClientProvider;
+        this.limiter = limiter;
+        this.timeoutOverrideMillis = timeoutOverrideMillis;
+    }
+
+    /**
+     * Registers a {@link RequestListener} that will be notified when requests complete.
+     *
+     * @param listener the {@link RequestListener} to add.
+     */
+    public void addRequestListener(RequestListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a {@link RequestListener}.
+     *
+     * @param listener the {@link RequestListener} to remove.
+     */
+    public void removeRequestListener(RequestListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Registers a {@link RequestListener} that will be notified when requests to the specified device
+     * complete.
+     *
+     * @param deviceKey the device key as returned by {@link #getDeviceKey(String)}.
+     * @param listener the {@link RequestListener} to add.
+     */
+    public void addRequestListener(String deviceKey, RequestListener listener) {
+        deviceListeners.compute(deviceKey, (k, v) -> {
+            List<RequestListener> result = v == null ? new CopyOnWriteArrayList<>() : v;
+            result.add(listener);
+            return result;
+        });
+    }
+
+    /**
+     * Unregisters a {@link RequestListener} registered for the specified device.
+     *
+     * @param deviceKey the device key as returned by {@link #getDeviceKey(String)}.
+     * @param listener the {@link RequestListener} to remove.
+     */
+    public void removeRequestListener(String deviceKey, RequestListener listener) {
+        deviceListeners.computeIfPresent(deviceKey, (k, v) -> {
+            v.remove(listener);
+            return v.isEmpty() ? null : v;
+        });
+    }
+
+    /**
+     * Returns the key that identifies a device among the registered {@link RequestListener}s.
+     *
+     * @param hostname the configured hostname, with or without port number.
+     * @return The device key.
+     * @throws NumberFormatException If the port number is invalid.
+     */
+    public static String getDeviceKey(String hostname) {
+        return getDeviceKey(MillUtil.getHost(hostname), MillUtil.getPort(hostname));
+    }
+
+    private static String getDeviceKey(@Nullable String host, int port) {
+        String s = host == null ? "" : host;
+        if (s.startsWith("[") && s.endsWith("]")) {
+            s = s.substring(1, s.length() - 1);
+        }
+        return s.toLowerCase(Locale.ROOT) + '|' + port;
     }
 
     /**
@@ -107,6 +212,72 @@ public class MillAPITool {
         );
     }
 
+    /**
+     * Sends {@code GET/status} without an API key to the device's REST API asynchronously. The returned
+     * {@link CompletableFuture} completes with the response, or exceptionally with a {@link MillException}.
+     * Cancelling it aborts the request. The request isn't subject to the request limits, and the
+     * {@link RequestListener}s aren't notified.
+     *
+     * @param hostname the hostname or IP address to contact.
+     * @param timeout the timeout value.
+     * @param timeUnit the timeout {@link TimeUnit}.
+     * @return The {@link CompletableFuture} that completes with the resulting {@link StatusResponse}.
+     */
+    public CompletableFuture<StatusResponse> getStatusAsync(String hostname, long timeout, TimeUnit timeUnit) {
+        URI uri;
+        try {
+            uri = new URI(
+                "http",
+                null,
+                MillUtil.getHost(hostname),
+                MillUtil.getPort(hostname),
+                "/status",
+                null,
+                null
+            );
+        } catch (URISyntaxException | NumberFormatException e) {
+            return CompletableFuture.failedFuture(new MillException(
+                "Invalid hostname \"" + hostname + '"',
+                ThingStatusDetail.CONFIGURATION_ERROR,
+                e
+            ));
+        }
+        CompletableFuture<ContentResponse> response = httpClientProvider.sendAsync(
+            uri,
+            HttpMethod.GET,
+            null,
+            timeout,
+            timeUnit
+        );
+        CompletableFuture<StatusResponse> result = new CompletableFuture<>();
+        result.whenComplete((r, t) -> {
+            if (result.isCancelled()) {
+                response.cancel(true);
+            }
+        });
+        response.whenComplete((r, t) -> {
+            if (t != null) {
+                result.completeExceptionally(t);
+                return;
+            }
+            try {
+                result.complete(decodeResponse(
+                    StatusResponse.class,
+                    uri,
+                    r.getStatus(),
+                    r.getContent(),
+                    r.getEncoding(),
+                    r.getMediaType(),
+                    true,
+                    new RequestEvent(uri, HttpMethod.GET)
+                ));
+            } catch (MillException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
     /**
      * Sends {@code GET/control-status} to the device's REST API and returns the response.
      *
@@ -116,6 +287,24 @@ public class MillAPITool {
      * @throws MillException If an error occurs during the operation.
      */
     public ControlStatusResponse getControlStatus(String hostname, @Nullable String apiKey) throws MillException {
+        return getControlStatus(hostname, apiKey, null);
+    }
+
+    /**
+     * Sends {@code GET/control-status} to the device's REST API and returns the response. If a
+     * {@link HedgePolicy} is specified, a duplicate request is sent if the response is slow.
+     *
+     * @param hostname the hostname or IP address to contact.
+     * @param apiKey the API key or {@code null}.
+     * @param hedgePolicy the {@link HedgePolicy} to use or {@code null} to never send a duplicate request.
+     * @return The resulting {@link ControlStatusResponse}.
+     * @throws MillException If an error occurs during the operation.
+     */
+    public ControlStatusResponse getControlStatus(
+        String hostname,
+        @Nullable String apiKey,
+        @Nullable HedgePolicy hedgePolicy
+    ) throws MillException {
         return request(
             ControlStatusResponse.class,
             hostname,
@@ -125,7 +314,8 @@ public class MillAPITool {
             null,
             8L,
             TimeUnit.SECONDS,
-            true
+            true,
+            hedgePolicy
         );
     }
 
@@ -165,15 +355,13 @@ public class MillAPITool {
         @Nullable String apiKey,
         OperationMode mode
     ) throws MillException {
-        JsonObject object = new JsonObject();
-        object.add("mode", gson.toJsonTree(mode));
         return request(
             GenericResponse.class,
             hostname,
             apiKey,
             HttpMethod.POST,
             "/operation-mode",
-            gson.toJson(object),
+            JsonBody.operationMode(mode),
             5L,
             TimeUnit.SECONDS,
             false
@@ -219,15 +407,16 @@ public class MillAPITool {
         @Nullable String apiKey,
         BigDecimal offset
     ) throws MillException {
-        JsonObject object = new JsonObject();
-        object.addProperty("value", offset);
+        byte[] body = JsonBody.writer()
+            .add("value", offset)
+            .toBytes();
         return request(
             GenericResponse.class,
             hostname,
             apiKey,
             HttpMethod.POST,
             "/temperature-calibration-offset",
-            gson.toJson(object),
+            body,
             5L,
             TimeUnit.SECONDS,
             false
@@ -266,15 +455,13 @@ public class MillAPITool {
      * @throws MillException If an error occurs during the operation.
      */
     public Response setCommercialLock(String hostname, @Nullable String apiKey, Boolean value) throws MillException {
-        JsonObject object = new JsonObject();
-        object.addProperty("value", value);
         return request(
             GenericResponse.class,
             hostname,
             apiKey,
             HttpMethod.POST,
             "/commercial-lock",
-            gson.toJson(object),
+            JsonBody.value(value.booleanValue()),
             5L,
             TimeUnit.SECONDS,
             false
@@ -313,15 +500,13 @@ public class MillAPITool {
      * @throws MillException If an error occurs during the operation.
      */
     public Response setChildLock(String hostname, @Nullable String apiKey, Boolean value) throws MillException {
-        JsonObject object = new JsonObject();
-        object.addProperty("value", value);
         return request(
             GenericResponse.class,
             hostname,
             apiKey,
             HttpMethod.POST,
             "/child-lock",
-            gson.toJson(object),
+            JsonBody.value(value.booleanValue()),
             5L,
             TimeUnit.SECONDS,
             false
@@ -364,15 +549,13 @@ public class MillAPITool {
         @Nullable String apiKey,
         DisplayUnit displayUnit
     ) throws MillException {
-        JsonObject object = new JsonObject();
-        object.add("value", gson.toJsonTree(displayUnit));
         return request(
             GenericResponse.class,
             hostname,
             apiKey,
             HttpMethod.POST,
             "/display-unit",
-            gson.toJson(object),
+            JsonBody.displayUnit(displayUnit),
             5L,
             TimeUnit.SECONDS,
             false
@@ -393,15 +576,13 @@ public class MillAPITool {
         @Nullable String apiKey,
         TemperatureType temperatureType
     ) throws MillException {
-        JsonObject object = new JsonObject();
-        object.add("type", gson.toJsonTree(temperatureType));
         return request(
             SetTemperatureResponse.class,
             hostname,
             apiKey,
             HttpMethod.GET,
             "/set-temperature",
-            gson.toJson(object),
+            JsonBody.temperatureType(temperatureType),
             5L,
             TimeUnit.SECONDS,
             true
@@ -424,16 +605,17 @@ public class MillAPITool {
         TemperatureType temperatureType,
         BigDecimal value
     ) throws MillException {
-        JsonObject object = new JsonObject();
-        object.add("type", gson.toJsonTree(temperatureType));
-        object.addProperty("value", value);
+        byte[] body = JsonBody.writer()
+            .add("type", temperatureType)
+            .add("value", value)
+            .toBytes();
         return request(
             GenericResponse.class,
             hostname,
             apiKey,
             HttpMethod.POST,
             "/set-temperature",
-            gson.toJson(object),
+            body,
             5L,
             TimeUnit.SECONDS,
             false
@@ -481,15 +663,16 @@ public class MillAPITool {
         @Nullable String apiKey,
         Integer value
     ) throws MillException {
-        JsonObject object = new JsonObject();
-        object.addProperty("limited_heating_power", value);
+        byte[] body = JsonBody.writer()
+            .add("limited_heating_power", value)
+            .toBytes();
         return request(
             GenericResponse.class,
             hostname,
             apiKey,
             HttpMethod.POST,
             "/limited-heating-power",
-            gson.toJson(object),
+            body,
             5L,
             TimeUnit.SECONDS,
             false
@@ -532,15 +715,13 @@ public class MillAPITool {
         String apiKey,
         ControllerType controllerType
     ) throws MillException {
-        JsonObject object = new JsonObject();
-        object.add("regulator_type", gson.toJsonTree(controllerType));
         return request(
             GenericResponse.class,
             hostname,
             apiKey,
             HttpMethod.POST,
             "/controller-type",
-            gson.toJson(object),
+            JsonBody.controllerType(controllerType),
             5L,
             TimeUnit.SECONDS,
             false
@@ -586,15 +767,13 @@ public class MillAPITool {
         @Nullable String apiKey,
         PredictiveHeatingType type
     ) throws MillException {
-        JsonObject object = new JsonObject();
-        object.add("predictive_heating_type", gson.toJsonTree(type));
         return request(
             GenericResponse.class,
             hostname,
             apiKey,
             HttpMethod.POST,
             "/predictive-heating-type",
-            gson.toJson(object),
+            JsonBody.predictiveHeatingType(type),
             5L,
             TimeUnit.SECONDS,
             false
@@ -633,15 +812,16 @@ public class MillAPITool {
      * @throws MillException If an error occurs during the operation.
      */
     public Response setOilHeaterPower(String hostname, @Nullable String apiKey, Integer value) throws MillException {
-        JsonObject object = new JsonObject();
-        object.addProperty("heating_level_percentage", value);
+        byte[] body = JsonBody.writer()
+            .add("heating_level_percentage", value)
+            .toBytes();
         return request(
             GenericResponse.class,
             hostname,
             apiKey,
             HttpMethod.POST,
             "/oil-heater-power",
-            gson.toJson(object),
+            body,
             5L,
             TimeUnit.SECONDS,
             false
@@ -680,15 +860,16 @@ public class MillAPITool {
      * @throws MillException If an error occurs during the operation.
      */
     public Response setTimeZoneOffset(String hostname, @Nullable String apiKey, Integer value) throws MillException {
-        JsonObject object = new JsonObject();
-        object.addProperty("timezone_offset", value);
+        byte[] body = JsonBody.writer()
+            .add("timezone_offset", value)
+            .toBytes();
         return request(
             GenericResponse.class,
             hostname,
             apiKey,
             HttpMethod.POST,
             "/timezone-offset",
-            gson.toJson(object),
+            body,
             5L,
             TimeUnit.SECONDS,
             false
@@ -741,19 +922,20 @@ public class MillAPITool {
         Double kdFilterN,
         Double windupLimitPercentage
     ) throws MillException {
-        JsonObject object = new JsonObject();
-        object.addProperty("kp", kp);
-        object.addProperty("ki", ki);
-        object.addProperty("kd", kd);
-        object.addProperty("kd_filter_N", kdFilterN);
-        object.addProperty("windup_limit_percentage", windupLimitPercentage);
+        byte[] body = JsonBody.writer()
+            .add("kp", kp)
+            .add("ki", ki)
+            .add("kd", kd)
+            .add("kd_filter_N", kdFilterN)
+            .add("windup_limit_percentage", windupLimitPercentage)
+            .toBytes();
         return request(
             GenericResponse.class,
             hostname,
             apiKey,
             HttpMethod.POST,
             "/pid-parameters",
-            gson.toJson(object),
+            body,
             5L,
             TimeUnit.SECONDS,
             false
@@ -799,15 +981,13 @@ public class MillAPITool {
         @Nullable String apiKey,
         Boolean value
     ) throws MillException {
-        JsonObject object = new JsonObject();
-        object.addProperty("value", value);
         return request(
             GenericResponse.class,
             hostname,
             apiKey,
             HttpMethod.POST,
             "/cloud-communication",
-            gson.toJson(object),
+            JsonBody.value(value.booleanValue()),
             5L,
             TimeUnit.SECONDS,
             false
@@ -857,16 +1037,17 @@ public class MillAPITool {
         Double upper,
         Double lower
     ) throws MillException {
-        JsonObject object = new JsonObject();
-        object.addProperty("temp_hysteresis_upper", upper);
-        object.addProperty("temp_hysteresis_lower", lower);
+        byte[] body = JsonBody.writer()
+            .add("temp_hysteresis_upper", upper)
+            .add("temp_hysteresis_lower", lower)
+            .toBytes();
         return request(
             GenericResponse.class,
             hostname,
             apiKey,
             HttpMethod.POST,
             "/hysteresis-parameters",
-            gson.toJson(object),
+            body,
             5L,
             TimeUnit.SECONDS,
             false
@@ -889,15 +1070,16 @@ public class MillAPITool {
         @Nullable String apiKey,
         BigDecimal value
     ) throws MillException {
-        JsonObject object = new JsonObject();
-        object.addProperty("temperature", value);
+        byte[] body = JsonBody.writer()
+            .add("temperature", value)
+            .toBytes();
         return request(
             GenericResponse.class,
             hostname,
             apiKey,
             HttpMethod.POST,
             "/set-temperature-in-independent-mode-now",
-            gson.toJson(object),
+            body,
             5L,
             TimeUnit.SECONDS,
             false
@@ -922,7 +1104,7 @@ public class MillAPITool {
             apiKey,
             HttpMethod.POST,
             "/set-custom-name",
-            gson.toJson(object),
+            JsonBody.toJson(object),
             5L,
             TimeUnit.SECONDS,
             false
@@ -986,17 +1168,18 @@ public class MillAPITool {
             enabled = Boolean.FALSE;
         }
 
-        JsonObject object = new JsonObject();
-        object.addProperty("enabled", enabled);
-        object.addProperty("min_allowed_temp_in_commercial_lock", min);
-        object.addProperty("max_allowed_temp_in_commercial_lock", max);
+        byte[] body = JsonBody.writer()
+            .add("enabled", enabled.booleanValue())
+            .add("min_allowed_temp_in_commercial_lock", min)
+            .add("max_allowed_temp_in_commercial_lock", max)
+            .toBytes();
         return request(
             GenericResponse.class,
             hostname,
             apiKey,
             HttpMethod.POST,
             "/commercial-lock-customization",
-            gson.toJson(object),
+            body,
             5L,
             TimeUnit.SECONDS,
             false
@@ -1048,7 +1231,7 @@ public class MillAPITool {
             apiKey,
             HttpMethod.POST,
             "/open-window",
-            gson.toJson(parameters),
+            JsonBody.toJson(parameters),
             5L,
             TimeUnit.SECONDS,
             false
@@ -1081,7 +1264,7 @@ public class MillAPITool {
             apiKey,
             HttpMethod.POST,
             "/set-api-key",
-            gson.toJson(object),
+            JsonBody.toJson(object),
             5L,
             TimeUnit.SECONDS,
             false
@@ -1118,11 +1301,11 @@ public class MillAPITool {
      *
      * @param <T> the {@link Response} class.
      * @param clazz the class type to deserialize the response to.
-     * @param hostname the hostname or IP address to contact.
+     * @param hostname the hostname or IP address to contact, optionally followed by {@code :} and a port number.
      * @param apiKey the API key or {@code null}.
      * @param method the {@link HttpMethod} to use.
      * @param path the URI path to use.
-     * @param content the request body or {@code null}.
+     * @param content the {@code UTF-8} encoded request body or {@code null}.
      * @param timeout the timeout value.
      * @param timeUnit the timeout {@link TimeUnit}.
      * @param throwOnAPIStatus if {@code true}, an exception is thrown if the returned API {@code status}
@@ -1137,16 +1320,60 @@ public class MillAPITool {
         @Nullable String apiKey,
         HttpMethod method,
         String path,
-        @Nullable String content,
+        byte @Nullable [] content,
         long timeout,
         @Nullable TimeUnit timeUnit,
         boolean throwOnAPIStatus
+    ) throws MillException {
+        return request(clazz, hostname, apiKey, method, path, content, timeout, timeUnit, throwOnAPIStatus, null);
+    }
+
+    /**
+     * Sends a {@code HTTP} request using the specified parameters and returns the {@link Response}
+     * or throws a {@link MillException}.
+     *
+     * @param <T> the {@link Response} class.
+     * @param clazz the class type to deserialize the response to.
+     * @param hostname the hostname or IP address to contact, optionally followed by {@code :} and a port number.
+     * @param apiKey the API key or {@code null}.
+     * @param method the {@link HttpMethod} to use.
+     * @param path the URI path to use.
+     * @param content the {@code UTF-8} encoded request body or {@code null}.
+     * @param timeout the timeout value.
+     * @param timeUnit the timeout {@link TimeUnit}.
+     * @param throwOnAPIStatus if {@code true}, an exception is thrown if the returned API {@code status}
+     *                         field is anything but "ok".
+     * @param hedgePolicy the {@link HedgePolicy} to use for {@code GET} requests without a body, or
+     *                    {@code null} to never send a duplicate request.
+     * @return The resulting {@link Response}.
+     * @throws MillException If an error occurs during the operation.
+     * @throws MillHTTPResponseException If the returned {@code HTTP status} doesn't indicate success.
+     */
+    public <T extends Response> T request(
+        Class<T> clazz,
+        String hostname,
+        @Nullable String apiKey,
+        HttpMethod method,
+        String path,
+        byte @Nullable [] content,
+        long timeout,
+        @Nullable TimeUnit timeUnit,
+        boolean throwOnAPIStatus,
+        @Nullable HedgePolicy hedgePolicy
     ) throws MillException {
         URI uri;
         String key = apiKey == null || MillUtil.isBlank(apiKey) ? null : apiKey;
         try {
-            uri = new URI(apiKey == null ? "http" : "https", hostname, path, null);
-        } catch (URISyntaxException e) {
+            uri = new URI(
+                apiKey == null ? "http" : "https",
+                null,
+                MillUtil.getHost(hostname),
+                MillUtil.getPort(hostname),
+                path,
+                null,
+                null
+            );
+        } catch (URISyntaxException | NumberFormatException e) {
             throw new MillException(
                 "Invalid hostname \"" + hostname + '"',
                 ThingStatusDetail.CONFIGURATION_ERROR,
@@ -1158,19 +1385,20 @@ public class MillAPITool {
             headers = new HashMap<>();
             headers.put("Authentication", key);
         }
-        return request(clazz, uri, method, headers, content, timeout, timeUnit, true);
+        return request(clazz, uri, method, headers, content, timeout, timeUnit, true, hedgePolicy);
     }
 
     /**
      * Sends a {@code HTTP} request using the specified parameters and returns the {@link Response}
-     * or throws a {@link MillException}.
+     * or throws a {@link MillException}. The timeout is limited by the {@link RequestDeadline} of the
+     * current thread, if any.
      *
      * @param <T> the {@link Response} class.
      * @param clazz the class type to deserialize the response to.
      * @param uri the request {@link URI}.
      * @param method the {@link HttpMethod} to use.
      * @param headers a {@link Map} of {@code HTTP} headers or {@code null}.
-     * @param content the request body or {@code null}.
+     * @param content the {@code UTF-8} encoded request body or {@code null}.
      * @param timeout the timeout value.
      * @param timeUnit the timeout {@link TimeUnit}.
      * @param throwOnAPIStatus if {@code true}, an exception is thrown if the returned API {@code status}
@@ -1184,15 +1412,183 @@ public class MillAPITool {
         URI uri,
         HttpMethod method,
         @Nullable Map<String, String> headers,
-        @Nullable String content,
+        byte @Nullable [] content,
         long timeout,
         @Nullable TimeUnit timeUnit,
         boolean throwOnAPIStatus //Doc: Throws an exception if the returned status isn't ok
     ) throws MillException {
-        InputStream is = null;
+        return request(clazz, uri, method, headers, content, timeout, timeUnit, throwOnAPIStatus, null);
+    }
+
+    /**
+     * Sends a {@code HTTP} request using the specified parameters and returns the {@link Response}
+     * or throws a {@link MillException}. The timeout is limited by the {@link RequestDeadline} of the
+     * current thread, if any.
+     * <p>
+     * If a {@link HedgePolicy} is specified and the request is a {@code GET} without a body, a duplicate
+     * request is sent if no response has been received within the delay and budget of the policy. The
+     * first successful response is used and the other request is aborted.
+     *
+     * @param <T> the {@link Response} class.
+     * @param clazz the class type to deserialize the response to.
+     * @param uri the request {@link URI}.
+     * @param method the {@link HttpMethod} to use.
+     * @param headers a {@link Map} of {@code HTTP} headers or {@code null}.
+     * @param content the {@code UTF-8} encoded request body or {@code null}.
+     * @param timeout the timeout value.
+     * @param timeUnit the timeout {@link TimeUnit}.
+     * @param throwOnAPIStatus if {@code true}, an exception is thrown if the returned API {@code status}
+     *                         field is anything but "ok".
+     * @param hedgePolicy the {@link HedgePolicy} to use or {@code null} to never send a duplicate request.
+     * @return The resulting {@link Response}.
+     * @throws MillException If an error occurs during the operation.
+     * @throws MillHTTPResponseException If the returned {@code HTTP status} doesn't indicate success.
+     */
+    public <T extends Response> T request(
+        Class<T> clazz,
+        URI uri,
+        HttpMethod method,
+        @Nullable Map<String, String> headers,
+        byte @Nullable [] content,
+        long timeout,
+        @Nullable TimeUnit timeUnit,
+        boolean throwOnAPIStatus,
+        @Nullable HedgePolicy hedgePolicy
+    ) throws MillException {
+        RequestEvent event = new RequestEvent(uri, method);
+        RequestLimiter limiterInst = limiter;
+        if (limiterInst != null) {
+            try {
+                event.setQueueNanos(limiterInst.acquire());
+            } catch (MillException e) {
+                event.setFailure(e);
+                notifyListeners(event);
+                throw e;
+            }
+        }
+        long start = System.nanoTime();
+        long requestedMillis = timeoutOverrideMillis > 0L ? timeoutOverrideMillis :
+            timeUnit == null ? timeout : timeUnit.toMillis(timeout);
+        long timeoutMillis = RequestDeadline.limit(requestedMillis);
+        boolean slotAcquired = false;
+        try {
+            if (timeoutMillis <= 0L) {
+                throw MillCommunicationException.of(MillCommunicationException.Type.DEADLINE_PASSED, null);
+            }
+
+            // Wait for the device outside the HttpClient, so that the waiting doesn't count towards the timeout
+            event.setQueueNanos(
+                event.getQueueNanos() + httpClientProvider.acquireDeviceSlot(uri, timeoutMillis, TimeUnit.MILLISECONDS)
+            );
+            slotAcquired = true;
+            start = System.nanoTime();
+            timeoutMillis = RequestDeadline.limit(requestedMillis);
+            if (timeoutMillis <= 0L) {
+                throw MillCommunicationException.of(MillCommunicationException.Type.DEADLINE_PASSED, null);
+            }
+            T result = doRequest(
+                clazz,
+                uri,
+                method,
+                headers,
+                content,
+                timeoutMillis,
+                TimeUnit.MILLISECONDS,
+                throwOnAPIStatus,
+                hedgePolicy,
+                event
+            );
+            event.setDurationNanos(System.nanoTime() - start);
+            notifyListeners(event);
+            return result;
+        } catch (MillException e) {
+            MillException failure = e;
+            if (
+                timeoutMillis < requestedMillis &&
+                MillCommunicationException.isType(e, MillCommunicationException.Type.TIMEOUT)
+            ) {
+                // The timeout was capped by the deadline, so it's the deadline that ran out, not the device
+                failure = MillCommunicationException.of(MillCommunicationException.Type.DEADLINE_PASSED, e);
+            }
+            event.setDurationNanos(System.nanoTime() - start);
+            event.setFailure(failure);
+            notifyListeners(event);
+            throw failure;
+        } finally {
+            if (slotAcquired) {
+                httpClientProvider.releaseDeviceSlot(uri);
+            }
+            if (limiterInst != null) {
+                limiterInst.release();
+            }
+        }
+    }
+
+    /**
+     * Notifies the registered {@link RequestListener}s that a request has completed. Listeners registered
+     * for a device are only notified of the requests to that device.
+     *
+     * @param event the {@link RequestEvent} describing the request.
+     */
+    protected void notifyListeners(RequestEvent event) {
+        for (RequestListener listener : listeners) {
+            notifyListener(listener, event);
+        }
+        if (!deviceListeners.isEmpty()) {
+            URI uri = event.getUri();
+            List<RequestListener> list = deviceListeners.get(getDeviceKey(uri.getHost(), uri.getPort()));
+            if (list != null) {
+                for (RequestListener listener : list) {
+                    notifyListener(listener, event);
+                }
+            }
+        }
+    }
+
+    private void notifyListener(RequestListener listener, RequestEvent event) {
+        try {
+            listener.requestCompleted(event);
+        } catch (RuntimeException e) {
+            logger.warn("RequestListener {} threw an exception: {}", listener, e.getMessage());
+        }
+    }
+
+    /**
+     * Does the actual sending of the {@code HTTP} request and the processing of the response for
+     * {@link #request(Class, URI, HttpMethod, Map, byte[], long, TimeUnit, boolean, HedgePolicy)}.
+     *
+     * @param <T> the {@link Response} class.
+     * @param clazz the class type to deserialize the response to.
+     * @param uri the request {@link URI}.
+     * @param method the {@link HttpMethod} to use.
+     * @param headers a {@link Map} of {@code HTTP} headers or {@code null}.
+     * @param content the {@code UTF-8} encoded request body or {@code null}.
+     * @param timeout the timeout value.
+     * @param timeUnit the timeout {@link TimeUnit}.
+     * @param throwOnAPIStatus if {@code true}, an exception is thrown if the returned API {@code status}
+     *                         field is anything but "ok".
+     * @param hedgePolicy the {@link HedgePolicy} to use or {@code null} to never send a duplicate request.
+     * @param event the {@link RequestEvent} to record the response information in.
+     * @return The resulting {@link Response}.
+     * @throws MillException If an error occurs during the operation.
+     * @throws MillHTTPResponseException If the returned {@code HTTP status} doesn't indicate success.
+     */
+    protected <T extends Response> T doRequest(
+        Class<T> clazz,
+        URI uri,
+        HttpMethod method,
+        @Nullable Map<String, String> headers,
+        byte @Nullable [] content,
+        long timeout,
+        @Nullable TimeUnit timeUnit,
+        boolean throwOnAPIStatus,
+        @Nullable HedgePolicy hedgePolicy,
+        RequestEvent event
+    ) throws MillException {
+        byte[] body = null;
         String contentType = null;
-        if (content != null && MillUtil.isNotBlank(content)) {
-            is = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        if (content != null && content.length > 0) {
+            body = content;
             contentType = "application/json";
         }
 
@@ -1200,48 +1596,205 @@ public class MillAPITool {
         if (debug) {
             StringBuilder sb = new StringBuilder("Sending HTTP ")
                 .append(method).append(" request to \"").append(uri).append('"');
-            if (content != null) {
-                sb.append(" with Content=\"").append(content)
+            if (body != null) {
+                sb.append(" with Content=\"").append(new String(body, StandardCharsets.UTF_8))
                     .append("\", ContentType=\"").append(contentType).append('"');
             }
             logger.debug("{}", sb.toString());
         }
-        ContentResponse response = httpClientProvider.send(uri, method, headers, is, contentType, timeout, timeUnit);
-        int httpStatus;
-        if (HttpStatus.isClientError(httpStatus = response.getStatus())) {
-            throw new MillHTTPResponseException(
+        ContentResponse response;
+        event.setSent(true);
+        if (hedgePolicy != null && method == HttpMethod.GET && body == null) {
+            response = sendHedged(uri, headers, timeout, timeUnit, hedgePolicy, event);
+        } else {
+            response = httpClientProvider.send(uri, method, headers, body, contentType, timeout, timeUnit);
+        }
+        return decodeResponse(
+            clazz,
+            uri,
+            response.getStatus(),
+            response.getContent(),
+            response.getEncoding(),
+            response.getMediaType(),
+            throwOnAPIStatus,
+            event
+        );
+    }
+
+    /**
+     * Sends a {@code GET} request and, if no response has been received within the delay of the specified
+     * {@link HedgePolicy} and the policy's budget allows it, a duplicate request. The duplicate is sent on a
+     * new connection, since the connection of the first request is busy. The first successful response is
+     * returned, and the other request is aborted.
+     *
+     * @param uri the request {@link URI}.
+     * @param headers a {@link Map} of {@code HTTP} headers or {@code null}.
+     * @param timeout the timeout value.
+     * @param timeUnit the timeout {@link TimeUnit}.
+     * @param hedgePolicy the {@link HedgePolicy} to use.
+     * @param event the {@link RequestEvent} to record the hedging information in.
+     * @return The resulting {@link ContentResponse}.
+     * @throws MillException If both requests fail, or if an error occurs during the operation.
+     */
+    protected ContentResponse sendHedged(
+        URI uri,
+        @Nullable Map<String, String> headers,
+        long timeout,
+        @Nullable TimeUnit timeUnit,
+        HedgePolicy hedgePolicy,
+        RequestEvent event
+    ) throws MillException {
+        long start = System.nanoTime();
+        long timeoutNanos = (timeUnit == null ? TimeUnit.MILLISECONDS : timeUnit).toNanos(timeout);
+        hedgePolicy.requestStarted();
+        CompletableFuture<ContentResponse> primary = httpClientProvider.sendAsync(
+            uri,
+            HttpMethod.GET,
+            headers,
+            timeout,
+            timeUnit
+        );
+        CompletableFuture<ContentResponse> hedge = null;
+        try {
+            try {
+                return primary.get(hedgePolicy.getDelayNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // No response yet
+            }
+            long remaining = timeoutNanos - (System.nanoTime() - start);
+            if (remaining <= 0L || !hedgePolicy.tryAcquire()) {
+                return primary.get();
+            }
+            logger.debug("Sending hedged request to \"{}\" because the response is slow", uri);
+            event.setHedged(true);
+            CompletableFuture<ContentResponse> hedgeInst = httpClientProvider.sendAsync(
+                uri,
+                HttpMethod.GET,
+                headers,
+                remaining,
+                TimeUnit.NANOSECONDS
+            );
+            hedge = hedgeInst;
+            ContentResponse result = firstSuccess(primary, hedgeInst).get();
+            event.setHedgeWon(
+                hedgeInst.isDone() && !hedgeInst.isCompletedExceptionally() && hedgeInst.join() == result
+            );
+            return result;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof MillException) {
+                throw (MillException) cause;
+            }
+            throw new MillException(
+                "Failed to send request",
+                ThingStatusDetail.COMMUNICATION_ERROR,
+                "Failed to send request: " + (cause == null ? e.getMessage() : cause.getMessage()),
+                cause
+            );
+        } catch (InterruptedException e) {
+            // Both requests are aborted in the finally block
+            Thread.currentThread().interrupt();
+            throw new MillException("Interrupted while sending request", e);
+        } finally {
+            // Cancelling a completed request has no effect, a request that is still running is aborted
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} that completes with the first successful result of the specified
+     * {@link CompletableFuture}s, or exceptionally with the last failure if both fail.
+     *
+     * @param <T> the result type.
+     * @param first the first {@link CompletableFuture}.
+     * @param second the second {@link CompletableFuture}.
+     * @return The resulting {@link CompletableFuture}.
+     */
+    private static <T> CompletableFuture<T> firstSuccess(CompletableFuture<T> first, CompletableFuture<T> second) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        BiConsumer<T, @Nullable Throwable> action = (r, t) -> {
+            if (t == null) {
+                result.complete(r);
+            } else if (failures.incrementAndGet() == 2) {
+                result.completeExceptionally(t);
+            }
+        };
+        first.whenComplete(action);
+        second.whenComplete(action);
+        return result;
+    }
+
+    /**
+     * Processes a received {@code HTTP} response and returns the {@link Response} or throws a
+     * {@link MillException}. This is the part of the request processing that takes place after
+     * the transport has completed.
+     *
+     * @param <T> the {@link Response} class.
+     * @param clazz the class type to deserialize the response to.
+     * @param uri the request {@link URI}.
+     * @param httpStatus the {@code HTTP status} of the response.
+     * @param content the response body.
+     * @param encoding the response character encoding or {@code null}.
+     * @param mediaType the response media type or {@code null}.
+     * @param throwOnAPIStatus if {@code true}, an exception is thrown if the returned API {@code status}
+     *                         field is anything but "ok".
+     * @param event the {@link RequestEvent} to record the response information in.
+     * @return The resulting {@link Response}.
+     * @throws MillException If an error occurs during the operation.
+     * @throws MillHTTPResponseException If the {@code HTTP status} doesn't indicate success.
+     */
+    public <T extends Response> T decodeResponse(
+        Class<T> clazz,
+        URI uri,
+        int httpStatus,
+        byte[] content,
+        @Nullable String encoding,
+        @Nullable String mediaType,
+        boolean throwOnAPIStatus,
+        RequestEvent event
+    ) throws MillException {
+        event.setHttpStatus(httpStatus);
+        event.setBytesReceived(content.length);
+        if (HttpStatus.isClientError(httpStatus)) {
+            throw MillHTTPResponseException.clientError(
                 httpStatus + " - " + HttpStatus.getMessage(httpStatus) + ": " + uri.getPath(),
-                httpStatus,
-                ThingStatusDetail.COMMUNICATION_ERROR
+                httpStatus
             );
         }
         if (!HttpStatus.isSuccess(httpStatus)) {
             throw new MillHTTPResponseException(
-                response.getStatus(),
+                httpStatus,
                 ThingStatusDetail.COMMUNICATION_ERROR
             );
         }
 
-        String encoding = response.getEncoding() != null ?
-            response.getEncoding().replace("\"", "").trim() :
+        String charset = encoding != null ?
+            encoding.replace("\"", "").trim() :
             StandardCharsets.UTF_8.name();
         String responseBody;
         try {
-            responseBody = new String(response.getContent(), encoding);
+            responseBody = new String(content, charset);
         } catch (UnsupportedEncodingException e) {
             throw new MillHTTPResponseException(
-                "Unsupported encoding: " + encoding,
-                response.getStatus(),
+                "Unsupported encoding: " + charset,
+                httpStatus,
                 ThingStatusDetail.COMMUNICATION_ERROR,
                 e
             );
         }
-        if (debug) {
-            StringBuilder sb = new StringBuilder("Received HTTP response ").append(response.getStatus())
+        if (logger.isDebugEnabled()) {
+            StringBuilder sb = new StringBuilder("Received HTTP response ").append(httpStatus)
                 .append(" from \"").append(uri.getHost()).append('"');
             if (MillUtil.isNotBlank(responseBody)) {
                 sb.append(" with Content=\"").append(responseBody)
-                    .append("\", ContentType=\"").append(response.getMediaType()).append('"');
+                    .append("\", ContentType=\"").append(mediaType).append('"');
             }
             logger.debug("{}", sb.toString());
         }
@@ -1266,6 +1819,7 @@ public class MillAPITool {
             }
             return responseObject;
         } catch (JsonParseException e) {
+            event.setParseFailure(true);
             throw new MillException(
                 "JSON parsing failed: " + e.getMessage(),
                 ThingStatusDetail.COMMUNICATION_ERROR,
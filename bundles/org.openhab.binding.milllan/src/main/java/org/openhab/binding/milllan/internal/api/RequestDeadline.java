@@ -0,0 +1,84 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.api;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+
+/**
+ * This class holds an optional deadline for the requests made by the current thread. While a deadline is
+ * set, {@link MillAPITool} limits the timeout of every request so that it ends no later than the deadline.
+ * This is used to keep poll cycles within their time budget, also when the {@link MillAPITool} is shared.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public final class RequestDeadline {
+
+    /** The deadline of the current thread as a {@link System#nanoTime()} value */
+    private static final ThreadLocal<@Nullable Long> DEADLINE = new ThreadLocal<>();
+
+    /**
+     * Not to be instantiated.
+     */
+    private RequestDeadline() {
+    }
+
+    /**
+     * Sets the deadline for the requests made by the current thread.
+     *
+     * @param deadlineNanos the deadline as a {@link System#nanoTime()} value.
+     */
+    public static void set(long deadlineNanos) {
+        DEADLINE.set(Long.valueOf(deadlineNanos));
+    }
+
+    /**
+     * Removes the deadline for the requests made by the current thread.
+     */
+    public static void clear() {
+        DEADLINE.remove();
+    }
+
+    /**
+     * Returns the remaining time until the deadline of the current thread.
+     *
+     * @return The remaining time in nanoseconds, which is negative if the deadline has passed, or
+     *         {@link Long#MAX_VALUE} if no deadline is set.
+     */
+    public static long remainingNanos() {
+        Long deadline = DEADLINE.get();
+        return deadline == null ? Long.MAX_VALUE : deadline.longValue() - System.nanoTime();
+    }
+
+    /**
+     * Limits the specified timeout to the remaining time until the deadline of the current thread. A request
+     * that times out after its timeout has been reduced by this method fails with
+     * {@link org.openhab.binding.milllan.internal.exception.MillCommunicationException.Type#DEADLINE_PASSED},
+     * since it's the deadline and not the device that ran out of time.
+     *
+     * @param timeoutMillis the requested timeout in milliseconds.
+     * @return The timeout in milliseconds, which is {@code 0} if the deadline has passed.
+     */
+    public static long limit(long timeoutMillis) {
+        long remaining = remainingNanos();
+        if (remaining == Long.MAX_VALUE) {
+            return timeoutMillis;
+        }
+        return remaining <= 0L ? 0L : Math.min(timeoutMillis, Math.max(1L, TimeUnit.NANOSECONDS.toMillis(remaining)));
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.api;
+
+import java.net.URI;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.http.HttpMethod;
+import org.openhab.binding.milllan.internal.exception.MillCommunicationException;
+import org.openhab.binding.milllan.internal.exception.MillException;
+import org.openhab.binding.milllan.internal.exception.MillHTTPResponseException;
+
+
+/**
+ * This class holds the information about a single request sent by {@link MillAPITool}. It is filled in
+ * while the request is processed, and is passed to the {@link RequestListener}s when the request has
+ * completed.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public class RequestEvent {
+
+    private final URI uri;
+
+    private final HttpMethod method;
+
+    private long queueNanos;
+
+    private long durationNanos;
+
+    private boolean sent;
+
+    private int httpStatus;
+
+    private int bytesReceived;
+
+    private boolean parseFailure;
+
+    private boolean hedged;
+
+    private boolean hedgeWon;
+
+    @Nullable
+    private MillException failure;
+
+    /**
+     * Creates a new instance using the specified parameters.
+     *
+     * @param uri the request {@link URI}.
+     * @param method the {@link HttpMethod}.
+     */
+    public RequestEvent(URI uri, HttpMethod method) {
+        this.uri = uri;
+        this.method = method;
+    }
+
+    /**
+     * @return The request {@link URI}.
+     */
+    public URI getUri() {
+        return uri;
+    }
+
+    /**
+     * @return The {@link HttpMethod}.
+     */
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * @return The time spent waiting for the request limits before the request was sent in nanoseconds.
+     */
+    public long getQueueNanos() {
+        return queueNanos;
+    }
+
+    void setQueueNanos(long queueNanos) {
+        this.queueNanos = queueNanos;
+    }
+
+    /**
+     * @return The time from the request was sent until the response was processed in nanoseconds.
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    void setDurationNanos(long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * @return {@code true} if the request was handed to the {@code HTTP} client, {@code false} if it failed
+     *         before that, for example because of the request limits or the deadline.
+     */
+    public boolean isSent() {
+        return sent;
+    }
+
+    void setSent(boolean sent) {
+        this.sent = sent;
+    }
+
+    /**
+     * @return The {@code HTTP status} of the response, or {@code 0} if no response was received.
+     */
+    public int getHttpStatus() {
+        return httpStatus;
+    }
+
+    void setHttpStatus(int httpStatus) {
+        this.httpStatus = httpStatus;
+    }
+
+    /**
+     * @return The number of bytes in the response body.
+     */
+    public int getBytesReceived() {
+        return bytesReceived;
+    }
+
+    void setBytesReceived(int bytesReceived) {
+        this.bytesReceived = bytesReceived;
+    }
+
+    /**
+     * @return {@code true} if the response body couldn't be parsed, {@code false} otherwise.
+     */
+    public boolean isParseFailure() {
+        return parseFailure;
+    }
+
+    void setParseFailure(boolean parseFailure) {
+        this.parseFailure = parseFailure;
+    }
+
+    /**
+     * @return {@code true} if a duplicate ("hedge") of the request was sent because the response was slow,
+     *         {@code false} otherwise.
+     */
+    public boolean isHedged() {
+        return hedged;
+    }
+
+    void setHedged(boolean hedged) {
+        this.hedged = hedged;
+    }
+
+    /**
+     * @return {@code true} if the response was received from the hedge, {@code false} otherwise.
+     */
+    public boolean isHedgeWon() {
+        return hedgeWon;
+    }
+
+    void setHedgeWon(boolean hedgeWon) {
+        this.hedgeWon = hedgeWon;
+    }
+
+    /**
+     * @return The {@link MillException} that caused the request to fail, or {@code null} if the
+     *         request was successful.
+     */
+    @Nullable
+    public MillException getFailure() {
+        return failure;
+    }
+
+    void setFailure(@Nullable MillException failure) {
+        this.failure = failure;
+        if (failure instanceof MillHTTPResponseException && httpStatus == 0) {
+            httpStatus = ((MillHTTPResponseException) failure).getHttpStatus();
+        }
+    }
+
+    /**
+     * @return {@code true} if the request was successful, {@code false} otherwise.
+     */
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    /**
+     * Checks whether the request failed because of the link to the device, which is the case if no response
+     * was received, the response had a {@code 5xx} status or the response couldn't be parsed. Any other
+     * response proves that the link works, even if the request failed, for example because the endpoint
+     * isn't supported by the firmware. A request whose timeout was capped by a deadline that then ran out
+     * says nothing about the link either.
+     *
+     * @return {@code true} if the request was sent and failed because of the link, {@code false} otherwise.
+     */
+    public boolean isLinkFailure() {
+        MillException e = failure;
+        if (
+            e == null ||
+            !sent ||
+            MillCommunicationException.isType(e, MillCommunicationException.Type.DEADLINE_PASSED)
+        ) {
+            return false;
+        }
+        return httpStatus == 0 || httpStatus >= 500 || parseFailure;
+    }
+
+    /**
+     * @return {@code true} if the request failed because it timed out, {@code false} otherwise.
+     */
+    public boolean isTimeout() {
+        MillException e = failure;
+        if (e == null || MillCommunicationException.isType(e, MillCommunicationException.Type.DEADLINE_PASSED)) {
+            return false;
+        }
+        if (MillCommunicationException.isType(e, MillCommunicationException.Type.TIMEOUT)) {
+            return true;
+        }
+        Throwable throwable = e;
+        while (throwable != null) {
+            if (throwable instanceof TimeoutException) {
+                return true;
+            }
+            throwable = throwable.getCause() == throwable ? null : throwable.getCause();
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(getClass().getSimpleName())
+            .append(" [method=").append(method).append(", uri=").append(uri)
+            .append(", queueNanos=").append(queueNanos).append(", durationNanos=").append(durationNanos)
+            .append(", sent=").append(sent).append(", httpStatus=").append(httpStatus)
+            .append(", bytesReceived=").append(bytesReceived)
+            .append(", parseFailure=").append(parseFailure).append(", hedged=").append(hedged)
+            .append(", hedgeWon=").append(hedgeWon).append(", failure=").append(failure)
+            .append(']').toString();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.api;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.milllan.internal.exception.MillException;
+import org.openhab.core.thing.ThingStatusDetail;
+
+
+/**
+ * This class limits the number of concurrent requests and the rate at which requests are started,
+ * for all the devices that share the same {@link MillAPITool}.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public class RequestLimiter {
+
+    /** The {@link Semaphore} limiting concurrent requests, or {@code null} if unlimited */
+    @Nullable
+    private final Semaphore semaphore;
+
+    /** The minimum time between request starts in nanoseconds, or {@code 0} if unlimited */
+    private final long minIntervalNanos;
+
+    /** The maximum time to wait for permission to send in nanoseconds */
+    private final long maxWaitNanos;
+
+    /** The object used for synchronization of {@link #nextStart} */
+    private final Object lock = new Object();
+
+    /** The earliest time the next request can start, <b>must be synchronized</b> on {@link #lock}! */
+    private long nextStart = System.nanoTime();
+
+    /**
+     * Creates a new instance using the specified parameters.
+     *
+     * @param maxConcurrent the maximum number of concurrent requests, or {@code 0} for no limit.
+     * @param maxRequestsPerSecond the maximum number of requests to start per second, or {@code 0}
+     *        for no limit.
+     * @param maxWait the maximum time to wait for permission to send.
+     * @param timeUnit the {@link TimeUnit} of {@code maxWait}.
+     */
+    public RequestLimiter(int maxConcurrent, double maxRequestsPerSecond, long maxWait, TimeUnit timeUnit) {
+        this.semaphore = maxConcurrent > 0 ? new Semaphore(maxConcurrent, true) : null;
+        this.minIntervalNanos = maxRequestsPerSecond > 0.0 ? (long) (1000000000.0 / maxRequestsPerSecond) : 0L;
+        this.maxWaitNanos = timeUnit.toNanos(maxWait);
+    }
+
+    /**
+     * Waits until a request is allowed to start. Every successful call <b>must</b> be followed by a
+     * call to {@link #release()} when the request has completed.
+     *
+     * @return The time spent waiting in nanoseconds.
+     * @throws MillException If the maximum waiting time elapsed or the thread was interrupted.
+     */
+    public long acquire() throws MillException {
+        long start = System.nanoTime();
+        Semaphore semaphoreInst = semaphore;
+        try {
+            if (semaphoreInst != null && !semaphoreInst.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                throw new MillException(
+                    "Timed out while waiting for a free request slot",
+                    ThingStatusDetail.COMMUNICATION_ERROR,
+                    "Request queue timeout"
+                );
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MillException("Interrupted while waiting for a free request slot", e);
+        }
+
+        if (minIntervalNanos > 0L) {
+            long slot;
+            long delay;
+            boolean booked;
+            synchronized (lock) {
+                long now = System.nanoTime();
+                slot = Math.max(now, nextStart);
+                delay = slot - now;
+                // Only book the slot if the request will be sent
+                booked = delay <= 0L || now + delay - start <= maxWaitNanos;
+                if (booked) {
+                    nextStart = slot + minIntervalNanos;
+                }
+            }
+            if (!booked) {
+                release();
+                throw new MillException(
+                    "Timed out while waiting for the request rate limit",
+                    ThingStatusDetail.COMMUNICATION_ERROR,
+                    "Request queue timeout"
+                );
+            }
+            if (delay > 0L) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(delay);
+                } catch (InterruptedException e) {
+                    synchronized (lock) {
+                        // Give the slot back unless a later request has already been booked after it
+                        if (nextStart == slot + minIntervalNanos) {
+                            nextStart = slot;
+                        }
+                    }
+                    release();
+                    Thread.currentThread().interrupt();
+                    throw new MillException("Interrupted while waiting for the request rate limit", e);
+                }
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Releases the request slot acquired with {@link #acquire()}.
+     */
+    public void release() {
+        Semaphore semaphoreInst = semaphore;
+        if (semaphoreInst != null) {
+            semaphoreInst.release();
+        }
+    }
+}
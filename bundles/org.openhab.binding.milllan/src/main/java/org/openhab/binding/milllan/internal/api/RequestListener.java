@@ -0,0 +1,36 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.api;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+
+/**
+ * A listener that is notified by {@link MillAPITool} every time a request has completed, successfully or not.
+ * <p>
+ * Implementations are called on the thread that executed the request, and must therefore be fast and must
+ * never block.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public interface RequestListener {
+
+    /**
+     * Called when a request has completed.
+     *
+     * @param event the {@link RequestEvent} describing the request.
+     */
+    void requestCompleted(RequestEvent event);
+}
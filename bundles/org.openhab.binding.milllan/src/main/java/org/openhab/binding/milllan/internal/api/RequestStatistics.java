@@ -0,0 +1,205 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.api;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+
+/**
+ * A {@link RequestListener} that calculates the aggregate request rate, error rate and 95th percentile latency
+ * of the requests completed within a rolling time window.
+ * <p>
+ * The requests and failures are counted in one second buckets, so the rates always cover the whole window
+ * regardless of the number of requests. The latencies are kept in a bounded reservoir of the most recent
+ * {@link #MAX_LATENCY_SAMPLES} samples within the window, which is only used for the percentile.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public class RequestStatistics implements RequestListener {
+
+    /** The maximum number of latency samples to keep */
+    public static final int MAX_LATENCY_SAMPLES = 10000;
+
+    /** The length of a counter bucket in nanoseconds */
+    public static final long BUCKET_NANOS = TimeUnit.SECONDS.toNanos(1L);
+
+    private final long windowNanos;
+
+    /** The bucket number of each counter bucket, <b>must be synchronized</b> on {@code this}! */
+    private final long[] bucketIds;
+
+    /** The number of requests in each counter bucket, <b>must be synchronized</b> on {@code this}! */
+    private final int[] bucketRequests;
+
+    /** The number of failures in each counter bucket, <b>must be synchronized</b> on {@code this}! */
+    private final int[] bucketFailures;
+
+    /** The latency samples as {@code [end time, duration]}, <b>must be synchronized</b> on {@code this}! */
+    private final ArrayDeque<long[]> latencies = new ArrayDeque<>();
+
+    /**
+     * Creates a new instance using the specified parameters.
+     *
+     * @param window the length of the rolling window.
+     * @param timeUnit the {@link TimeUnit} of {@code window}.
+     */
+    public RequestStatistics(long window, TimeUnit timeUnit) {
+        this.windowNanos = timeUnit.toNanos(window);
+        int buckets = (int) Math.max(1L, (windowNanos + BUCKET_NANOS - 1L) / BUCKET_NANOS);
+        this.bucketIds = new long[buckets];
+        this.bucketRequests = new int[buckets];
+        this.bucketFailures = new int[buckets];
+        Arrays.fill(bucketIds, Long.MIN_VALUE);
+    }
+
+    @Override
+    public void requestCompleted(RequestEvent event) {
+        long now = System.nanoTime();
+        long bucketId = Math.floorDiv(now, BUCKET_NANOS);
+        int idx = (int) Math.floorMod(bucketId, (long) bucketIds.length);
+        synchronized (this) {
+            if (bucketIds[idx] != bucketId) {
+                bucketIds[idx] = bucketId;
+                bucketRequests[idx] = 0;
+                bucketFailures[idx] = 0;
+            }
+            bucketRequests[idx]++;
+            if (!event.isSuccess()) {
+                bucketFailures[idx]++;
+            }
+            latencies.addLast(new long[] {now, event.getDurationNanos()});
+            if (latencies.size() > MAX_LATENCY_SAMPLES) {
+                latencies.removeFirst();
+            }
+            expire(now);
+        }
+    }
+
+    /**
+     * Calculates the statistics for the requests within the rolling window.
+     *
+     * @return The resulting {@link Snapshot}.
+     */
+    public Snapshot getSnapshot() {
+        long[] durations;
+        int requests = 0;
+        int failed = 0;
+        long now = System.nanoTime();
+        long oldestBucketId = Math.floorDiv(now, BUCKET_NANOS) - bucketIds.length;
+        synchronized (this) {
+            for (int i = 0; i < bucketIds.length; i++) {
+                if (bucketIds[i] > oldestBucketId) {
+                    requests += bucketRequests[i];
+                    failed += bucketFailures[i];
+                }
+            }
+            expire(now);
+            durations = new long[latencies.size()];
+            int i = 0;
+            for (long[] sample : latencies) {
+                durations[i++] = sample[1];
+            }
+        }
+        long p95 = 0L;
+        if (durations.length > 0) {
+            Arrays.sort(durations);
+            p95 = durations[Math.max(0, (int) Math.ceil(durations.length * 0.95) - 1)];
+        }
+        return new Snapshot(requests, failed, p95, windowNanos);
+    }
+
+    /**
+     * Removes all samples.
+     */
+    public synchronized void clear() {
+        Arrays.fill(bucketIds, Long.MIN_VALUE);
+        Arrays.fill(bucketRequests, 0);
+        Arrays.fill(bucketFailures, 0);
+        latencies.clear();
+    }
+
+    /**
+     * Removes the latency samples that are older than the window, <b>must be synchronized</b> on {@code this}!
+     *
+     * @param now the current {@link System#nanoTime()} value.
+     */
+    private void expire(long now) {
+        for (Iterator<long[]> iterator = latencies.iterator(); iterator.hasNext();) {
+            if (now - iterator.next()[0] > windowNanos) {
+                iterator.remove();
+            } else {
+                break;
+            }
+        }
+    }
+
+    /**
+     * An immutable snapshot of the request statistics.
+     */
+    public static class Snapshot {
+
+        /** The number of requests within the window */
+        public final int requests;
+
+        /** The number of failed requests within the window */
+        public final int failures;
+
+        /** The 95th percentile request duration in nanoseconds */
+        public final long p95Nanos;
+
+        private final long windowNanos;
+
+        /**
+         * Creates a new instance using the specified parameters.
+         *
+         * @param requests the number of requests within the window.
+         * @param failures the number of failed requests within the window.
+         * @param p95Nanos the 95th percentile request duration in nanoseconds.
+         * @param windowNanos the window length in nanoseconds.
+         */
+        public Snapshot(int requests, int failures, long p95Nanos, long windowNanos) {
+            this.requests = requests;
+            this.failures = failures;
+            this.p95Nanos = p95Nanos;
+            this.windowNanos = windowNanos;
+        }
+
+        /**
+         * @return The number of requests per minute.
+         */
+        public double getRequestsPerMinute() {
+            return windowNanos <= 0L ? 0.0 : requests * (double) TimeUnit.MINUTES.toNanos(1L) / windowNanos;
+        }
+
+        /**
+         * @return The percentage of failed requests from {@code 0} to {@code 100}.
+         */
+        public double getErrorPercentage() {
+            return requests == 0 ? 0.0 : failures * 100.0 / requests;
+        }
+
+        /**
+         * @return The 95th percentile request duration in milliseconds.
+         */
+        public double getP95Millis() {
+            return p95Nanos / 1000000.0;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.api;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.milllan.internal.api.response.Response;
+
+
+/**
+ * This class keeps the last known settings of a single device, one {@link Response} per settings endpoint,
+ * so that read-modify-write operations can skip the read while the cached value is fresh. The cache is
+ * updated by polls and the verification reads that follow writes, and the entry for an endpoint must be
+ * invalidated when a write to it fails. It is thread-safe.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public class SettingsCache {
+
+    /** The cached entries per {@link Response} class */
+    private final Map<Class<? extends Response>, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Stores the specified {@link Response} as the last known value of its endpoint.
+     *
+     * @param response the {@link Response} to store.
+     */
+    public void put(Response response) {
+        entries.put(response.getClass(), new Entry(response, System.nanoTime()));
+    }
+
+    /**
+     * Returns the last known value of the endpoint with the specified {@link Response} class, if it's not
+     * older than the specified maximum age.
+     *
+     * @param <T> the {@link Response} type.
+     * @param type the {@link Response} class.
+     * @param maxAgeNanos the maximum age in nanoseconds.
+     * @return The cached {@link Response} or {@code null}.
+     */
+    @Nullable
+    public <T extends Response> T get(Class<T> type, long maxAgeNanos) {
+        Entry entry = entries.get(type);
+        if (entry == null || System.nanoTime() - entry.timestamp > maxAgeNanos) {
+            return null;
+        }
+        return type.cast(entry.response);
+    }
+
+    /**
+     * Removes the cached value of the endpoint with the specified {@link Response} class.
+     *
+     * @param type the {@link Response} class.
+     */
+    public void invalidate(Class<? extends Response> type) {
+        entries.remove(type);
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * An immutable cache entry.
+     */
+    private static class Entry {
+
+        /** The cached {@link Response} */
+        private final Response response;
+
+        /** The {@link System#nanoTime()} value when the {@link Response} was stored */
+        private final long timestamp;
+
+        Entry(Response response, long timestamp) {
+            this.response = response;
+            this.timestamp = timestamp;
+        }
+    }
+}
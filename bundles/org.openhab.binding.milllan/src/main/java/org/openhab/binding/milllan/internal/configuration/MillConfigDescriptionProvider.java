@@ -18,13 +18,12 @@ import static org.openhab.binding.milllan.internal.MillBindingConstants.*;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -67,12 +66,22 @@ public class MillConfigDescriptionProvider implements ConfigDescriptionProvider
 
     private final LocaleProvider localeProvider;
 
-    /** The {@link Map} of enabled parameter descriptions, <b>must be synchronized</b> on {@code this}! */
-    protected final Map<URI, Map<String, ParameterDescription>> enabledParameters = new HashMap<>();
+    /** The maximum number of {@link Locale}s to keep localized descriptions for */
+    protected static final int MAX_CACHED_LOCALES = 8;
 
-    /** The {@link Map} of cached, localized parameter descriptions, <b>must be synchronized</b> on {@code this}! */
-    protected final Map<URI, Map<Locale, Map<String, ConfigDescriptionParameter>>> localizedParameters =
-        new HashMap<>();
+    /**
+     * The {@link Map} of immutable {@link Snapshot}s of enabled parameter descriptions per {@link Thing}
+     * {@link URI}. Can be read without locking, but replacing entries <b>must be synchronized</b> on
+     * {@code this}!
+     */
+    protected final Map<URI, Snapshot> enabledParameters = new ConcurrentHashMap<>();
+
+    /** The {@link Map} of cached, localized parameter descriptions per {@link Locale} */
+    protected final Map<Locale, Map<ParameterDescription, ConfigDescriptionParameter>> localizedParameters =
+        new ConcurrentHashMap<>();
+
+    /** The {@link System#nanoTime()} value of the last request for the description per {@link Thing} {@link URI} */
+    protected final Map<URI, Long> lastViewed = new ConcurrentHashMap<>();
 
     /**
      * Creates a new instance using the specified parameters.
@@ -97,14 +106,8 @@ public class MillConfigDescriptionProvider implements ConfigDescriptionProvider
         Locale loc = locale == null ? localeProvider.getLocale() : locale;
 
         List<ConfigDescription> result = new ArrayList<>();
-        ConfigDescription configDescription;
-        synchronized (this) {
-            for (Entry<URI, Map<String, ParameterDescription>> enabledEntry : enabledParameters.entrySet()) {
-                configDescription = getConfigDescription(enabledEntry.getKey(), loc);
-                if (configDescription != null) {
-                    result.add(configDescription);
-                }
-            }
+        for (Snapshot snapshot : enabledParameters.values()) {
+            result.add(getConfigDescription(snapshot, loc));
         }
         return result;
     }
@@ -115,35 +118,56 @@ public class MillConfigDescriptionProvider implements ConfigDescriptionProvider
             return null;
         }
 
-        Locale loc = locale == null ? localeProvider.getLocale() : locale;
-        synchronized (this) {
-            Map<String, ParameterDescription> enabledMap = enabledParameters.get(uri);
-            if (enabledMap == null || enabledMap.isEmpty()) {
-                return null;
-            }
+        lastViewed.put(uri, Long.valueOf(System.nanoTime()));
+        Snapshot snapshot = enabledParameters.get(uri);
+        if (snapshot == null) {
+            return null;
+        }
+        return getConfigDescription(snapshot, locale == null ? localeProvider.getLocale() : locale);
+    }
 
-            Map<Locale, Map<String, ConfigDescriptionParameter>> localeMap = localizedParameters.get(uri);
-            if (localeMap == null) {
-                localeMap = new HashMap<>();
-                localizedParameters.put(uri, localeMap);
-            }
+    /**
+     * Returns the {@link ConfigDescription} of the specified {@link Snapshot} for the specified {@link Locale},
+     * building and caching it in the {@link Snapshot} if it hasn't been built before.
+     *
+     * @param snapshot the {@link Snapshot}.
+     * @param locale the {@link Locale}.
+     * @return The {@link ConfigDescription}.
+     */
+    protected ConfigDescription getConfigDescription(Snapshot snapshot, Locale locale) {
+        ConfigDescription result = snapshot.descriptions.get(locale);
+        if (result != null) {
+            return result;
+        }
 
-            Map<String, ConfigDescriptionParameter> thingMap = localeMap.get(loc);
-            if (thingMap == null) {
-                thingMap = new LinkedHashMap<>();
-                localeMap.put(loc, thingMap);
+        Map<ParameterDescription, ConfigDescriptionParameter> localeMap = localizedParameters.get(locale);
+        if (localeMap == null) {
+            if (localizedParameters.size() >= MAX_CACHED_LOCALES) {
+                localizedParameters.clear();
             }
-
-            for (Entry<String, ParameterDescription> enabledEntry : enabledMap.entrySet()) {
-                if (!thingMap.containsKey(enabledEntry.getKey())) {
-                    thingMap.put(
-                        enabledEntry.getKey(),
-                        enabledEntry.getValue().getConfigDescriptionParameter(bundle, i18nProvider, loc)
-                    );
-                }
+            localeMap = new ConcurrentHashMap<>();
+            Map<ParameterDescription, ConfigDescriptionParameter> existing =
+                localizedParameters.putIfAbsent(locale, localeMap);
+            if (existing != null) {
+                localeMap = existing;
             }
-            return ConfigDescriptionBuilder.create(uri).withParameters(new ArrayList<>(thingMap.values())).build();
         }
+        List<ConfigDescriptionParameter> parameters = new ArrayList<>(snapshot.parameters.size());
+        ConfigDescriptionParameter parameter;
+        for (ParameterDescription description : snapshot.parameters) {
+            parameter = localeMap.get(description);
+            if (parameter == null) {
+                parameter = description.getConfigDescriptionParameter(bundle, i18nProvider, locale);
+                localeMap.put(description, parameter);
+            }
+            parameters.add(parameter);
+        }
+        result = ConfigDescriptionBuilder.create(snapshot.uri).withParameters(parameters).build();
+        if (snapshot.descriptions.size() >= MAX_CACHED_LOCALES) {
+            snapshot.descriptions.clear();
+        }
+        snapshot.descriptions.put(locale, result);
+        return result;
     }
 
     /**
@@ -172,19 +196,15 @@ public class MillConfigDescriptionProvider implements ConfigDescriptionProvider
         }
 
         synchronized (this) {
-            Map<String, ParameterDescription> enabledMap = enabledParameters.get(uri);
-            if (enabledMap == null) {
-                enabledMap = new LinkedHashMap<>();
-                enabledParameters.put(uri, enabledMap);
+            Snapshot snapshot = enabledParameters.get(uri);
+            Set<ParameterDescription> parameters = new LinkedHashSet<>();
+            if (snapshot != null) {
+                parameters.addAll(snapshot.parameters);
             }
-
+            boolean changed = false;
             ParameterDescription parameter;
             for (String configParameterName : configParameterNames) {
-                if (
-                    configParameterName == null ||
-                    MillUtil.isBlank(configParameterName) ||
-                    enabledMap.containsKey(configParameterName)
-                ) {
+                if (configParameterName == null || MillUtil.isBlank(configParameterName)) {
                     continue;
                 }
 
@@ -197,7 +217,10 @@ public class MillConfigDescriptionProvider implements ConfigDescriptionProvider
                     );
                     continue;
                 }
-                enabledMap.put(configParameterName, parameter);
+                changed |= parameters.add(parameter);
+            }
+            if (changed) {
+                enabledParameters.put(uri, new Snapshot(uri, parameters));
             }
         }
     }
@@ -228,41 +251,24 @@ public class MillConfigDescriptionProvider implements ConfigDescriptionProvider
         }
 
         synchronized (this) {
-            Map<String, ParameterDescription> enabledMap = enabledParameters.get(uri);
-            Map<Locale, Map<String, ConfigDescriptionParameter>> localeMap = localizedParameters.get(uri);
-            Map<String, ConfigDescriptionParameter> thingMap;
-            if (enabledMap != null || localeMap != null) {
-                for (String configParameterName : configParameterNames) {
-                    if (configParameterName == null) {
-                        continue;
-                    }
-                    if (enabledMap != null) {
-                        enabledMap.remove(configParameterName);
-                    }
-                    if (localeMap != null) {
-                        for (Map<String, ConfigDescriptionParameter> map : localeMap.values()) {
-                            map.remove(configParameterName);
-                        }
-                    }
-                }
-                if (enabledMap != null && enabledMap.isEmpty()) {
-                    enabledParameters.remove(uri);
-                }
-                if (localeMap != null) {
-                    for (
-                        Iterator<Map<String, ConfigDescriptionParameter>> iterator = localeMap.values().iterator();
-                        iterator.hasNext();
-                    ) {
-                        thingMap = iterator.next();
-                        if (thingMap.isEmpty()) {
-                            iterator.remove();
-                        }
-                    }
-                    if (localeMap.isEmpty()) {
-                        localizedParameters.remove(uri);
-                    }
+            Snapshot snapshot = enabledParameters.get(uri);
+            if (snapshot == null) {
+                return;
+            }
+            Set<ParameterDescription> parameters = new LinkedHashSet<>(snapshot.parameters);
+            boolean changed = false;
+            ParameterDescription parameter;
+            for (String configParameterName : configParameterNames) {
+                parameter = ParameterDescription.typeOf(configParameterName);
+                if (parameter != null) {
+                    changed |= parameters.remove(parameter);
                 }
             }
+            if (parameters.isEmpty()) {
+                enabledParameters.remove(uri);
+            } else if (changed) {
+                enabledParameters.put(uri, new Snapshot(uri, parameters));
+            }
         }
     }
 
@@ -289,8 +295,21 @@ public class MillConfigDescriptionProvider implements ConfigDescriptionProvider
         }
         synchronized (this) {
             enabledParameters.remove(uri);
-            localizedParameters.remove(uri);
         }
+        lastViewed.remove(uri);
+    }
+
+    /**
+     * Checks whether the configuration description for the specified {@link ThingUID} has been requested,
+     * typically because the configuration is being viewed or edited, within the specified time.
+     *
+     * @param uid the {@link ThingUID} to check.
+     * @param maxAgeNanos the maximum time since the last request in nanoseconds.
+     * @return {@code true} if the description has been requested within the specified time.
+     */
+    public boolean isViewed(ThingUID uid, long maxAgeNanos) {
+        Long viewed = lastViewed.get(URI.create(uriPrefix + uid.getAsString()));
+        return viewed != null && System.nanoTime() - viewed.longValue() <= maxAgeNanos;
     }
 
     /**
@@ -316,4 +335,32 @@ public class MillConfigDescriptionProvider implements ConfigDescriptionProvider
         }
         return "";
     }
+
+    /**
+     * An immutable snapshot of the enabled parameter descriptions for one {@link Thing}, with the
+     * {@link ConfigDescription}s built from it per {@link Locale}. A new snapshot is created every time
+     * the enabled parameter descriptions change, so the cached {@link ConfigDescription}s never go stale.
+     */
+    protected static class Snapshot {
+
+        /** The {@link URI} identifying the {@link Thing} */
+        protected final URI uri;
+
+        /** The enabled {@link ParameterDescription}s in the order they were enabled */
+        protected final List<ParameterDescription> parameters;
+
+        /** The built {@link ConfigDescription}s per {@link Locale} */
+        protected final Map<Locale, ConfigDescription> descriptions = new ConcurrentHashMap<>();
+
+        /**
+         * Creates a new instance.
+         *
+         * @param uri the {@link URI} identifying the {@link Thing}.
+         * @param parameters the enabled {@link ParameterDescription}s.
+         */
+        public Snapshot(URI uri, Collection<ParameterDescription> parameters) {
+            this.uri = uri;
+            this.parameters = List.copyOf(parameters);
+        }
+    }
 }
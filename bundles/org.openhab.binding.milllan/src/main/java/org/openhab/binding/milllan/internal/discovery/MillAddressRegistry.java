@@ -0,0 +1,167 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.discovery;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.osgi.service.component.annotations.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * This class keeps track of the last known IP address of devices by MAC address. It is fed by discovery
+ * and by the handlers of online devices, and lets the handlers of offline devices find out if the device
+ * has moved to a different address, for example because the DHCP lease changed.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@Component(service = MillAddressRegistry.class)
+@NonNullByDefault
+public class MillAddressRegistry {
+
+    /** The time an address is considered current in nanoseconds */
+    private static final long ADDRESS_TTL_NANOS = TimeUnit.HOURS.toNanos(24L);
+
+    private final Logger logger = LoggerFactory.getLogger(MillAddressRegistry.class);
+
+    /** The last known addresses per normalized MAC address */
+    private final Map<String, Entry> addresses = new ConcurrentHashMap<>();
+
+    /** The registered {@link AddressListener}s */
+    private final List<AddressListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Registers the address where a device was last seen. If the address differs from the previously
+     * registered address, the {@link AddressListener}s are notified.
+     *
+     * @param macAddress the MAC address of the device.
+     * @param address the IP address of the device.
+     */
+    public void update(String macAddress, String address) {
+        String mac = normalize(macAddress);
+        if (mac.isEmpty() || address.isBlank()) {
+            return;
+        }
+        Entry previous = addresses.put(mac, new Entry(address, System.nanoTime()));
+        if (previous == null || !previous.address.equals(address)) {
+            if (previous != null) {
+                logger.debug("Mill device {} moved from {} to {}", mac, previous.address, address);
+            }
+            for (AddressListener listener : listeners) {
+                listener.addressChanged(mac, address);
+            }
+        }
+    }
+
+    /**
+     * Returns the last known address of the device with the specified MAC address, if it's not too old.
+     *
+     * @param macAddress the MAC address of the device.
+     * @return The IP address or {@code null} if it's unknown.
+     */
+    @Nullable
+    public String getAddress(String macAddress) {
+        String mac = normalize(macAddress);
+        Entry entry = addresses.get(mac);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.timestamp > ADDRESS_TTL_NANOS) {
+            addresses.remove(mac, entry);
+            return null;
+        }
+        return entry.address;
+    }
+
+    /**
+     * Registers an {@link AddressListener} that will be notified when the address of a device changes.
+     *
+     * @param listener the {@link AddressListener} to add.
+     */
+    public void addAddressListener(AddressListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters an {@link AddressListener}.
+     *
+     * @param listener the {@link AddressListener} to remove.
+     */
+    public void removeAddressListener(AddressListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Normalizes a MAC address to upper case with colon separators, so that it can be compared.
+     *
+     * @param macAddress the MAC address to normalize.
+     * @return The normalized MAC address.
+     */
+    public static String normalize(String macAddress) {
+        String s = macAddress.trim().replace('-', ':').toUpperCase(Locale.ROOT);
+        if (s.length() == 12 && s.indexOf(':') < 0) {
+            StringBuilder sb = new StringBuilder(17);
+            for (int i = 0; i < 12; i += 2) {
+                if (i > 0) {
+                    sb.append(':');
+                }
+                sb.append(s, i, i + 2);
+            }
+            return sb.toString();
+        }
+        return s;
+    }
+
+    /**
+     * The interface for receiving notifications when the address of a device changes.
+     */
+    @FunctionalInterface
+    public interface AddressListener {
+
+        /**
+         * Called when a device has been seen at a different address than before.
+         * <p>
+         * <b>Note:</b> This is called on the discovery thread, and must not block.
+         *
+         * @param macAddress the normalized MAC address of the device.
+         * @param address the new IP address.
+         */
+        void addressChanged(String macAddress, String address);
+    }
+
+    /**
+     * An immutable registry entry.
+     */
+    private static class Entry {
+
+        /** The IP address */
+        private final String address;
+
+        /** The {@link System#nanoTime()} value when the address was registered */
+        private final long timestamp;
+
+        Entry(String address, long timestamp) {
+            this.address = address;
+            this.timestamp = timestamp;
+        }
+    }
+}
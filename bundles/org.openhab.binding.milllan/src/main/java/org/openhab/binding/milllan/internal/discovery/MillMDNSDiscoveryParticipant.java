@@ -16,14 +16,36 @@ package org.openhab.binding.milllan.internal.discovery;
 import static org.openhab.binding.milllan.internal.MillBindingConstants.*;
 
 import java.io.IOException;
+import java.net.Inet4Address;
 import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.jmdns.ServiceInfo;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.http.HttpStatus;
+import org.openhab.binding.milllan.internal.MillExecutors;
+import org.openhab.binding.milllan.internal.api.MillAPITool;
+import org.openhab.binding.milllan.internal.api.response.StatusResponse;
+import org.openhab.binding.milllan.internal.exception.MillHTTPResponseException;
+import org.openhab.binding.milllan.internal.http.MillHTTPClientProvider;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
 import org.openhab.core.config.discovery.mdns.MDNSDiscoveryParticipant;
@@ -63,6 +85,15 @@ public class MillMDNSDiscoveryParticipant implements MDNSDiscoveryParticipant {
         THING_TYPE_WIFI_SOCKET
     );
 
+    /** The maximum time to spend probing the addresses of one device in milliseconds */
+    private static final long PROBE_DEADLINE_MILLIS = 2000L;
+
+    /** The delay between starting the probes of the addresses of one device in milliseconds */
+    private static final long PROBE_STAGGER_MILLIS = 150L;
+
+    /** The time a verified address is cached in nanoseconds */
+    private static final long ADDRESS_CACHE_TTL_NANOS = TimeUnit.MINUTES.toNanos(30L);
+
     private final Logger logger = LoggerFactory.getLogger(MillMDNSDiscoveryParticipant.class);
 
     private final Bundle bundle;
@@ -71,22 +102,42 @@ public class MillMDNSDiscoveryParticipant implements MDNSDiscoveryParticipant {
 
     private final LocaleProvider localeProvider;
 
+    /** The {@link MillAPITool} used to probe addresses */
+    private final MillAPITool apiTool;
+
+    /** The {@link ExecutorService} used to probe addresses */
+    private final ExecutorService executor = MillExecutors.getBlockingExecutor(
+        ThreadPoolManager.getPool("discovery")
+    );
+
+    /** The {@link MillAddressRegistry} that is updated with the announced addresses */
+    private final MillAddressRegistry addressRegistry;
+
+    /** The verified addresses per MAC address */
+    private final Map<String, CachedAddress> addressCache = new ConcurrentHashMap<>();
+
     /**
      * Creates a new instance using the specified parameters.
      *
      * @param componentContext the {@link ComponentContext}.
      * @param i18nProvider the {@link TranslationProvider}.
      * @param localeProvider the {@link LocaleProvider}.
+     * @param httpClientProvider the {@link MillHTTPClientProvider}.
+     * @param addressRegistry the {@link MillAddressRegistry}.
      */
     @Activate
     public MillMDNSDiscoveryParticipant(
         ComponentContext componentContext,
         @Reference TranslationProvider i18nProvider,
-        @Reference LocaleProvider localeProvider
+        @Reference LocaleProvider localeProvider,
+        @Reference MillHTTPClientProvider httpClientProvider,
+        @Reference MillAddressRegistry addressRegistry
     ) {
         this.i18nProvider = i18nProvider;
         this.localeProvider = localeProvider;
+        this.addressRegistry = addressRegistry;
         this.bundle = componentContext.getBundleContext().getBundle();
+        this.apiTool = new MillAPITool(httpClientProvider, null, PROBE_DEADLINE_MILLIS);
     }
 
     @Override
@@ -109,9 +160,13 @@ public class MillMDNSDiscoveryParticipant implements MDNSDiscoveryParticipant {
                 "Mill Panel Heater",
                 localeProvider.getLocale()
             );
+            String macAddress = formatMACAddress(uid.getId());
+            String address = resolveIPAddress(macAddress, service.getInetAddresses());
+            addressRegistry.update(macAddress, address);
             DiscoveryResultBuilder builder = DiscoveryResultBuilder.create(uid)
-                .withLabel(label).withProperty(CONFIG_PARAM_HOSTNAME, resolveIPAddress(service.getInetAddresses()))
-                .withProperty(Thing.PROPERTY_MAC_ADDRESS, formatMACAddress(uid.getId()))
+                .withLabel(label)
+                .withProperty(CONFIG_PARAM_HOSTNAME, address)
+                .withProperty(Thing.PROPERTY_MAC_ADDRESS, macAddress)
                 .withRepresentationProperty(Thing.PROPERTY_MAC_ADDRESS);
             return builder.build();
         }
@@ -153,22 +208,105 @@ public class MillMDNSDiscoveryParticipant implements MDNSDiscoveryParticipant {
     }
 
     /**
-     * Tries to find a reachable IP address among the supplied addresses.
+     * Tries to find the IP address the device can be reached at among the supplied addresses.
+     * <p>
+     * If there are multiple addresses, they are probed in parallel, IPv4 addresses first, with the start of
+     * each probe slightly staggered. All probes share the same deadline, so a later probe gets less time.
+     * The first address where the device answers {@code GET/status} is used, and the remaining probes are
+     * cancelled by aborting their requests, without interrupting the executing threads.
+     * If no address answers before the deadline, the first address that responded to a reachability test
+     * is used, or the first supplied address if none did. Addresses where the device answered are cached
+     * per MAC address, so that repeated announcements are resolved without probing.
      *
+     * @param macAddress the formatted MAC address of the device.
      * @param addresses the array of {@link InetAddress}es to look through.
      * @return The resulting IP address or an empty {@link String} if none were supplied.
      */
-    protected String resolveIPAddress(InetAddress[] addresses) {
+    protected String resolveIPAddress(String macAddress, InetAddress[] addresses) {
+        if (addresses.length == 0) {
+            return "";
+        }
+        if (addresses.length == 1) {
+            return addresses[0].getHostAddress();
+        }
+
+        long now = System.nanoTime();
+        CachedAddress cached = addressCache.get(macAddress);
+        if (cached != null && now - cached.timestamp < ADDRESS_CACHE_TTL_NANOS) {
+            for (InetAddress address : addresses) {
+                if (cached.address.equals(address.getHostAddress())) {
+                    return cached.address;
+                }
+            }
+        }
+
+        List<InetAddress> sorted = new ArrayList<>(addresses.length);
         for (InetAddress address : addresses) {
-            try {
-                if (address.isReachable(1000)) {
-                    return address.getHostAddress();
+            if (address instanceof Inet4Address) {
+                sorted.add(address);
+            }
+        }
+        for (InetAddress address : addresses) {
+            if (!(address instanceof Inet4Address)) {
+                sorted.add(address);
+            }
+        }
+
+        long deadline = now + TimeUnit.MILLISECONDS.toNanos(PROBE_DEADLINE_MILLIS);
+        CompletionService<ProbeResult> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<ProbeResult>> futures = new ArrayList<>(sorted.size());
+        List<AddressProbe> probes = new ArrayList<>(sorted.size());
+        CountDownLatch finished = new CountDownLatch(1);
+        String reachable = null;
+        try {
+            AddressProbe probe;
+            for (int i = 0; i < sorted.size(); i++) {
+                probe = new AddressProbe(sorted.get(i), macAddress, i * PROBE_STAGGER_MILLIS, deadline, finished);
+                probes.add(probe);
+                futures.add(completionService.submit(probe));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                long remaining = deadline - System.nanoTime();
+                Future<ProbeResult> future = remaining > 0L ?
+                    completionService.poll(remaining, TimeUnit.NANOSECONDS) :
+                    null;
+                if (future == null) {
+                    break;
                 }
-            } catch (IOException e) {
-                // Move on
+                ProbeResult result;
+                try {
+                    result = future.get();
+                } catch (ExecutionException e) {
+                    continue;
+                }
+                if (result.answered) {
+                    addressCache.put(macAddress, new CachedAddress(result.address, System.nanoTime()));
+                    return result.address;
+                }
+                if (result.reachable && reachable == null) {
+                    reachable = result.address;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            finished.countDown();
+            for (AddressProbe probe : probes) {
+                probe.abort();
+            }
+            for (Future<ProbeResult> future : futures) {
+                future.cancel(false);
             }
         }
-        return addresses.length > 0 ? addresses[0].getHostAddress() : "";
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                "Mill device {} didn't answer on any of the addresses {} within {} ms",
+                macAddress,
+                sorted,
+                PROBE_DEADLINE_MILLIS
+            );
+        }
+        return reachable != null ? reachable : sorted.get(0).getHostAddress();
     }
 
     /**
@@ -189,4 +327,163 @@ public class MillMDNSDiscoveryParticipant implements MDNSDiscoveryParticipant {
         }
         return sb.toString();
     }
+
+    /**
+     * A {@link Callable} that probes one address, first by sending {@code GET/status}
+     * and then with a reachability test if the device didn't answer. The probe stops waiting when the
+     * probing of the device is finished, and {@link #abort()} aborts its request.
+     */
+    private class AddressProbe implements Callable<ProbeResult> {
+
+        private final InetAddress address;
+
+        private final String macAddress;
+
+        private final long delayMillis;
+
+        private final long deadline;
+
+        private final CountDownLatch finished;
+
+        @Nullable
+        private volatile CompletableFuture<StatusResponse> request;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param address the {@link InetAddress} to probe.
+         * @param macAddress the formatted MAC address of the device.
+         * @param delayMillis the delay before probing starts.
+         * @param deadline the {@link System#nanoTime()} value when probing must be finished.
+         * @param finished the {@link CountDownLatch} that is released when the probing of the device is finished.
+         */
+        AddressProbe(
+            InetAddress address,
+            String macAddress,
+            long delayMillis,
+            long deadline,
+            CountDownLatch finished
+        ) {
+            this.address = address;
+            this.macAddress = macAddress;
+            this.delayMillis = delayMillis;
+            this.deadline = deadline;
+            this.finished = finished;
+        }
+
+        /**
+         * Aborts the request of this probe if it's in progress.
+         */
+        void abort() {
+            CompletableFuture<StatusResponse> requestInst = request;
+            if (requestInst != null) {
+                requestInst.cancel(false);
+            }
+        }
+
+        @Override
+        public ProbeResult call() throws InterruptedException {
+            String hostAddress = address.getHostAddress();
+            if (delayMillis > 0L && finished.await(delayMillis, TimeUnit.MILLISECONDS)) {
+                return new ProbeResult(hostAddress, false, false);
+            }
+
+            // The timeout is what remains until the shared deadline, which excludes the stagger delay
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0L) {
+                return new ProbeResult(hostAddress, false, false);
+            }
+            String hostname = address instanceof Inet4Address ? hostAddress : '[' + hostAddress + ']';
+            CompletableFuture<StatusResponse> requestInst = apiTool.getStatusAsync(
+                hostname,
+                remaining,
+                TimeUnit.NANOSECONDS
+            );
+            request = requestInst;
+            if (finished.getCount() == 0L) {
+                requestInst.cancel(false);
+            }
+            try {
+                StatusResponse response = requestInst.get();
+                String responseMAC = response.getMacAddress();
+                if (responseMAC == null || macAddress.equalsIgnoreCase(responseMAC)) {
+                    return new ProbeResult(hostAddress, true, true);
+                }
+                logger.debug(
+                    "Address {} announced by Mill device {} belongs to another device ({})",
+                    hostAddress,
+                    macAddress,
+                    responseMAC
+                );
+                return new ProbeResult(hostAddress, false, false);
+            } catch (CancellationException e) {
+                return new ProbeResult(hostAddress, false, false);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof MillHTTPResponseException) {
+                    int status = ((MillHTTPResponseException) cause).getHttpStatus();
+                    if (status == HttpStatus.UNAUTHORIZED_401 || status == HttpStatus.FORBIDDEN_403) {
+                        // The device answered, but requires an API key
+                        return new ProbeResult(hostAddress, true, true);
+                    }
+                    // Something else answered, which isn't a Mill device
+                    logger.debug(
+                        "Address {} announced by Mill device {} answered with HTTP status {}",
+                        hostAddress,
+                        macAddress,
+                        status
+                    );
+                    return new ProbeResult(hostAddress, false, false);
+                }
+                // Try the reachability test instead
+            }
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            try {
+                if (remainingMillis > 0L && finished.getCount() > 0L && address.isReachable((int) remainingMillis)) {
+                    return new ProbeResult(hostAddress, false, true);
+                }
+            } catch (IOException e) {
+                // Not reachable
+            }
+            return new ProbeResult(hostAddress, false, false);
+        }
+    }
+
+    /**
+     * The result of an {@link AddressProbe}.
+     */
+    private static class ProbeResult {
+
+        /** The probed IP address */
+        private final String address;
+
+        /** {@code true} if the device answered {@code GET/status} */
+        private final boolean answered;
+
+        /** {@code true} if the address is reachable */
+        private final boolean reachable;
+
+        ProbeResult(String address, boolean answered, boolean reachable) {
+            this.address = address;
+            this.answered = answered;
+            this.reachable = reachable;
+        }
+    }
+
+    /**
+     * A verified address and when it was verified.
+     */
+    private static class CachedAddress {
+
+        /** The IP address */
+        private final String address;
+
+        /** The {@link System#nanoTime()} value when the address was verified */
+        private final long timestamp;
+
+        CachedAddress(String address, long timestamp) {
+            this.address = address;
+            this.timestamp = timestamp;
+        }
+    }
 }
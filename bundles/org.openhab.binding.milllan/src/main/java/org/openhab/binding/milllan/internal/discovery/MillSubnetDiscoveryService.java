@@ -0,0 +1,279 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.discovery;
+
+import static org.openhab.binding.milllan.internal.MillBindingConstants.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.milllan.internal.MillExecutors;
+import org.openhab.binding.milllan.internal.api.MillAPITool;
+import org.openhab.binding.milllan.internal.api.response.StatusResponse;
+import org.openhab.binding.milllan.internal.exception.MillException;
+import org.openhab.binding.milllan.internal.http.MillHTTPClientProvider;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.discovery.AbstractDiscoveryService;
+import org.openhab.core.config.discovery.DiscoveryResultBuilder;
+import org.openhab.core.config.discovery.DiscoveryService;
+import org.openhab.core.i18n.LocaleProvider;
+import org.openhab.core.i18n.TranslationProvider;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingTypeUID;
+import org.openhab.core.thing.ThingUID;
+import org.osgi.framework.Bundle;
+import org.osgi.service.component.ComponentContext;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * This {@link DiscoveryService} finds supported devices that don't announce themselves via mDNS by scanning
+ * the local IPv4 subnets for hosts with an open HTTP port, and then probing these with {@code GET/status}.
+ * The device type is determined from {@link StatusResponse#getName()}.
+ * <p>
+ * The scan is only performed when requested, it's not part of background discovery.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@Component(service = DiscoveryService.class, configurationPid = "discovery.milllan.subnet")
+@NonNullByDefault
+public class MillSubnetDiscoveryService extends AbstractDiscoveryService {
+
+    /** The scan timeout in seconds */
+    private static final int SCAN_TIMEOUT_SECONDS = 30;
+
+    /** The port to scan for */
+    private static final int HTTP_PORT = 80;
+
+    /** The maximum number of simultaneous connection attempts */
+    private static final int MAX_CONCURRENT_CONNECTS = 32;
+
+    /** The connection timeout in milliseconds */
+    private static final long CONNECT_TIMEOUT_MILLIS = 500L;
+
+    /** The timeout for {@code GET/status} probes in milliseconds */
+    private static final long PROBE_TIMEOUT_MILLIS = 2000L;
+
+    private final Logger logger = LoggerFactory.getLogger(MillSubnetDiscoveryService.class);
+
+    private final Bundle bundle;
+
+    /** The {@link MillAPITool} used to probe hosts */
+    private final MillAPITool apiTool;
+
+    /** The {@link ExecutorService} used to probe hosts */
+    private final ExecutorService executor = MillExecutors.getBlockingExecutor(
+        ThreadPoolManager.getPool("discovery")
+    );
+
+    /**
+     * The {@link ExecutorService} that runs the scans, which block until all hosts have been probed. The
+     * {@link #scheduler} only handles the scan timeout.
+     */
+    private final ExecutorService scanExecutor = MillExecutors.getBlockingExecutor(
+        ThreadPoolManager.getPool("milllan")
+    );
+
+    /** The {@link SubnetScanner} used to find hosts */
+    private final SubnetScanner scanner = new SubnetScanner(MAX_CONCURRENT_CONNECTS, CONNECT_TIMEOUT_MILLIS);
+
+    /** The {@link MillAddressRegistry} that is updated with the found addresses */
+    private final MillAddressRegistry addressRegistry;
+
+    /** The currently running scan, <b>must be synchronized</b> on {@code this}! */
+    @Nullable
+    private Future<?> scanTask;
+
+    /**
+     * Creates a new instance using the specified parameters.
+     *
+     * @param componentContext the {@link ComponentContext}.
+     * @param i18nProvider the {@link TranslationProvider}.
+     * @param localeProvider the {@link LocaleProvider}.
+     * @param httpClientProvider the {@link MillHTTPClientProvider}.
+     * @param addressRegistry the {@link MillAddressRegistry}.
+     */
+    @Activate
+    public MillSubnetDiscoveryService(
+        ComponentContext componentContext,
+        @Reference TranslationProvider i18nProvider,
+        @Reference LocaleProvider localeProvider,
+        @Reference MillHTTPClientProvider httpClientProvider,
+        @Reference MillAddressRegistry addressRegistry
+    ) {
+        super(MillMDNSDiscoveryParticipant.DISCOVERABLE_THING_TYPES_UIDS, SCAN_TIMEOUT_SECONDS, false);
+        this.i18nProvider = i18nProvider;
+        this.localeProvider = localeProvider;
+        this.addressRegistry = addressRegistry;
+        this.bundle = componentContext.getBundleContext().getBundle();
+        this.apiTool = new MillAPITool(httpClientProvider, null, PROBE_TIMEOUT_MILLIS);
+    }
+
+    @Override
+    protected synchronized void startScan() {
+        Future<?> task = scanTask;
+        if (task != null && !task.isDone()) {
+            logger.debug("Subnet scan is already running");
+            return;
+        }
+        try {
+            scanTask = scanExecutor.submit(this::scan);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Unable to start Mill LAN subnet scan: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    protected synchronized void stopScan() {
+        Future<?> task = scanTask;
+        if (task != null) {
+            task.cancel(true);
+            scanTask = null;
+        }
+        super.stopScan();
+    }
+
+    /**
+     * Scans the local subnets and probes the hosts that have an open HTTP port.
+     */
+    protected void scan() {
+        long start = System.nanoTime();
+        List<InetAddress> hosts;
+        try {
+            hosts = scanner.findOpenPort(scanner.getLocalSubnetHosts(), HTTP_PORT);
+        } catch (IOException e) {
+            logger.warn("Mill LAN subnet scan failed: {}", e.getMessage());
+            return;
+        }
+        logger.debug(
+            "Found {} hosts with port {} open in {} ms",
+            hosts.size(),
+            HTTP_PORT,
+            (System.nanoTime() - start) / 1000000L
+        );
+
+        List<Future<?>> probes = new ArrayList<>(hosts.size());
+        for (InetAddress host : hosts) {
+            probes.add(executor.submit(() -> probe(host)));
+        }
+        try {
+            for (Future<?> probe : probes) {
+                try {
+                    probe.get();
+                } catch (ExecutionException | CancellationException e) {
+                    logger.debug("Probe failed: {}", e.getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            for (Future<?> probe : probes) {
+                probe.cancel(true);
+            }
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Probes the specified host with {@code GET/status} and registers a discovery result if it's a
+     * supported device.
+     *
+     * @param host the host to probe.
+     */
+    protected void probe(InetAddress host) {
+        String hostname = host.getHostAddress();
+        StatusResponse status;
+        try {
+            status = apiTool.getStatus(hostname, null);
+        } catch (MillException e) {
+            logger.trace("Host {} isn't a Mill device: {}", hostname, e.getMessage());
+            return;
+        }
+        String macAddress = status.getMacAddress();
+        String name = status.getName();
+        if (macAddress == null || macAddress.isBlank()) {
+            logger.trace("Host {} didn't provide a MAC address, ignoring it", hostname);
+            return;
+        }
+        addressRegistry.update(macAddress, hostname);
+        ThingTypeUID thingTypeUID = getThingTypeUID(name);
+        if (thingTypeUID == null) {
+            logger.warn(
+                "Mill LAN discovered an unrecognized Mill device. The details should be reported to the binding " +
+                "developer so that it can be recognized in the future. name=\"{}\", ip address=\"{}\"",
+                name,
+                hostname
+            );
+            return;
+        }
+
+        String label = i18nProvider.getText(
+            bundle,
+            "discovery.milllan." + thingTypeUID.getId() + ".label",
+            "Mill " + thingTypeUID.getId(),
+            localeProvider.getLocale()
+        );
+        ThingUID uid = new ThingUID(thingTypeUID, macAddress.replace(":", "").toLowerCase(Locale.ROOT));
+        thingDiscovered(
+            DiscoveryResultBuilder.create(uid)
+                .withLabel(label == null ? uid.getId() : label)
+                .withProperty(CONFIG_PARAM_HOSTNAME, hostname)
+                .withProperty(Thing.PROPERTY_MAC_ADDRESS, macAddress)
+                .withRepresentationProperty(Thing.PROPERTY_MAC_ADDRESS)
+                .build()
+        );
+    }
+
+    /**
+     * Determines the {@link ThingTypeUID} from the device name reported by {@code GET/status}.
+     * <p>
+     * There is no documentation regarding the device names, so this logic must be adapted as devices are
+     * tested.
+     *
+     * @param name the device name.
+     * @return The {@link ThingTypeUID} or {@code null} if the name isn't recognized.
+     */
+    @Nullable
+    protected static ThingTypeUID getThingTypeUID(@Nullable String name) {
+        if (name == null) {
+            return null;
+        }
+        String lowerName = name.toLowerCase(Locale.ROOT);
+        if (lowerName.contains("panel")) {
+            return THING_TYPE_PANEL_HEATER;
+        }
+        if (lowerName.contains("convection")) {
+            return THING_TYPE_CONVECTION_HEATER;
+        }
+        if (lowerName.contains("oil")) {
+            return THING_TYPE_OIL_HEATER;
+        }
+        if (lowerName.contains("socket")) {
+            return THING_TYPE_WIFI_SOCKET;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.discovery;
+
+import java.io.IOException;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.InterfaceAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.nio.channels.Channel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * This class finds the hosts on the local IPv4 subnets that accept {@code TCP} connections on a given port.
+ * The connections are made using non-blocking NIO with a bounded number of simultaneous connection
+ * attempts, so that a single thread can scan a subnet quickly without flooding the network.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public class SubnetScanner {
+
+    /** The smallest network prefix length that is scanned, larger subnets are limited to the local /24 */
+    public static final int MIN_PREFIX_LENGTH = 24;
+
+    private static final long SELECT_TIMEOUT_MILLIS = 50L;
+
+    private final Logger logger = LoggerFactory.getLogger(SubnetScanner.class);
+
+    private final int maxConcurrent;
+
+    private final long connectTimeoutNanos;
+
+    /**
+     * Creates a new instance using the specified parameters.
+     *
+     * @param maxConcurrent the maximum number of simultaneous connection attempts.
+     * @param connectTimeoutMillis the connection timeout in milliseconds.
+     */
+    public SubnetScanner(int maxConcurrent, long connectTimeoutMillis) {
+        this.maxConcurrent = maxConcurrent;
+        this.connectTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(connectTimeoutMillis);
+    }
+
+    /**
+     * Finds the host addresses of the IPv4 subnets of all active, non-loopback network interfaces.
+     * Subnets larger than {@link #MIN_PREFIX_LENGTH} are limited to the /24 subnet containing the local
+     * address. The local addresses themselves are excluded.
+     *
+     * @return The {@link Set} of host addresses.
+     */
+    public Set<Inet4Address> getLocalSubnetHosts() {
+        Set<Inet4Address> result = new LinkedHashSet<>();
+        Set<InetAddress> localAddresses = new LinkedHashSet<>();
+        Enumeration<NetworkInterface> interfaces;
+        try {
+            interfaces = NetworkInterface.getNetworkInterfaces();
+        } catch (SocketException e) {
+            logger.warn("Unable to enumerate the network interfaces: {}", e.getMessage());
+            return result;
+        }
+        if (interfaces == null) {
+            return result;
+        }
+        while (interfaces.hasMoreElements()) {
+            NetworkInterface networkInterface = interfaces.nextElement();
+            try {
+                if (
+                    !networkInterface.isUp() ||
+                    networkInterface.isLoopback() ||
+                    networkInterface.isPointToPoint() ||
+                    networkInterface.isVirtual()
+                ) {
+                    continue;
+                }
+            } catch (SocketException e) {
+                continue;
+            }
+            for (InterfaceAddress interfaceAddress : networkInterface.getInterfaceAddresses()) {
+                InetAddress address = interfaceAddress.getAddress();
+                if (!(address instanceof Inet4Address) || address.isLinkLocalAddress()) {
+                    continue;
+                }
+                localAddresses.add(address);
+                int prefixLength = interfaceAddress.getNetworkPrefixLength();
+                if (prefixLength >= 31) {
+                    continue;
+                }
+                if (prefixLength < MIN_PREFIX_LENGTH) {
+                    logger.debug(
+                        "Limiting the scan of {}/{} on {} to the local /{}",
+                        address.getHostAddress(),
+                        prefixLength,
+                        networkInterface.getName(),
+                        MIN_PREFIX_LENGTH
+                    );
+                    prefixLength = MIN_PREFIX_LENGTH;
+                }
+                byte[] bytes = address.getAddress();
+                int ip = ((bytes[0] & 0xFF) << 24) | ((bytes[1] & 0xFF) << 16) | ((bytes[2] & 0xFF) << 8) |
+                    (bytes[3] & 0xFF);
+                int mask = -1 << (32 - prefixLength);
+                int network = ip & mask;
+                int broadcast = network | ~mask;
+                for (int host = network + 1; host < broadcast; host++) {
+                    try {
+                        result.add((Inet4Address) InetAddress.getByAddress(new byte[] {
+                            (byte) (host >>> 24),
+                            (byte) (host >>> 16),
+                            (byte) (host >>> 8),
+                            (byte) host
+                        }));
+                    } catch (UnknownHostException e) {
+                        // Can't happen with a 4 byte address
+                    }
+                }
+            }
+        }
+        result.removeAll(localAddresses);
+        return result;
+    }
+
+    /**
+     * Tries to connect to the specified port on all the specified hosts and returns those that accepted the
+     * connection. The connections are closed immediately. If the current thread is interrupted, the scan is
+     * aborted and the hosts found so far are returned.
+     *
+     * @param hosts the hosts to scan.
+     * @param port the {@code TCP} port to connect to.
+     * @return The {@link List} of hosts that accepted the connection.
+     * @throws IOException If the {@link Selector} can't be opened.
+     */
+    public List<InetAddress> findOpenPort(Collection<? extends InetAddress> hosts, int port) throws IOException {
+        List<InetAddress> result = new ArrayList<>();
+        Iterator<? extends InetAddress> iterator = hosts.iterator();
+        int inFlight = 0;
+        try (Selector selector = Selector.open()) {
+            while ((iterator.hasNext() || inFlight > 0) && !Thread.currentThread().isInterrupted()) {
+                while (inFlight < maxConcurrent && iterator.hasNext()) {
+                    InetAddress host = iterator.next();
+                    SocketChannel channel = null;
+                    try {
+                        channel = SocketChannel.open();
+                        channel.configureBlocking(false);
+                        if (channel.connect(new InetSocketAddress(host, port))) {
+                            result.add(host);
+                            channel.close();
+                        } else {
+                            channel.register(
+                                selector,
+                                SelectionKey.OP_CONNECT,
+                                new Attempt(host, System.nanoTime() + connectTimeoutNanos)
+                            );
+                            inFlight++;
+                        }
+                    } catch (IOException e) {
+                        close(channel);
+                    }
+                }
+
+                selector.select(SELECT_TIMEOUT_MILLIS);
+                Iterator<SelectionKey> selected = selector.selectedKeys().iterator();
+                while (selected.hasNext()) {
+                    SelectionKey key = selected.next();
+                    selected.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    SocketChannel channel = (SocketChannel) key.channel();
+                    try {
+                        if (channel.finishConnect()) {
+                            result.add(((Attempt) key.attachment()).host);
+                        } else {
+                            continue;
+                        }
+                    } catch (IOException e) {
+                        // Connection refused or unreachable
+                    }
+                    key.cancel();
+                    close(channel);
+                    inFlight--;
+                }
+
+                long now = System.nanoTime();
+                for (SelectionKey key : selector.keys()) {
+                    if (key.isValid() && now - ((Attempt) key.attachment()).deadline > 0L) {
+                        key.cancel();
+                        close(key.channel());
+                        inFlight--;
+                    }
+                }
+            }
+            for (SelectionKey key : selector.keys()) {
+                close(key.channel());
+            }
+        }
+        return result;
+    }
+
+    private static void close(@Nullable Channel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // Nothing to do
+            }
+        }
+    }
+
+    /**
+     * A pending connection attempt.
+     */
+    private static class Attempt {
+
+        /** The host being connected to */
+        private final InetAddress host;
+
+        /** The {@link System#nanoTime()} value when the attempt times out */
+        private final long deadline;
+
+        Attempt(InetAddress host, long deadline) {
+            this.host = host;
+            this.deadline = deadline;
+        }
+    }
+}
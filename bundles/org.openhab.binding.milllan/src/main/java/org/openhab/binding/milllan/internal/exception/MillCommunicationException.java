@@ -0,0 +1,188 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.exception;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.PortUnreachableException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.ThingStatusDetail;
+
+
+/**
+ * A {@link MillException} implementation for expected communication failures, like timeouts and refused
+ * connections, which happen all the time when devices are unreachable.
+ * <p>
+ * Unless {@link MillException#isStackTraceEnabled()}, the instances are shared, immutable and have neither
+ * a stack trace nor a cause, so that failing requests are cheap. Use {@link #getType()} instead of inspecting
+ * the cause to find out what went wrong.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public class MillCommunicationException extends MillException {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The shared instances used when stack traces are disabled */
+    private static final Map<Type, MillCommunicationException> SHARED = createShared();
+
+    /** The {@link Type} */
+    private final Type type;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type the {@link Type} of failure.
+     * @param cause the {@link Throwable} that caused this {@link Exception}.
+     * @param stackTrace whether the stack trace should be captured and suppressed exceptions recorded.
+     */
+    protected MillCommunicationException(Type type, @Nullable Throwable cause, boolean stackTrace) {
+        super(type.message, type.thingStatusDetail, type.thingStatusDescription, cause, stackTrace);
+        this.type = type;
+    }
+
+    /**
+     * @return The {@link Type} of failure.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns an instance of the specified {@link Type}. If {@link MillException#isStackTraceEnabled()}, a new
+     * instance with a stack trace and the specified cause is created, otherwise a shared instance is returned.
+     *
+     * @param type the {@link Type} of failure.
+     * @param cause the {@link Throwable} that caused the failure.
+     * @return The {@link MillCommunicationException}.
+     */
+    public static MillCommunicationException of(Type type, @Nullable Throwable cause) {
+        MillCommunicationException result;
+        if (isStackTraceEnabled() || (result = SHARED.get(type)) == null) {
+            return new MillCommunicationException(type, cause, true);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the {@link Type} of an expected failure by looking through the specified {@link Throwable} and
+     * its causes.
+     *
+     * @param throwable the {@link Throwable} to classify.
+     * @return The resulting {@link Type} or {@code null} if the failure isn't one of the expected types.
+     */
+    @Nullable
+    public static Type classify(@Nullable Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof TimeoutException || current instanceof SocketTimeoutException) {
+                return Type.TIMEOUT;
+            }
+            if (current instanceof NoRouteToHostException || current instanceof PortUnreachableException) {
+                return Type.HOST_UNREACHABLE;
+            }
+            if (current instanceof ConnectException) {
+                return Type.CONNECTION_REFUSED;
+            }
+            if (current instanceof UnknownHostException) {
+                return Type.UNKNOWN_HOST;
+            }
+            current = current.getCause() == current ? null : current.getCause();
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the specified {@link MillException} is a {@link MillCommunicationException} of the
+     * specified {@link Type}.
+     *
+     * @param e the {@link MillException} to check.
+     * @param type the {@link Type} to look for.
+     * @return {@code true} if {@code e} is of the specified {@link Type}, {@code false} otherwise.
+     */
+    public static boolean isType(MillException e, Type type) {
+        return e instanceof MillCommunicationException && ((MillCommunicationException) e).type == type;
+    }
+
+    private static Map<Type, MillCommunicationException> createShared() {
+        Map<Type, MillCommunicationException> result = new EnumMap<>(Type.class);
+        for (Type type : Type.values()) {
+            result.put(type, new MillCommunicationException(type, null, false));
+        }
+        return result;
+    }
+
+    /**
+     * This enum represents the classified communication failures.
+     */
+    public enum Type {
+
+        /** The request timed out */
+        TIMEOUT(
+            "Timed out while trying to communicate",
+            ThingStatusDetail.COMMUNICATION_ERROR,
+            "Communication timeout"
+        ),
+
+        /** The connection was refused or couldn't be established */
+        CONNECTION_REFUSED(
+            "Failed to send request: Connection refused",
+            ThingStatusDetail.COMMUNICATION_ERROR,
+            "Failed to send request: Connection refused"
+        ),
+
+        /** There is no route to the host */
+        HOST_UNREACHABLE(
+            "Failed to send request: Host unreachable",
+            ThingStatusDetail.COMMUNICATION_ERROR,
+            "Failed to send request: Host unreachable"
+        ),
+
+        /** The hostname couldn't be resolved */
+        UNKNOWN_HOST(
+            "Failed to send request: Unknown host",
+            ThingStatusDetail.COMMUNICATION_ERROR,
+            "Failed to send request: Unknown host"
+        ),
+
+        /** The request wasn't sent because the deadline of the current thread has passed */
+        DEADLINE_PASSED("The request deadline has passed", null, null);
+
+        private final String message;
+
+        @Nullable
+        private final ThingStatusDetail thingStatusDetail;
+
+        @Nullable
+        private final String thingStatusDescription;
+
+        private Type(
+            String message,
+            @Nullable ThingStatusDetail thingStatusDetail,
+            @Nullable String thingStatusDescription
+        ) {
+            this.message = message;
+            this.thingStatusDetail = thingStatusDetail;
+            this.thingStatusDescription = thingStatusDescription;
+        }
+    }
+}
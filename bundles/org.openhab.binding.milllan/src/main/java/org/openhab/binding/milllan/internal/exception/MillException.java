@@ -17,6 +17,8 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatusDetail;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 
 /**
@@ -30,6 +32,9 @@ public class MillException extends Exception {
 
     private static final long serialVersionUID = 1L;
 
+    /** The {@link Logger} whose {@code TRACE} level decides if expected failures get a stack trace */
+    private static final Logger LOGGER = LoggerFactory.getLogger(MillException.class);
+
     /** The {@link ThingStatusDetail} */
     @Nullable
     protected final ThingStatusDetail thingStatusDetail;
@@ -134,6 +139,39 @@ public class MillException extends Exception {
         this.thingStatusDescription = thingStatusDescription;
     }
 
+    /**
+     * Creates a new instance with the specified details. This constructor is meant for expected failures,
+     * where capturing the stack trace is a waste since it's never logged.
+     *
+     * @param message the message to use.
+     * @param thingStatusDetail the {@link ThingStatusDetail} to use.
+     * @param thingStatusDescription the {@link Thing} status description to use.
+     * @param cause the {@link Throwable} that caused this {@link Exception}.
+     * @param stackTrace whether the stack trace should be captured and suppressed exceptions recorded.
+     *                   If {@code false}, the instance is immutable and can be reused.
+     */
+    protected MillException(
+            @Nullable String message,
+            @Nullable ThingStatusDetail thingStatusDetail,
+            @Nullable String thingStatusDescription,
+            @Nullable Throwable cause,
+            boolean stackTrace
+    ) {
+        super(message, cause, stackTrace, stackTrace);
+        this.thingStatusDetail = thingStatusDetail;
+        this.thingStatusDescription = thingStatusDescription;
+    }
+
+    /**
+     * Returns whether expected failures should be created with a stack trace, which is only the case when
+     * {@code TRACE} logging is enabled for this class.
+     *
+     * @return {@code true} if stack traces should be captured for expected failures.
+     */
+    public static boolean isStackTraceEnabled() {
+        return LOGGER.isTraceEnabled();
+    }
+
     /**
      * @return The {@link ThingStatusDetail} or {@code null}.
      */
@@ -214,6 +214,48 @@ public class MillHTTPResponseException extends MillException {
         this.httpStatus = httpStatus;
     }
 
+    /**
+     * Creates a new instance with the specified details.
+     *
+     * @param message the message to use.
+     * @param httpStatus the {@code HTTP} status to use.
+     * @param thingStatusDetail the {@link ThingStatusDetail} to use.
+     * @param thingStatusDescription the {@link Thing} status description to use.
+     * @param cause the {@link Throwable} that caused this {@link Exception}.
+     * @param stackTrace whether the stack trace should be captured and suppressed exceptions recorded.
+     */
+    protected MillHTTPResponseException(
+        @Nullable String message,
+        int httpStatus,
+        @Nullable ThingStatusDetail thingStatusDetail,
+        @Nullable String thingStatusDescription,
+        @Nullable Throwable cause,
+        boolean stackTrace
+    ) {
+        super(message, thingStatusDetail, thingStatusDescription, cause, stackTrace);
+        this.httpStatus = httpStatus;
+    }
+
+    /**
+     * Creates a new instance for a {@code 4xx} client error response. Devices answer requests for endpoints
+     * they don't support with a client error, so these are expected during polling and are created without
+     * a stack trace unless {@link MillException#isStackTraceEnabled()}.
+     *
+     * @param message the message to use.
+     * @param httpStatus the {@code HTTP} status to use.
+     * @return The new {@link MillHTTPResponseException}.
+     */
+    public static MillHTTPResponseException clientError(@Nullable String message, int httpStatus) {
+        return new MillHTTPResponseException(
+            message,
+            httpStatus,
+            ThingStatusDetail.COMMUNICATION_ERROR,
+            message,
+            null,
+            isStackTraceEnabled()
+        );
+    }
+
     /**
      * @return The {@code HTTP} status.
      */
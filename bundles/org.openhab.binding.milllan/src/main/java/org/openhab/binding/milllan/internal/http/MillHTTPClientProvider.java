@@ -13,36 +13,52 @@
  */
 package org.openhab.binding.milllan.internal.http;
 
-import java.io.InputStream;
 import java.net.URI;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.HttpContentResponse;
+import org.eclipse.jetty.client.http.HttpClientTransportOverHTTP;
 import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
-import org.eclipse.jetty.client.util.InputStreamContentProvider;
+import org.eclipse.jetty.client.api.Result;
+import org.eclipse.jetty.client.util.BufferingResponseListener;
+import org.eclipse.jetty.client.util.BytesContentProvider;
+import org.eclipse.jetty.client.util.FutureResponseListener;
 import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.io.ArrayByteBufferPool;
 import org.eclipse.jetty.util.ssl.SslContextFactory.Client;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.openhab.binding.milllan.internal.MillExecutors;
+import org.openhab.binding.milllan.internal.exception.MillCommunicationException;
 import org.openhab.binding.milllan.internal.exception.MillException;
-import org.openhab.core.io.net.http.HttpClientFactory;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
-import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 
 /**
  * This class manages the {@link HttpClient}.
+ * <p>
+ * The {@link HttpClient} is sized for the small payloads of the Mill API: It has its own small thread pool
+ * and a single selector, uses a small pool of small buffers and rejects responses larger than
+ * {@link #MAX_RESPONSE_LENGTH}. This keeps the number of threads and the memory used by the binding the
+ * same, regardless of the number of devices. Hostnames are resolved using the {@link MillHostResolver}.
  *
  * @author Nadahar - Initial contribution
  */
@@ -50,19 +66,71 @@ import org.slf4j.LoggerFactory;
 @Component(service = {MillHTTPClientProvider.class})
 public class MillHTTPClientProvider {
 
+    /** The maximum size of a response body in bytes, larger responses are rejected */
+    public static final int MAX_RESPONSE_LENGTH = 32 * 1024;
+
+    /** The maximum number of threads used by the {@link HttpClient} */
+    public static final int MAX_THREADS = 8;
+
+    /** The number of selectors used by the {@link HttpClient} */
+    public static final int SELECTORS = 1;
+
+    /** The size of the buffers used for request and response headers and content */
+    public static final int BUFFER_SIZE = 4096;
+
+    /** The maximum heap memory in bytes retained by the buffer pool */
+    public static final long MAX_POOLED_MEMORY = 256L * 1024L;
+
+    /** The maximum number of requests to the same device handed to the {@link HttpClient} at the same time */
+    public static final int MAX_REQUESTS_PER_DEVICE = 2;
+
+    /** The maximum number of connections to the same device, one for each request and one for its hedge */
+    public static final int MAX_CONNECTIONS_PER_DEVICE = 2 * MAX_REQUESTS_PER_DEVICE;
+
     private final Logger logger = LoggerFactory.getLogger(MillHTTPClientProvider.class);
 
     private final HttpClient httpClient;
 
+    private final MillHostResolver hostResolver;
+
+    /**
+     * The request slots of each device by lower-case scheme, host and port. Entries only exist while
+     * requests to the device hold or wait for a slot.
+     */
+    private final Map<String, DeviceSlots> deviceSlots = new ConcurrentHashMap<>();
+
     /**
      * Creates a new instance and creates and starts a new {@link HttpClient}.
      *
-     * @param httpClientFactory the {@link HttpClientFactory} to use.
      * @throws IllegalStateException If the {@link HttpClient} fails to start.
      */
     @Activate
-    public MillHTTPClientProvider(@Reference HttpClientFactory httpClientFactory) {
-        this.httpClient = httpClientFactory.createHttpClient("mill-lan-binding", new Client.Client(true));
+    public MillHTTPClientProvider() {
+        QueuedThreadPool threadPool = new QueuedThreadPool(MAX_THREADS, 1, 60000);
+        threadPool.setName("OH-httpClient-mill-lan-binding");
+        threadPool.setDaemon(true);
+        threadPool.setReservedThreads(0);
+
+        this.httpClient = new HttpClient(new HttpClientTransportOverHTTP(SELECTORS), new Client.Client(true));
+        httpClient.setExecutor(threadPool);
+        this.hostResolver = new MillHostResolver(MillExecutors.getBlockingExecutor(
+            ThreadPoolManager.getPool("milllan")
+        ));
+        httpClient.setSocketAddressResolver(hostResolver);
+        httpClient.setByteBufferPool(new ArrayByteBufferPool(
+            0,
+            1024,
+            BUFFER_SIZE,
+            -1,
+            MAX_POOLED_MEMORY,
+            MAX_POOLED_MEMORY
+        ));
+        httpClient.setRequestBufferSize(BUFFER_SIZE);
+        httpClient.setResponseBufferSize(BUFFER_SIZE);
+
+        // Requests are limited by acquireDeviceSlot() before they get here, so they never wait for a connection
+        // inside the HttpClient, where the waiting time would count towards the request timeout
+        httpClient.setMaxConnectionsPerDestination(MAX_CONNECTIONS_PER_DEVICE);
         try {
             httpClient.start();
         } catch (Exception e) {
@@ -81,15 +149,88 @@ public class MillHTTPClientProvider {
         } catch (Exception e) {
             logger.warn("Failed to stop Mill LAN HTTP client: {}", e.getMessage());
         }
+        hostResolver.clear();
+    }
+
+    /**
+     * @return The {@link MillHostResolver} that resolves the hostnames of the devices.
+     */
+    public MillHostResolver getHostResolver() {
+        return hostResolver;
+    }
+
+    /**
+     * Waits until fewer than {@link #MAX_REQUESTS_PER_DEVICE} requests to the device of the specified
+     * {@link URI} are in progress. This is done before the request is handed to the {@link HttpClient}, so
+     * that the time spent waiting doesn't count towards the timeout of the request. Hedged duplicates don't
+     * need a slot, since there is a spare connection for each request. Every successful call <b>must</b> be
+     * followed by a call to {@link #releaseDeviceSlot(URI)} when the request has completed.
+     *
+     * @param uri the request {@link URI}.
+     * @param maxWait the maximum time to wait.
+     * @param timeUnit the {@link TimeUnit} of {@code maxWait}.
+     * @return The time spent waiting in nanoseconds.
+     * @throws MillException If the maximum waiting time elapsed or the thread was interrupted.
+     */
+    public long acquireDeviceSlot(URI uri, long maxWait, TimeUnit timeUnit) throws MillException {
+        long start = System.nanoTime();
+        String key = getDeviceKey(uri);
+        DeviceSlots slots = deviceSlots.compute(key, (k, v) -> {
+            DeviceSlots result = v == null ? new DeviceSlots() : v;
+            result.users++;
+            return result;
+        });
+        boolean acquired = false;
+        try {
+            acquired = slots.semaphore.tryAcquire(maxWait, timeUnit);
+            if (!acquired) {
+                throw MillCommunicationException.of(MillCommunicationException.Type.TIMEOUT, null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MillException("Interrupted while waiting for a free request slot", e);
+        } finally {
+            if (!acquired) {
+                removeUser(key);
+            }
+        }
+        return System.nanoTime() - start;
     }
 
     /**
-     * Sends a {@code HTTP} request using the specified parameters and returns the response.
+     * Releases the request slot acquired with {@link #acquireDeviceSlot(URI, long, TimeUnit)}.
+     *
+     * @param uri the request {@link URI}.
+     */
+    public void releaseDeviceSlot(URI uri) {
+        String key = getDeviceKey(uri);
+        DeviceSlots slots = deviceSlots.get(key);
+        if (slots != null) {
+            slots.semaphore.release();
+            removeUser(key);
+        }
+    }
+
+    private void removeUser(String key) {
+        deviceSlots.computeIfPresent(key, (k, v) -> --v.users <= 0 ? null : v);
+    }
+
+    private static String getDeviceKey(URI uri) {
+        String scheme = uri.getScheme();
+        String host = uri.getHost();
+        return ((scheme == null ? "" : scheme) + "://" + (host == null ? "" : host) + ':' + uri.getPort())
+            .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Sends a {@code HTTP} request using the specified parameters and returns the response. Responses with
+     * a body larger than {@link #MAX_RESPONSE_LENGTH} are rejected.
      *
      * @param uri the {@link URI} to contact.
      * @param method the {@link HttpMethod} to use.
      * @param headers the {@code HTTP} headers or {@code null}.
-     * @param content the body content or {@code null}.
+     * @param content the body content or {@code null}. The array is sent as is, with a known
+     *        {@code Content-Length}, and must not be modified until the request has completed.
      * @param contentType the {@code Content-Type}. Ignored if {@code content} is {@code null}.
      * @param timeout the timeout value.
      * @param timeUnit the timeout {@link TimeUnit}.
@@ -100,11 +241,96 @@ public class MillHTTPClientProvider {
         URI uri,
         HttpMethod method,
         @Nullable Map<String, String> headers,
-        @Nullable InputStream content,
+        byte @Nullable [] content,
         @Nullable String contentType, //Doc: Ignored in content is null
         long timeout,
         @Nullable TimeUnit timeUnit
     ) throws MillException {
+        Request request = createRequest(uri, method, headers, timeout, timeUnit);
+
+        if (content != null) {
+            request.content(new BytesContentProvider(content), contentType);
+        }
+
+        FutureResponseListener listener = new FutureResponseListener(request, MAX_RESPONSE_LENGTH);
+        try {
+            logger.trace("Sending HTTP request: {}", request);
+            request.send(listener);
+            return listener.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            request.abort(cause);
+            throw createException(cause);
+        } catch (InterruptedException e) {
+            request.abort(e);
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            throw new MillException("Interrupted while sending request", cause);
+        }
+    }
+
+    /**
+     * Sends a {@code HTTP} request without a body asynchronously. The returned {@link CompletableFuture}
+     * completes with the response, or exceptionally with a {@link MillException}. Cancelling it aborts the
+     * request. Responses with a body larger than {@link #MAX_RESPONSE_LENGTH} are rejected.
+     *
+     * @param uri the {@link URI} to contact.
+     * @param method the {@link HttpMethod} to use.
+     * @param headers the {@code HTTP} headers or {@code null}.
+     * @param timeout the timeout value.
+     * @param timeUnit the timeout {@link TimeUnit}.
+     * @return The {@link CompletableFuture} that completes with the resulting {@link ContentResponse}.
+     */
+    public CompletableFuture<ContentResponse> sendAsync(
+        URI uri,
+        HttpMethod method,
+        @Nullable Map<String, String> headers,
+        long timeout,
+        @Nullable TimeUnit timeUnit
+    ) {
+        Request request = createRequest(uri, method, headers, timeout, timeUnit);
+        CompletableFuture<ContentResponse> result = new CompletableFuture<>();
+        result.whenComplete((r, t) -> {
+            if (result.isCancelled()) {
+                request.abort(new CancellationException("Request cancelled"));
+            }
+        });
+        logger.trace("Sending asynchronous HTTP request: {}", request);
+        request.send(new BufferingResponseListener(MAX_RESPONSE_LENGTH) {
+
+            @Override
+            public void onComplete(Result completeResult) {
+                if (completeResult.isFailed()) {
+                    result.completeExceptionally(createException(completeResult.getFailure()));
+                } else {
+                    result.complete(new HttpContentResponse(
+                        completeResult.getResponse(),
+                        getContent(),
+                        getMediaType(),
+                        getEncoding()
+                    ));
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Creates a new {@link Request} using the specified parameters.
+     *
+     * @param uri the {@link URI} to contact.
+     * @param method the {@link HttpMethod} to use.
+     * @param headers the {@code HTTP} headers or {@code null}.
+     * @param timeout the timeout value.
+     * @param timeUnit the timeout {@link TimeUnit}.
+     * @return The new {@link Request}.
+     */
+    protected Request createRequest(
+        URI uri,
+        HttpMethod method,
+        @Nullable Map<String, String> headers,
+        long timeout,
+        @Nullable TimeUnit timeUnit
+    ) {
         Request request = httpClient.newRequest(uri).method(method).timeout(
             timeout,
             timeUnit == null ? TimeUnit.MILLISECONDS : timeUnit
@@ -119,35 +345,36 @@ public class MillHTTPClientProvider {
                 }
             }
         }
+        return request;
+    }
 
-        if (content != null) {
-            try (InputStreamContentProvider inputStreamContentProvider = new InputStreamContentProvider(content)) {
-                request.content(inputStreamContentProvider, contentType);
-            }
+    /**
+     * Creates the {@link MillException} to throw for a failed request.
+     *
+     * @param cause the {@link Throwable} that made the request fail.
+     * @return The new {@link MillException}.
+     */
+    protected MillException createException(Throwable cause) {
+        MillCommunicationException.Type type = MillCommunicationException.classify(cause);
+        if (type != null) {
+            return MillCommunicationException.of(type, cause);
         }
+        return new MillException(
+            "Failed to send request",
+            ThingStatusDetail.COMMUNICATION_ERROR,
+            "Failed to send request: " + cause.getMessage(),
+            cause
+       );
+    }
 
-        try {
-            logger.trace("Sending HTTP request: {}", request);
-            return request.send();
-        } catch (ExecutionException e) {
-            Throwable cause = e.getCause() == null ? e : e.getCause();
-            throw new MillException(
-                "Failed to send request",
-                ThingStatusDetail.COMMUNICATION_ERROR,
-                "Failed to send request: " + (cause == null ? "" : cause.getMessage()),
-                cause
-           );
-        } catch (InterruptedException e) {
-            Throwable cause = e.getCause() == null ? e : e.getCause();
-            throw new MillException("Interrupted while sending request", cause);
-        } catch (TimeoutException e) {
-            Throwable cause = e.getCause() == null ? e : e.getCause();
-            throw new MillException(
-                "Timed out while trying to communicate",
-                ThingStatusDetail.COMMUNICATION_ERROR,
-                "Communication timeout",
-                cause
-           );
-        }
+    /**
+     * The request slots of a single device.
+     */
+    private static class DeviceSlots {
+
+        final Semaphore semaphore = new Semaphore(MAX_REQUESTS_PER_DEVICE, true);
+
+        /** The number of requests holding or waiting for a slot, only modified by the atomic map operations */
+        int users;
     }
 }
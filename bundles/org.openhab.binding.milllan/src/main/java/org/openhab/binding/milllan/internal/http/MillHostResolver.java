@@ -0,0 +1,322 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.http;
+
+import static org.openhab.binding.milllan.internal.MillBindingConstants.DEFAULT_ADDRESS_CACHE_MAX_AGE;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.util.Promise;
+import org.eclipse.jetty.util.SocketAddressResolver;
+import org.openhab.binding.milllan.internal.MillUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * This class resolves and caches the IP addresses of configured hostnames, both for the connections opened
+ * by the {@link HttpClient} and for offline polling.
+ * <p>
+ * Cached addresses are used until they are older than the maximum age of the host, after which they are
+ * still used while a new lookup is done in the background. If a lookup fails, the last known addresses are
+ * kept. Callers only wait for a lookup if the host has never been resolved, or if caching is disabled for
+ * the host. IP addresses are never looked up or cached.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public class MillHostResolver implements SocketAddressResolver {
+
+    /** The maximum age in nanoseconds for hosts that haven't been given one */
+    public static final long DEFAULT_MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(DEFAULT_ADDRESS_CACHE_MAX_AGE);
+
+    /** The longest time in nanoseconds to wait before retrying a failed lookup when addresses are known */
+    public static final long RETRY_DELAY_NANOS = TimeUnit.SECONDS.toNanos(30L);
+
+    private final Logger logger = LoggerFactory.getLogger(MillHostResolver.class);
+
+    /** The {@link ExecutorService} that does the blocking lookups */
+    private final ExecutorService executor;
+
+    /** The cache entries by lower-case host */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param executor the {@link ExecutorService} to do the blocking lookups on.
+     */
+    public MillHostResolver(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Sets the maximum age of the cached addresses of the specified host, and starts a lookup in the
+     * background if the host hasn't been resolved yet or the cached addresses are too old.
+     *
+     * @param host the host without port number.
+     * @param maxAgeNanos the maximum age in nanoseconds, {@code 0} to disable caching.
+     */
+    public void setMaxAge(String host, long maxAgeNanos) {
+        String name = stripBrackets(host);
+        if (MillUtil.isIPAddress(name)) {
+            return;
+        }
+        Entry entry = getEntry(name);
+        entry.setMaxAge(maxAgeNanos);
+        if (entry.isStale()) {
+            entry.refresh();
+        }
+    }
+
+    /**
+     * Removes all cached addresses.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the addresses of the specified host. Cached addresses are returned without blocking, even if
+     * they are too old, in which case a lookup is started in the background.
+     *
+     * @param host the host without port number.
+     * @return The array of {@link InetAddress}es.
+     * @throws UnknownHostException If the host has never been resolved and can't be resolved now.
+     */
+    public InetAddress[] getAddresses(String host) throws UnknownHostException {
+        String name = stripBrackets(host);
+        if (MillUtil.isIPAddress(name)) {
+            return InetAddress.getAllByName(name);
+        }
+        Entry entry = getEntry(name);
+        InetAddress[] result = entry.getCached();
+        if (result != null) {
+            return result;
+        }
+        try {
+            return entry.refresh().join();
+        } catch (CompletionException e) {
+            throw toUnknownHostException(name, e.getCause() == null ? e : e.getCause());
+        }
+    }
+
+    @Override
+    public void resolve(String host, int port, Promise<List<InetSocketAddress>> promise) {
+        String name = stripBrackets(host);
+        if (MillUtil.isIPAddress(name)) {
+            try {
+                promise.succeeded(toSocketAddresses(InetAddress.getAllByName(name), port));
+            } catch (UnknownHostException e) {
+                promise.failed(e);
+            }
+            return;
+        }
+        Entry entry = getEntry(name);
+        InetAddress[] addresses = entry.getCached();
+        if (addresses != null) {
+            promise.succeeded(toSocketAddresses(addresses, port));
+            return;
+        }
+        entry.refresh().whenComplete((result, t) -> {
+            if (t == null) {
+                promise.succeeded(toSocketAddresses(result, port));
+            } else {
+                promise.failed(toUnknownHostException(name, t));
+            }
+        });
+    }
+
+    private Entry getEntry(String name) {
+        return entries.computeIfAbsent(name.toLowerCase(Locale.ROOT), k -> new Entry(name));
+    }
+
+    private static String stripBrackets(String host) {
+        String s = host.trim();
+        if (s.startsWith("[") && s.endsWith("]")) {
+            return s.substring(1, s.length() - 1);
+        }
+        return s;
+    }
+
+    private static List<InetSocketAddress> toSocketAddresses(InetAddress[] addresses, int port) {
+        List<InetSocketAddress> result = new ArrayList<>(addresses.length);
+        for (InetAddress address : addresses) {
+            result.add(new InetSocketAddress(address, port));
+        }
+        return result;
+    }
+
+    private static UnknownHostException toUnknownHostException(String name, Throwable t) {
+        Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+        if (cause instanceof UnknownHostException) {
+            return (UnknownHostException) cause;
+        }
+        UnknownHostException result = new UnknownHostException(name + ": " + cause.getMessage());
+        result.initCause(cause);
+        return result;
+    }
+
+    /**
+     * The cached addresses of a single host.
+     */
+    private class Entry {
+
+        private final String host;
+
+        /** The maximum age in nanoseconds, <b>must be synchronized</b> on {@code this}! */
+        private long maxAgeNanos = DEFAULT_MAX_AGE_NANOS;
+
+        /** The last known addresses, <b>must be synchronized</b> on {@code this}! */
+        private InetAddress @Nullable [] addresses;
+
+        /** The {@link System#nanoTime()} when a new lookup is due, <b>must be synchronized</b> on {@code this}! */
+        private long refreshAfterNanos;
+
+        /** The lookup in progress, <b>must be synchronized</b> on {@code this}! */
+        @Nullable
+        private CompletableFuture<InetAddress[]> pending;
+
+        Entry(String host) {
+            this.host = host;
+        }
+
+        void setMaxAge(long maxAgeNanos) {
+            long newMaxAge = Math.max(0L, maxAgeNanos);
+            synchronized (this) {
+                if (newMaxAge < this.maxAgeNanos && addresses != null) {
+                    long latest = System.nanoTime() + newMaxAge;
+                    if (refreshAfterNanos - latest > 0L) {
+                        refreshAfterNanos = latest;
+                    }
+                }
+                this.maxAgeNanos = newMaxAge;
+            }
+        }
+
+        synchronized boolean isStale() {
+            return addresses == null || System.nanoTime() - refreshAfterNanos >= 0L;
+        }
+
+        /**
+         * Returns the cached addresses if caching is enabled, starting a lookup in the background if they are
+         * too old.
+         *
+         * @return The cached addresses or {@code null} if the caller must wait for a lookup.
+         */
+        InetAddress @Nullable [] getCached() {
+            InetAddress[] result;
+            boolean stale;
+            synchronized (this) {
+                result = addresses;
+                if (result == null || maxAgeNanos <= 0L) {
+                    return null;
+                }
+                stale = System.nanoTime() - refreshAfterNanos >= 0L;
+            }
+            if (stale) {
+                refresh();
+            }
+            return result;
+        }
+
+        /**
+         * Starts a lookup unless one is already in progress. If the lookup fails and addresses have been
+         * resolved before, the returned {@link CompletableFuture} completes with the last known addresses.
+         *
+         * @return The {@link CompletableFuture} of the lookup.
+         */
+        synchronized CompletableFuture<InetAddress[]> refresh() {
+            CompletableFuture<InetAddress[]> result = pending;
+            if (result != null) {
+                return result;
+            }
+            CompletableFuture<InetAddress[]> future = new CompletableFuture<>();
+            pending = future;
+            try {
+                executor.execute(() -> lookup(future));
+            } catch (RejectedExecutionException e) {
+                pending = null;
+                InetAddress[] last = addresses;
+                if (last != null) {
+                    future.complete(last);
+                } else {
+                    future.completeExceptionally(e);
+                }
+            }
+            return future;
+        }
+
+        private void lookup(CompletableFuture<InetAddress[]> future) {
+            InetAddress[] resolved = null;
+            Exception failure = null;
+            try {
+                resolved = InetAddress.getAllByName(host);
+            } catch (UnknownHostException | RuntimeException e) {
+                failure = e;
+            }
+            InetAddress[] result;
+            synchronized (this) {
+                pending = null;
+                long now = System.nanoTime();
+                if (resolved != null && resolved.length > 0) {
+                    addresses = resolved;
+                    refreshAfterNanos = now + maxAgeNanos;
+                } else {
+                    refreshAfterNanos = now + Math.min(maxAgeNanos, RETRY_DELAY_NANOS);
+                }
+                result = addresses;
+            }
+            if (resolved != null && resolved.length > 0) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Resolved \"{}\" to {}", host, Arrays.toString(resolved));
+                }
+                future.complete(resolved);
+            } else if (result != null) {
+                logger.debug(
+                    "Failed to resolve \"{}\", using the last known addresses {}: {}",
+                    host,
+                    Arrays.toString(result),
+                    failure == null ? "No addresses" : failure.getMessage()
+                );
+                future.complete(result);
+            } else {
+                logger.debug(
+                    "Failed to resolve \"{}\": {}",
+                    host,
+                    failure == null ? "No addresses" : failure.getMessage()
+                );
+                future.completeExceptionally(
+                    failure == null ? new UnknownHostException(host + ": No addresses") : failure
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.milllan.internal.api.RequestEvent;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
+import org.openhab.core.thing.ThingUID;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+
+/**
+ * A {@link MillMetrics} implementation that publishes the metrics to openHAB's Micrometer
+ * {@link MeterRegistry}, which makes them available to the openHAB metrics integrations.
+ * <p>
+ * This component is only activated when openHAB's {@link MeterRegistryProvider} is available.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = {MillMetrics.class})
+public class MicrometerMillMetrics implements MillMetrics {
+
+    /** The common prefix for all meter names */
+    public static final String METER_PREFIX = "milllan.";
+
+    /** The request {@link Timer} name */
+    public static final String METER_REQUESTS = METER_PREFIX + "requests";
+
+    /** The request error {@link Counter} name */
+    public static final String METER_REQUEST_ERRORS = METER_PREFIX + "requests.errors";
+
+    /** The request queue wait {@link Timer} name */
+    public static final String METER_REQUEST_QUEUE = METER_PREFIX + "requests.queue";
+
+    /** The response size {@link DistributionSummary} name */
+    public static final String METER_RESPONSE_SIZE = METER_PREFIX + "responses.size";
+
+    /** The hedged request {@link Counter} name */
+    public static final String METER_REQUEST_HEDGES = METER_PREFIX + "requests.hedges";
+
+    /** The poll cycle {@link Timer} name */
+    public static final String METER_POLLS = METER_PREFIX + "polls";
+
+    private final Logger logger = LoggerFactory.getLogger(MicrometerMillMetrics.class);
+
+    private final MeterRegistry registry;
+
+    /** The registered {@link Meter}s per {@link Meter} key per {@link ThingUID} */
+    private final Map<ThingUID, Map<String, Meter>> meters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance using the specified parameters.
+     *
+     * @param meterRegistryProvider the {@link MeterRegistryProvider} to use.
+     */
+    @Activate
+    public MicrometerMillMetrics(@Reference MeterRegistryProvider meterRegistryProvider) {
+        this.registry = meterRegistryProvider.getOHMeterRegistry();
+        logger.debug("Mill metrics are published to {}", registry);
+    }
+
+    /**
+     * Removes all registered {@link Meter}s.
+     */
+    @Deactivate
+    public void deactivate() {
+        for (ThingUID thingUID : meters.keySet()) {
+            removeDevice(thingUID);
+        }
+    }
+
+    @Override
+    public void requestCompleted(ThingUID thingUID, RequestEvent event) {
+        Map<String, Meter> deviceMeters = meters.computeIfAbsent(thingUID, k -> new ConcurrentHashMap<>());
+        String thing = thingUID.getAsString();
+        String endpoint = event.getUri().getPath();
+        String method = event.getMethod().asString();
+        String outcome = getOutcome(event);
+
+        ((Timer) deviceMeters.computeIfAbsent(
+            METER_REQUESTS + '|' + endpoint + '|' + method + '|' + outcome,
+            k -> Timer.builder(METER_REQUESTS)
+                .description("Mill API requests")
+                .tag("thing", thing)
+                .tag("endpoint", endpoint)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(5L))
+                .maximumExpectedValue(Duration.ofSeconds(30L))
+                .register(registry)
+        )).record(event.getDurationNanos(), TimeUnit.NANOSECONDS);
+
+        ((Timer) deviceMeters.computeIfAbsent(
+            METER_REQUEST_QUEUE,
+            k -> Timer.builder(METER_REQUEST_QUEUE)
+                .description("Time Mill API requests waited for the request limits")
+                .tag("thing", thing)
+                .register(registry)
+        )).record(event.getQueueNanos(), TimeUnit.NANOSECONDS);
+
+        if (event.getBytesReceived() > 0) {
+            ((DistributionSummary) deviceMeters.computeIfAbsent(
+                METER_RESPONSE_SIZE + '|' + endpoint,
+                k -> DistributionSummary.builder(METER_RESPONSE_SIZE)
+                    .description("Mill API response body sizes")
+                    .baseUnit("bytes")
+                    .tag("thing", thing)
+                    .tag("endpoint", endpoint)
+                    .register(registry)
+            )).record(event.getBytesReceived());
+        }
+
+        if (event.isHedged()) {
+            String result = event.isHedgeWon() ? "won" : "lost";
+            ((Counter) deviceMeters.computeIfAbsent(
+                METER_REQUEST_HEDGES + '|' + endpoint + '|' + result,
+                k -> Counter.builder(METER_REQUEST_HEDGES)
+                    .description("Duplicate Mill API requests sent because the response was slow")
+                    .tag("thing", thing)
+                    .tag("endpoint", endpoint)
+                    .tag("result", result)
+                    .register(registry)
+            )).increment();
+        }
+
+        if (!event.isSuccess()) {
+            String status = event.getHttpStatus() > 0 ? Integer.toString(event.getHttpStatus()) : "none";
+            ((Counter) deviceMeters.computeIfAbsent(
+                METER_REQUEST_ERRORS + '|' + endpoint + '|' + outcome + '|' + status,
+                k -> Counter.builder(METER_REQUEST_ERRORS)
+                    .description("Failed Mill API requests")
+                    .tag("thing", thing)
+                    .tag("endpoint", endpoint)
+                    .tag("type", outcome)
+                    .tag("status", status)
+                    .register(registry)
+            )).increment();
+        }
+    }
+
+    @Override
+    public void pollCompleted(ThingUID thingUID, String pollType, long durationNanos) {
+        Map<String, Meter> deviceMeters = meters.computeIfAbsent(thingUID, k -> new ConcurrentHashMap<>());
+        ((Timer) deviceMeters.computeIfAbsent(
+            METER_POLLS + '|' + pollType,
+            k -> Timer.builder(METER_POLLS)
+                .description("Mill device poll cycles")
+                .tag("thing", thingUID.getAsString())
+                .tag("poll", pollType)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(10L))
+                .maximumExpectedValue(Duration.ofMinutes(2L))
+                .register(registry)
+        )).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void removeDevice(ThingUID thingUID) {
+        Map<String, Meter> deviceMeters = meters.remove(thingUID);
+        if (deviceMeters != null) {
+            for (Meter meter : deviceMeters.values()) {
+                registry.remove(meter);
+            }
+        }
+    }
+
+    /**
+     * Classifies the outcome of a request.
+     *
+     * @param event the {@link RequestEvent} to classify.
+     * @return The outcome tag value.
+     */
+    protected static String getOutcome(RequestEvent event) {
+        if (event.isSuccess()) {
+            return "success";
+        }
+        if (event.isTimeout()) {
+            return "timeout";
+        }
+        if (event.isParseFailure()) {
+            return "parse-error";
+        }
+        if (event.getHttpStatus() > 0 && (event.getHttpStatus() < 200 || event.getHttpStatus() >= 300)) {
+            return "http-error";
+        }
+        return "error";
+    }
+}
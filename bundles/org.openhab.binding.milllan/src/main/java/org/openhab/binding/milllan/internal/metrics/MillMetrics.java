@@ -0,0 +1,60 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.metrics;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.milllan.internal.api.RequestEvent;
+import org.openhab.core.thing.ThingUID;
+
+
+/**
+ * This interface is implemented by the service that records the request and polling metrics for the Mill
+ * devices. It doesn't expose any metrics library types, so that the binding works normally when no metrics
+ * service is available.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public interface MillMetrics {
+
+    /** The poll type for the frequent poll cycle */
+    public static final String POLL_FREQUENT = "frequent";
+
+    /** The poll type for the infrequent poll cycle */
+    public static final String POLL_INFREQUENT = "infrequent";
+
+    /**
+     * Records a completed request.
+     *
+     * @param thingUID the {@link ThingUID} of the device the request was sent to.
+     * @param event the {@link RequestEvent} describing the request.
+     */
+    void requestCompleted(ThingUID thingUID, RequestEvent event);
+
+    /**
+     * Records a completed poll cycle.
+     *
+     * @param thingUID the {@link ThingUID} of the polled device.
+     * @param pollType the poll type, {@link #POLL_FREQUENT} or {@link #POLL_INFREQUENT}.
+     * @param durationNanos the duration of the poll cycle in nanoseconds.
+     */
+    void pollCompleted(ThingUID thingUID, String pollType, long durationNanos);
+
+    /**
+     * Removes all the metrics recorded for the specified device.
+     *
+     * @param thingUID the {@link ThingUID} of the device.
+     */
+    void removeDevice(ThingUID thingUID);
+}
@@ -0,0 +1,182 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.poll;
+
+import static org.openhab.binding.milllan.internal.MillBindingConstants.THING_TYPE_ALL_FUNCTIONS;
+import static org.openhab.binding.milllan.internal.MillBindingConstants.THING_TYPE_CONVECTION_HEATER;
+import static org.openhab.binding.milllan.internal.MillBindingConstants.THING_TYPE_OIL_HEATER;
+import static org.openhab.binding.milllan.internal.MillBindingConstants.THING_TYPE_PANEL_HEATER;
+import static org.openhab.binding.milllan.internal.MillBindingConstants.THING_TYPE_WIFI_SOCKET;
+import static org.openhab.binding.milllan.internal.poll.PollCadence.*;
+import static org.openhab.binding.milllan.internal.poll.PollEndpoint.*;
+
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.milllan.internal.poll.PollPlan.Step;
+import org.openhab.core.thing.ThingTypeUID;
+
+
+/**
+ * This class holds the {@link PollPlan}s of the supported thing types. To change what is polled for a thing
+ * type, or how often, modify its plan here.
+ * <p>
+ * Priorities are grouped so that the core endpoint comes first, followed by endpoints that update
+ * {@link org.openhab.core.thing.Channel}s and finally endpoints that only update configuration parameters.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public final class MillPollPlanRegistry {
+
+    /** The {@link PollPlan} for {@code Panel Heater} */
+    public static final PollPlan PANEL_HEATER = new PollPlan(
+        new Step(CONTROL_STATUS, FREQUENT, 0),
+        new Step(SET_TEMPERATURE_NORMAL, FREQUENT, 10),
+        new Step(SET_TEMPERATURE_COMFORT, FREQUENT, 11),
+        new Step(SET_TEMPERATURE_SLEEP, FREQUENT, 12),
+        new Step(SET_TEMPERATURE_AWAY, FREQUENT, 13),
+        new Step(STATUS, INFREQUENT, 0),
+        new Step(TEMPERATURE_CALIBRATION_OFFSET, INFREQUENT, 20),
+        new Step(DISPLAY_UNIT, INFREQUENT, 21),
+        new Step(LIMITED_HEATING_POWER, INFREQUENT, 22),
+        new Step(CONTROLLER_TYPE, INFREQUENT, 23),
+        new Step(PREDICTIVE_HEATING_TYPE, INFREQUENT, 24),
+        /*
+         * Commercial lock functionality seems to be completely broken, at least in firmware
+         * 0x230630. COMMERCIAL_LOCK_CUSTOMIZATION is thus left out here as trying to use it will only
+         * lead to frustration. If this changes in the future, a logic that
+         * looks at the firmware and enables it in working versions could be implemented here.
+         *
+         * If enabled, COMMERCIAL_LOCK can be removed, as the commercial lock state is also
+         * fetched by COMMERCIAL_LOCK_CUSTOMIZATION.
+         */
+        new Step(COMMERCIAL_LOCK, INFREQUENT, 30),
+        new Step(OPEN_WINDOW, INFREQUENT, 31),
+        new Step(TIMEZONE_OFFSET, INFREQUENT, 40),
+        new Step(PID_PARAMETERS, INFREQUENT, 41),
+        new Step(CLOUD_COMMUNICATION, INFREQUENT, 42)
+    );
+
+    /** The {@link PollPlan} for {@code Convection Heater} */
+    public static final PollPlan CONVECTION_HEATER = new PollPlan(
+        new Step(CONTROL_STATUS, FREQUENT, 0),
+        new Step(SET_TEMPERATURE_NORMAL, FREQUENT, 10),
+        new Step(SET_TEMPERATURE_COMFORT, FREQUENT, 11),
+        new Step(SET_TEMPERATURE_SLEEP, FREQUENT, 12),
+        new Step(SET_TEMPERATURE_AWAY, FREQUENT, 13),
+        new Step(STATUS, INFREQUENT, 0),
+        new Step(TEMPERATURE_CALIBRATION_OFFSET, INFREQUENT, 20),
+        new Step(DISPLAY_UNIT, INFREQUENT, 21),
+        new Step(PREDICTIVE_HEATING_TYPE, INFREQUENT, 24),
+        new Step(COMMERCIAL_LOCK, INFREQUENT, 30),
+        new Step(OPEN_WINDOW, INFREQUENT, 31),
+        new Step(TIMEZONE_OFFSET, INFREQUENT, 40),
+        new Step(CLOUD_COMMUNICATION, INFREQUENT, 42),
+        new Step(HYSTERESIS_PARAMETERS, INFREQUENT, 43)
+    );
+
+    /** The {@link PollPlan} for {@code Oil Heater} */
+    public static final PollPlan OIL_HEATER = new PollPlan(
+        new Step(CONTROL_STATUS, FREQUENT, 0),
+        new Step(SET_TEMPERATURE_NORMAL, FREQUENT, 10),
+        new Step(SET_TEMPERATURE_COMFORT, FREQUENT, 11),
+        new Step(SET_TEMPERATURE_SLEEP, FREQUENT, 12),
+        new Step(SET_TEMPERATURE_AWAY, FREQUENT, 13),
+        new Step(STATUS, INFREQUENT, 0),
+        new Step(TEMPERATURE_CALIBRATION_OFFSET, INFREQUENT, 20),
+        new Step(DISPLAY_UNIT, INFREQUENT, 21),
+        new Step(PREDICTIVE_HEATING_TYPE, INFREQUENT, 24),
+        new Step(OIL_HEATER_POWER, INFREQUENT, 25),
+        new Step(COMMERCIAL_LOCK, INFREQUENT, 30),
+        new Step(OPEN_WINDOW, INFREQUENT, 31),
+        new Step(TIMEZONE_OFFSET, INFREQUENT, 40),
+        new Step(CLOUD_COMMUNICATION, INFREQUENT, 42),
+        new Step(HYSTERESIS_PARAMETERS, INFREQUENT, 43)
+    );
+
+    /**
+     * The {@link PollPlan} for {@code Wi-Fi Socket}. The set-temperatures are only polled in the infrequent
+     * cycle, since a socket has no heater of its own and they only change by human interaction.
+     */
+    public static final PollPlan WIFI_SOCKET = new PollPlan(
+        new Step(CONTROL_STATUS, FREQUENT, 0),
+        new Step(STATUS, INFREQUENT, 0),
+        new Step(SET_TEMPERATURE_NORMAL, INFREQUENT, 10),
+        new Step(SET_TEMPERATURE_COMFORT, INFREQUENT, 11),
+        new Step(SET_TEMPERATURE_SLEEP, INFREQUENT, 12),
+        new Step(SET_TEMPERATURE_AWAY, INFREQUENT, 13),
+        new Step(TEMPERATURE_CALIBRATION_OFFSET, INFREQUENT, 20),
+        new Step(PREDICTIVE_HEATING_TYPE, INFREQUENT, 24),
+        new Step(COMMERCIAL_LOCK, INFREQUENT, 30),
+        new Step(OPEN_WINDOW, INFREQUENT, 31),
+        new Step(TIMEZONE_OFFSET, INFREQUENT, 40),
+        new Step(CLOUD_COMMUNICATION, INFREQUENT, 42),
+        new Step(HYSTERESIS_PARAMETERS, INFREQUENT, 43)
+    );
+
+    /** The {@link PollPlan} for {@code All Functions} */
+    public static final PollPlan ALL_FUNCTIONS = new PollPlan(
+        new Step(CONTROL_STATUS, FREQUENT, 0),
+        new Step(SET_TEMPERATURE_NORMAL, FREQUENT, 10),
+        new Step(SET_TEMPERATURE_COMFORT, FREQUENT, 11),
+        new Step(SET_TEMPERATURE_SLEEP, FREQUENT, 12),
+        new Step(SET_TEMPERATURE_AWAY, FREQUENT, 13),
+        new Step(STATUS, INFREQUENT, 0),
+        new Step(TEMPERATURE_CALIBRATION_OFFSET, INFREQUENT, 20),
+        new Step(DISPLAY_UNIT, INFREQUENT, 21),
+        new Step(LIMITED_HEATING_POWER, INFREQUENT, 22),
+        new Step(CONTROLLER_TYPE, INFREQUENT, 23),
+        new Step(PREDICTIVE_HEATING_TYPE, INFREQUENT, 24),
+        new Step(OIL_HEATER_POWER, INFREQUENT, 25),
+        new Step(COMMERCIAL_LOCK, INFREQUENT, 30),
+        new Step(OPEN_WINDOW, INFREQUENT, 31),
+        new Step(COMMERCIAL_LOCK_CUSTOMIZATION, INFREQUENT, 32),
+        new Step(TIMEZONE_OFFSET, INFREQUENT, 40),
+        new Step(PID_PARAMETERS, INFREQUENT, 41),
+        new Step(CLOUD_COMMUNICATION, INFREQUENT, 42),
+        new Step(HYSTERESIS_PARAMETERS, INFREQUENT, 43)
+    );
+
+    /** The {@link PollPlan} used for unknown thing types */
+    public static final PollPlan DEFAULT = new PollPlan(
+        new Step(CONTROL_STATUS, FREQUENT, 0),
+        new Step(STATUS, INFREQUENT, 0)
+    );
+
+    private static final Map<ThingTypeUID, PollPlan> PLANS = Map.of(
+        THING_TYPE_PANEL_HEATER, PANEL_HEATER,
+        THING_TYPE_CONVECTION_HEATER, CONVECTION_HEATER,
+        THING_TYPE_OIL_HEATER, OIL_HEATER,
+        THING_TYPE_WIFI_SOCKET, WIFI_SOCKET,
+        THING_TYPE_ALL_FUNCTIONS, ALL_FUNCTIONS
+    );
+
+    /**
+     * Not to be instantiated.
+     */
+    private MillPollPlanRegistry() {
+    }
+
+    /**
+     * Returns the {@link PollPlan} for the specified thing type.
+     *
+     * @param thingTypeUID the {@link ThingTypeUID}.
+     * @return The {@link PollPlan}, or {@link #DEFAULT} if the thing type is unknown.
+     */
+    public static PollPlan getPlan(ThingTypeUID thingTypeUID) {
+        PollPlan result = PLANS.get(thingTypeUID);
+        return result == null ? DEFAULT : result;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.poll;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+
+/**
+ * This enum represents the poll cycles an endpoint can be polled in.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public enum PollCadence {
+
+    /** Polled every {@code refreshInterval} */
+    FREQUENT,
+
+    /** Polled every {@code infrequentRefreshInterval} */
+    INFREQUENT;
+}
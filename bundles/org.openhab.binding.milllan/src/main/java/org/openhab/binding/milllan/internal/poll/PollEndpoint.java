@@ -0,0 +1,213 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.poll;
+
+import static org.openhab.binding.milllan.internal.MillBindingConstants.*;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.milllan.internal.AbstractMillThingHandler;
+import org.openhab.binding.milllan.internal.api.TemperatureType;
+import org.openhab.binding.milllan.internal.exception.MillException;
+import org.openhab.core.thing.Channel;
+
+
+/**
+ * This enum represents the device API endpoints that can be polled, together with what their results are used
+ * for, which determines whether they need to be polled.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public enum PollEndpoint {
+
+    /** {@code GET/control-status}, which also determines whether the device is online */
+    CONTROL_STATUS("/control-status", true, Set.of(), false, h -> h.pollControlStatus()),
+
+    /** {@code GET/status}, which updates the {@link org.openhab.core.thing.Thing} properties */
+    STATUS("/status", false, Set.of(), false, h -> h.pollStatus()),
+
+    /** {@code GET/set-temperature} for {@link TemperatureType#NORMAL} */
+    SET_TEMPERATURE_NORMAL(
+        "/set-temperature (normal)",
+        false,
+        Set.of(CHANNEL_NORMAL_SET_TEMPERATURE),
+        false,
+        h -> h.pollSetTemperature(CHANNEL_NORMAL_SET_TEMPERATURE, TemperatureType.NORMAL)
+    ),
+
+    /** {@code GET/set-temperature} for {@link TemperatureType#COMFORT} */
+    SET_TEMPERATURE_COMFORT(
+        "/set-temperature (comfort)",
+        false,
+        Set.of(CHANNEL_COMFORT_SET_TEMPERATURE),
+        false,
+        h -> h.pollSetTemperature(CHANNEL_COMFORT_SET_TEMPERATURE, TemperatureType.COMFORT)
+    ),
+
+    /** {@code GET/set-temperature} for {@link TemperatureType#SLEEP} */
+    SET_TEMPERATURE_SLEEP(
+        "/set-temperature (sleep)",
+        false,
+        Set.of(CHANNEL_SLEEP_SET_TEMPERATURE),
+        false,
+        h -> h.pollSetTemperature(CHANNEL_SLEEP_SET_TEMPERATURE, TemperatureType.SLEEP)
+    ),
+
+    /** {@code GET/set-temperature} for {@link TemperatureType#AWAY} */
+    SET_TEMPERATURE_AWAY(
+        "/set-temperature (away)",
+        false,
+        Set.of(CHANNEL_AWAY_SET_TEMPERATURE),
+        false,
+        h -> h.pollSetTemperature(CHANNEL_AWAY_SET_TEMPERATURE, TemperatureType.AWAY)
+    ),
+
+    /** {@code GET/temperature-calibration-offset} */
+    TEMPERATURE_CALIBRATION_OFFSET(
+        "/temperature-calibration-offset",
+        false,
+        Set.of(CHANNEL_TEMPERATURE_CALIBRATION_OFFSET),
+        false,
+        h -> h.pollTemperatureCalibrationOffset()
+    ),
+
+    /** {@code GET/display-unit} */
+    DISPLAY_UNIT("/display-unit", false, Set.of(CHANNEL_DISPLAY_UNIT), false, h -> h.pollDisplayUnit()),
+
+    /** {@code GET/limited-heating-power} */
+    LIMITED_HEATING_POWER(
+        "/limited-heating-power",
+        false,
+        Set.of(CHANNEL_LIMITED_HEATING_POWER),
+        false,
+        h -> h.pollLimitedHeatingPower()
+    ),
+
+    /** {@code GET/controller-type} */
+    CONTROLLER_TYPE("/controller-type", false, Set.of(CHANNEL_CONTROLLER_TYPE), false, h -> h.pollControllerType()),
+
+    /** {@code GET/predictive-heating-type} */
+    PREDICTIVE_HEATING_TYPE(
+        "/predictive-heating-type",
+        false,
+        Set.of(CHANNEL_PREDICTIVE_HEATING_TYPE),
+        false,
+        h -> h.pollPredictiveHeatingType()
+    ),
+
+    /** {@code GET/oil-heater-power} */
+    OIL_HEATER_POWER("/oil-heater-power", false, Set.of(CHANNEL_OIL_HEATER_POWER), false, h -> h.pollOilHeaterPower()),
+
+    /** {@code GET/timezone-offset} */
+    TIMEZONE_OFFSET("/timezone-offset", false, Set.of(), true, h -> h.pollTimeZoneOffset(true)),
+
+    /** {@code GET/pid-parameters} */
+    PID_PARAMETERS("/pid-parameters", false, Set.of(), true, h -> h.pollPIDParameters(true)),
+
+    /** {@code GET/cloud-communication} */
+    CLOUD_COMMUNICATION("/cloud-communication", false, Set.of(), true, h -> h.pollCloudCommunication(true)),
+
+    /** {@code GET/hysteresis-parameters} */
+    HYSTERESIS_PARAMETERS("/hysteresis-parameters", false, Set.of(), true, h -> h.pollHysteresisParameters(true)),
+
+    /** {@code GET/commercial-lock} */
+    COMMERCIAL_LOCK("/commercial-lock", false, Set.of(CHANNEL_COMMERCIAL_LOCK), false, h -> h.pollCommercialLock()),
+
+    /** {@code GET/commercial-lock-customization} */
+    COMMERCIAL_LOCK_CUSTOMIZATION(
+        "/commercial-lock-customization",
+        false,
+        Set.of(CHANNEL_COMMERCIAL_LOCK),
+        true,
+        h -> h.pollCommercialLockCustomization(true)
+    ),
+
+    /** {@code GET/open-window} */
+    OPEN_WINDOW(
+        "/open-window",
+        false,
+        Set.of(CHANNEL_OPEN_WINDOW_ACTIVE, CHANNEL_OPEN_WINDOW_ENABLED),
+        true,
+        h -> h.pollOpenWindowParameters(true)
+    );
+
+    private final String name;
+    private final boolean core;
+    private final Set<String> channels;
+    private final boolean configuration;
+    private final Poller poller;
+
+    private PollEndpoint(String name, boolean core, Set<String> channels, boolean configuration, Poller poller) {
+        this.name = name;
+        this.core = core;
+        this.channels = channels;
+        this.configuration = configuration;
+        this.poller = poller;
+    }
+
+    /**
+     * @return The endpoint name used in logs and status descriptions.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return {@code true} if a failure of this endpoint means that the device is offline.
+     */
+    public boolean isCore() {
+        return core;
+    }
+
+    /**
+     * @return The IDs of the {@link Channel}s updated by this endpoint.
+     */
+    public Set<String> getChannels() {
+        return channels;
+    }
+
+    /**
+     * @return {@code true} if this endpoint updates configuration parameters.
+     */
+    public boolean isConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Polls this endpoint using the specified handler.
+     *
+     * @param handler the {@link AbstractMillThingHandler} to poll with.
+     * @throws MillException If an error occurs during the operation.
+     */
+    public void poll(AbstractMillThingHandler handler) throws MillException {
+        poller.poll(handler);
+    }
+
+    /**
+     * The poll of a single endpoint.
+     */
+    @FunctionalInterface
+    private interface Poller {
+
+        /**
+         * Polls the endpoint and updates the affected channels and parameters.
+         *
+         * @param handler the {@link AbstractMillThingHandler} to poll with.
+         * @throws MillException If an error occurs during the operation.
+         */
+        void poll(AbstractMillThingHandler handler) throws MillException;
+    }
+}
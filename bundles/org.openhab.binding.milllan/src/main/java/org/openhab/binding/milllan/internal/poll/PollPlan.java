@@ -0,0 +1,108 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.internal.poll;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+
+/**
+ * This class is an immutable description of which endpoints to poll in which poll cycle, and in which order.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public class PollPlan {
+
+    /** The {@link Step}s per {@link PollCadence}, sorted by priority */
+    private final Map<PollCadence, List<Step>> steps = new EnumMap<>(PollCadence.class);
+
+    /**
+     * Creates a new instance from the specified {@link Step}s.
+     *
+     * @param steps the {@link Step}s of the plan.
+     */
+    public PollPlan(Step... steps) {
+        for (PollCadence cadence : PollCadence.values()) {
+            List<Step> list = new ArrayList<>();
+            for (Step step : steps) {
+                if (step.cadence == cadence) {
+                    list.add(step);
+                }
+            }
+            list.sort(Comparator.comparingInt(Step::getPriority));
+            this.steps.put(cadence, List.copyOf(list));
+        }
+    }
+
+    /**
+     * Returns the {@link Step}s to execute in the specified poll cycle, sorted by priority.
+     *
+     * @param cadence the {@link PollCadence} of the poll cycle.
+     * @return The {@link List} of {@link Step}s.
+     */
+    public List<Step> getSteps(PollCadence cadence) {
+        List<Step> result = steps.get(cadence);
+        return result == null ? List.of() : result;
+    }
+
+    /**
+     * An immutable poll plan entry.
+     */
+    public static class Step {
+
+        private final PollEndpoint endpoint;
+        private final PollCadence cadence;
+        private final int priority;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param endpoint the {@link PollEndpoint} to poll.
+         * @param cadence the {@link PollCadence} of the poll cycle to poll in.
+         * @param priority the priority within the poll cycle, lower values are polled first.
+         */
+        public Step(PollEndpoint endpoint, PollCadence cadence, int priority) {
+            this.endpoint = endpoint;
+            this.cadence = cadence;
+            this.priority = priority;
+        }
+
+        /**
+         * @return The {@link PollEndpoint} to poll.
+         */
+        public PollEndpoint getEndpoint() {
+            return endpoint;
+        }
+
+        /**
+         * @return The {@link PollCadence} of the poll cycle to poll in.
+         */
+        public PollCadence getCadence() {
+            return cadence;
+        }
+
+        /**
+         * @return The priority within the poll cycle, lower values are polled first.
+         */
+        public int getPriority() {
+            return priority;
+        }
+    }
+}
@@ -0,0 +1,388 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.simulator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.server.ConnectionLimit;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.SslConnectionFactory;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+
+/**
+ * An embeddable simulator for Mill devices, intended for load and latency testing of the binding without
+ * real hardware. It implements all the endpoints used by the binding, and can run a large number of
+ * {@link SimulatedDevice}s in the same JVM, each listening to its own port on the loopback interface.
+ * <p>
+ * All devices share one {@link Server} and thread pool. Each device has its own {@link ServerConnector},
+ * which uses one selector thread and no dedicated acceptor threads. Response latency is simulated without
+ * blocking any threads, by completing the requests asynchronously from a scheduler.
+ * <p>
+ * Devices with an API key use {@code HTTPS} with a bundled self-signed certificate, and require the API key
+ * in the {@code Authentication} header, like real devices do.
+ * <p>
+ * Typical use:
+ * <pre>
+ * try (DeviceSimulator simulator = new DeviceSimulator()) {
+ *     simulator.start();
+ *     SimulatedDevice device = simulator.addDevice(new SimulatorConfiguration().setLatencyMillis(20));
+ *     // Configure a Thing with device.getHostname()
+ * }
+ * </pre>
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public class DeviceSimulator implements AutoCloseable {
+
+    /** The default maximum number of threads in the shared thread pool */
+    public static final int DEFAULT_MAX_THREADS = 2048;
+
+    /** The classpath location of the keystore used for {@code HTTPS} */
+    private static final String KEYSTORE = "simulator.p12";
+
+    /** The keystore password */
+    private static final String KEYSTORE_PASSWORD = "simulator";
+
+    /** The content type of the responses */
+    private static final String CONTENT_TYPE = "application/json";
+
+    /** The API status used for successful responses */
+    private static final String STATUS_OK = "ok";
+
+    /** The API status used for injected API errors */
+    private static final String STATUS_FAILED = "Failed to execute the request";
+
+    /** The API status used when the request body can't be parsed */
+    private static final String STATUS_PARSE_FAILED = "Failed to parse message body";
+
+    /** The {@link Server} */
+    protected final Server server;
+
+    /** The scheduler used to complete delayed responses */
+    protected final ScheduledExecutorService scheduler;
+
+    /** The devices by their {@link Connector} */
+    protected final Map<Connector, SimulatedDevice> devices = new ConcurrentHashMap<>();
+
+    /** The index used to generate unique MAC addresses */
+    protected final AtomicInteger deviceIndex = new AtomicInteger();
+
+    /** The lazily created {@link SslContextFactory}, <b>must be synchronized</b> on {@code this}! */
+    @Nullable
+    private SslContextFactory.Server sslContextFactory;
+
+    /**
+     * Creates a new simulator using {@link #DEFAULT_MAX_THREADS}.
+     */
+    public DeviceSimulator() {
+        this(DEFAULT_MAX_THREADS);
+    }
+
+    /**
+     * Creates a new simulator.
+     *
+     * @param maxThreads the maximum number of threads in the shared thread pool. Each device uses one
+     *        thread for its selector, so this must be larger than the number of devices.
+     */
+    public DeviceSimulator(int maxThreads) {
+        QueuedThreadPool threadPool = new QueuedThreadPool(maxThreads, 8);
+        threadPool.setName("mill-simulator");
+        server = new Server(threadPool);
+        server.setHandler(new SimulatorHandler());
+        scheduler = Executors.newScheduledThreadPool(2, r -> {
+            Thread thread = new Thread(r, "mill-simulator-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts the simulator. Devices can be added both before and after the simulator is started.
+     *
+     * @throws Exception If the server fails to start.
+     */
+    public void start() throws Exception {
+        server.start();
+    }
+
+    /**
+     * Adds and starts a new simulated device.
+     *
+     * @param configuration the {@link SimulatorConfiguration} to use.
+     * @return The new {@link SimulatedDevice}.
+     * @throws Exception If the device's connector fails to start.
+     */
+    public SimulatedDevice addDevice(SimulatorConfiguration configuration) throws Exception {
+        ServerConnector connector;
+        HttpConnectionFactory http = new HttpConnectionFactory();
+        if (configuration.getApiKey() == null) {
+            connector = new ServerConnector(server, 0, 1, http);
+        } else {
+            connector = new ServerConnector(
+                server,
+                0,
+                1,
+                new SslConnectionFactory(getSslContextFactory(), HttpVersion.HTTP_1_1.asString()),
+                http
+            );
+        }
+        connector.setHost("127.0.0.1");
+        connector.setPort(configuration.getPort());
+        if (configuration.getMaxConnections() > 0) {
+            connector.addBean(new ConnectionLimit(configuration.getMaxConnections(), connector));
+        }
+        SimulatedDevice device = new SimulatedDevice(configuration, connector, deviceIndex.incrementAndGet());
+        devices.put(connector, device);
+        server.addConnector(connector);
+        if (server.isStarted()) {
+            try {
+                connector.start();
+            } catch (Exception e) {
+                removeDevice(device);
+                throw e;
+            }
+        }
+        return device;
+    }
+
+    /**
+     * Adds and starts the specified number of simulated devices using the same configuration. The port
+     * must be {@code 0} in the configuration.
+     *
+     * @param count the number of devices to add.
+     * @param configuration the {@link SimulatorConfiguration} to use.
+     * @return The {@link List} of new {@link SimulatedDevice}s.
+     * @throws Exception If a device's connector fails to start.
+     */
+    public List<SimulatedDevice> addDevices(int count, SimulatorConfiguration configuration) throws Exception {
+        if (count > 1 && configuration.getPort() != 0) {
+            throw new IllegalArgumentException("Multiple devices can't use the same port");
+        }
+        List<SimulatedDevice> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(addDevice(configuration));
+        }
+        return result;
+    }
+
+    /**
+     * Stops and removes a simulated device.
+     *
+     * @param device the {@link SimulatedDevice} to remove.
+     */
+    public void removeDevice(SimulatedDevice device) {
+        devices.remove(device.connector);
+        server.removeConnector(device.connector);
+        try {
+            device.connector.stop();
+        } catch (Exception e) {
+            // Nothing more can be done
+        }
+    }
+
+    /**
+     * @return A {@link List} of the current {@link SimulatedDevice}s.
+     */
+    public List<SimulatedDevice> getDevices() {
+        return new ArrayList<>(devices.values());
+    }
+
+    /**
+     * Stops the simulator and all its devices.
+     */
+    @Override
+    public void close() throws Exception {
+        scheduler.shutdownNow();
+        server.stop();
+        devices.clear();
+    }
+
+    private synchronized SslContextFactory.Server getSslContextFactory() throws IOException, GeneralSecurityException {
+        SslContextFactory.Server result = sslContextFactory;
+        if (result != null) {
+            return result;
+        }
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream is = DeviceSimulator.class.getResourceAsStream(KEYSTORE)) {
+            if (is == null) {
+                throw new IOException("Missing simulator keystore");
+            }
+            keyStore.load(is, KEYSTORE_PASSWORD.toCharArray());
+        }
+        result = new SslContextFactory.Server();
+        result.setKeyStore(keyStore);
+        result.setKeyStorePassword(KEYSTORE_PASSWORD);
+        result.setKeyManagerPassword(KEYSTORE_PASSWORD);
+        sslContextFactory = result;
+        return result;
+    }
+
+    /**
+     * The {@link AbstractHandler} that dispatches requests to the {@link SimulatedDevice} owning the connector.
+     */
+    private class SimulatorHandler extends AbstractHandler {
+
+        @Override
+        public void handle(
+            @Nullable String target,
+            @Nullable Request baseRequest,
+            @Nullable HttpServletRequest request,
+            @Nullable HttpServletResponse response
+        ) throws IOException {
+            if (baseRequest == null || request == null || response == null) {
+                return;
+            }
+            baseRequest.setHandled(true);
+            SimulatedDevice device = devices.get(baseRequest.getHttpChannel().getConnector());
+            if (device == null) {
+                response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                return;
+            }
+            device.requests.incrementAndGet();
+            SimulatorConfiguration configuration = device.configuration;
+            String endpoint = request.getRequestURI();
+            byte[] requestBody = request.getInputStream().readAllBytes();
+
+            int status;
+            String body;
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String apiKey = configuration.getApiKey();
+            if (apiKey != null && !apiKey.equals(request.getHeader("Authentication"))) {
+                status = HttpServletResponse.SC_UNAUTHORIZED;
+                body = "";
+            } else if (configuration.getUnsupportedEndpoints().contains(endpoint)) {
+                status = configuration.getUnsupportedStatus();
+                body = "";
+            } else if (configuration.getErrorRate() > 0.0 && random.nextDouble() < configuration.getErrorRate()) {
+                device.injectedErrors.incrementAndGet();
+                status = configuration.getErrorStatus();
+                body = "";
+            } else if (
+                configuration.getApiErrorRate() > 0.0 && random.nextDouble() < configuration.getApiErrorRate()
+            ) {
+                device.injectedErrors.incrementAndGet();
+                status = HttpServletResponse.SC_OK;
+                body = statusObject(STATUS_FAILED).toString();
+            } else {
+                JsonObject requestObject = null;
+                boolean parseFailed = false;
+                if (requestBody.length > 0) {
+                    try {
+                        requestObject = JsonParser.parseString(
+                            new String(requestBody, StandardCharsets.UTF_8)
+                        ).getAsJsonObject();
+                    } catch (JsonParseException | IllegalStateException e) {
+                        parseFailed = true;
+                    }
+                }
+                if (parseFailed) {
+                    status = HttpServletResponse.SC_OK;
+                    body = statusObject(STATUS_PARSE_FAILED).toString();
+                } else if ("GET".equals(request.getMethod())) {
+                    JsonObject responseObject = device.get(endpoint, requestObject);
+                    if (responseObject == null) {
+                        status = HttpServletResponse.SC_NOT_FOUND;
+                        body = "";
+                    } else {
+                        responseObject.addProperty("status", STATUS_OK);
+                        status = HttpServletResponse.SC_OK;
+                        body = responseObject.toString();
+                    }
+                } else if ("POST".equals(request.getMethod())) {
+                    status = HttpServletResponse.SC_OK;
+                    body = statusObject(device.post(endpoint, requestObject) ? STATUS_OK : STATUS_PARSE_FAILED)
+                        .toString();
+                } else {
+                    status = HttpServletResponse.SC_METHOD_NOT_ALLOWED;
+                    body = "";
+                }
+            }
+
+            long delay = configuration.getLatencyMillis();
+            if (configuration.getJitterMillis() > 0L) {
+                delay += random.nextLong(configuration.getJitterMillis() + 1L);
+            }
+            if (delay <= 0L) {
+                writeResponse(response, status, body);
+                return;
+            }
+            AsyncContext context = request.startAsync();
+            context.setTimeout(0L);
+            final int finalStatus = status;
+            final String finalBody = body;
+            scheduler.schedule(() -> {
+                try {
+                    writeResponse(response, finalStatus, finalBody);
+                } catch (IOException e) {
+                    // The client has gone away
+                } finally {
+                    context.complete();
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+
+        private void writeResponse(HttpServletResponse response, int status, String body) throws IOException {
+            response.setStatus(status);
+            if (body.isEmpty()) {
+                response.setContentLength(0);
+                return;
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            response.setContentType(CONTENT_TYPE);
+            response.setContentLength(bytes.length);
+            try (OutputStream os = response.getOutputStream()) {
+                os.write(bytes);
+            }
+        }
+
+        private JsonObject statusObject(String status) {
+            JsonObject result = new JsonObject();
+            result.addProperty("status", status);
+            return result;
+        }
+    }
+}
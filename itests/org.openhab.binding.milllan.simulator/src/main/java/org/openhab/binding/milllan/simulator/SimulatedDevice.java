@@ -0,0 +1,417 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.simulator;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.server.ServerConnector;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+
+/**
+ * A single simulated Mill device. It holds the device state, which is initialized with values typical for
+ * a panel heater and is modified by {@code POST} requests, so that a value that is set can be read back.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public class SimulatedDevice {
+
+    /** The endpoint for setting the set-temperature in independent mode */
+    static final String INDEPENDENT_MODE_NOW = "/set-temperature-in-independent-mode-now";
+
+    /** The {@link SimulatorConfiguration} */
+    protected final SimulatorConfiguration configuration;
+
+    /** The {@link ServerConnector} */
+    protected final ServerConnector connector;
+
+    /** The MAC address */
+    protected final String macAddress;
+
+    /** The number of requests received */
+    protected final AtomicLong requests = new AtomicLong();
+
+    /** The number of requests that were answered with an injected error */
+    protected final AtomicLong injectedErrors = new AtomicLong();
+
+    /** The number of state changing requests received */
+    protected final AtomicLong stateChanges = new AtomicLong();
+
+    /** The object used for synchronization */
+    protected final Object lock = new Object();
+
+    /** The state per endpoint. <b>Must be synchronized</b> on {@link #lock}! */
+    protected final Map<String, JsonObject> state = new HashMap<>();
+
+    /** The set-temperature per temperature type. <b>Must be synchronized</b> on {@link #lock}! */
+    protected final Map<String, Double> setTemperatures = new HashMap<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param configuration the {@link SimulatorConfiguration}.
+     * @param connector the {@link ServerConnector} of this device.
+     * @param index a unique index used to generate the MAC address if none is configured.
+     */
+    SimulatedDevice(SimulatorConfiguration configuration, ServerConnector connector, int index) {
+        this.configuration = configuration;
+        this.connector = connector;
+        if (configuration.getMacAddress().isBlank()) {
+            macAddress = String.format(
+                Locale.ROOT,
+                "A8:03:2A:%02X:%02X:%02X",
+                (index >> 16) & 0xFF,
+                (index >> 8) & 0xFF,
+                index & 0xFF
+            );
+        } else {
+            macAddress = configuration.getMacAddress();
+        }
+        initializeState();
+    }
+
+    /**
+     * @return The {@link SimulatorConfiguration}.
+     */
+    public SimulatorConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * @return The local port this device listens to.
+     */
+    public int getPort() {
+        return connector.getLocalPort();
+    }
+
+    /**
+     * @return The hostname, including the port, to use when configuring a Thing for this device.
+     */
+    public String getHostname() {
+        return "127.0.0.1:" + getPort();
+    }
+
+    /**
+     * @return The MAC address.
+     */
+    public String getMacAddress() {
+        return macAddress;
+    }
+
+    /**
+     * @return The number of requests received.
+     */
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * @return The number of requests that were answered with an injected error.
+     */
+    public long getInjectedErrorCount() {
+        return injectedErrors.get();
+    }
+
+    /**
+     * @return The number of state changing requests received.
+     */
+    public long getStateChangeCount() {
+        return stateChanges.get();
+    }
+
+    /**
+     * Returns the current value of a field.
+     *
+     * @param endpoint the endpoint, like {@code "/control-status"}.
+     * @param field the field name as it's serialized, like {@code "ambient_temperature"}.
+     * @return The current value or {@code null}.
+     */
+    @Nullable
+    public JsonElement getValue(String endpoint, String field) {
+        synchronized (lock) {
+            JsonObject object = state.get(endpoint);
+            return object == null ? null : object.get(field);
+        }
+    }
+
+    /**
+     * Sets a field value, for example to simulate a change in ambient temperature.
+     *
+     * @param endpoint the endpoint, like {@code "/control-status"}.
+     * @param field the field name as it's serialized, like {@code "ambient_temperature"}.
+     * @param value the new value.
+     */
+    public void setValue(String endpoint, String field, JsonElement value) {
+        synchronized (lock) {
+            state.computeIfAbsent(endpoint, k -> new JsonObject()).add(field, value);
+        }
+    }
+
+    /**
+     * Sets a numeric field value, for example to simulate a change in ambient temperature.
+     *
+     * @param endpoint the endpoint, like {@code "/control-status"}.
+     * @param field the field name as it's serialized, like {@code "ambient_temperature"}.
+     * @param value the new value.
+     */
+    public void setValue(String endpoint, String field, Number value) {
+        setValue(endpoint, field, new JsonPrimitive(value));
+    }
+
+    /**
+     * Creates the response object for a {@code GET} request.
+     *
+     * @param endpoint the endpoint.
+     * @param body the parsed request body or {@code null}.
+     * @return The response object or {@code null} if the endpoint is unknown.
+     */
+    @Nullable
+    JsonObject get(String endpoint, @Nullable JsonObject body) {
+        synchronized (lock) {
+            if ("/set-temperature".equals(endpoint)) {
+                String type = getString(body, "type");
+                Double value = type == null ? null : setTemperatures.get(type);
+                if (value == null) {
+                    return null;
+                }
+                JsonObject result = new JsonObject();
+                result.addProperty("value", value);
+                return result;
+            }
+            JsonObject object = state.get(endpoint);
+            return object == null ? null : object.deepCopy();
+        }
+    }
+
+    /**
+     * Applies a {@code POST} request to the state.
+     *
+     * @param endpoint the endpoint.
+     * @param body the parsed request body or {@code null}.
+     * @return {@code true} if the request was accepted, {@code false} if the endpoint or body is invalid.
+     */
+    boolean post(String endpoint, @Nullable JsonObject body) {
+        synchronized (lock) {
+            switch (endpoint) {
+                case "/reboot":
+                case "/set-api-key":
+                    break;
+                case "/set-custom-name":
+                    String name = getString(body, "device_name");
+                    if (name == null) {
+                        return false;
+                    }
+                    state.get("/status").addProperty("custom_name", name);
+                    break;
+                case "/set-temperature":
+                    String type = getString(body, "type");
+                    if (type == null || body == null || !body.has("value") || !setTemperatures.containsKey(type)) {
+                        return false;
+                    }
+                    setSetTemperature(type, body.get("value").getAsDouble());
+                    break;
+                case INDEPENDENT_MODE_NOW:
+                    if (body == null || !body.has("temperature")) {
+                        return false;
+                    }
+                    setSetTemperature("Normal", body.get("temperature").getAsDouble());
+                    break;
+                case "/operation-mode":
+                    String mode = getString(body, "mode");
+                    if (mode == null) {
+                        return false;
+                    }
+                    state.get(endpoint).addProperty("mode", mode);
+                    state.get("/control-status").addProperty("operation_mode", mode);
+                    updateControlSetTemperature();
+                    break;
+                default:
+                    JsonObject object = state.get(endpoint);
+                    if (object == null || body == null) {
+                        return false;
+                    }
+                    for (Entry<String, JsonElement> entry : body.entrySet()) {
+                        object.add(entry.getKey(), entry.getValue());
+                    }
+                    if ("/child-lock".equals(endpoint) || "/commercial-lock".equals(endpoint)) {
+                        updateLockStatus();
+                    }
+                    break;
+            }
+        }
+        stateChanges.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Sets the set-temperature for the specified type. <b>Must be called while synchronized</b> on
+     * {@link #lock}!
+     */
+    private void setSetTemperature(String type, double value) {
+        setTemperatures.put(type, value);
+        updateControlSetTemperature();
+    }
+
+    /**
+     * Updates {@code set_temperature} in {@code /control-status} from the operation mode.
+     * <b>Must be called while synchronized</b> on {@link #lock}!
+     */
+    private void updateControlSetTemperature() {
+        JsonObject controlStatus = state.get("/control-status");
+        String mode = controlStatus.get("operation_mode").getAsString();
+        Double value;
+        switch (mode) {
+            case "Off":
+                value = setTemperatures.get("Off");
+                break;
+            case "Weekly program":
+                value = setTemperatures.get("Comfort");
+                break;
+            default:
+                value = setTemperatures.get("Normal");
+                break;
+        }
+        if (value != null) {
+            controlStatus.addProperty("set_temperature", value);
+        }
+    }
+
+    /**
+     * Updates {@code lock_active} in {@code /control-status} from the lock states.
+     * <b>Must be called while synchronized</b> on {@link #lock}!
+     */
+    private void updateLockStatus() {
+        String lockStatus;
+        if (state.get("/commercial-lock").get("value").getAsBoolean()) {
+            lockStatus = "Commercial lock";
+        } else if (state.get("/child-lock").get("value").getAsBoolean()) {
+            lockStatus = "Child lock";
+        } else {
+            lockStatus = "No lock";
+        }
+        state.get("/control-status").addProperty("lock_active", lockStatus);
+    }
+
+    @Nullable
+    private static String getString(@Nullable JsonObject body, String field) {
+        if (body == null) {
+            return null;
+        }
+        JsonElement element = body.get(field);
+        return element == null || !element.isJsonPrimitive() ? null : element.getAsString();
+    }
+
+    private void initializeState() {
+        JsonObject object = new JsonObject();
+        object.addProperty("name", configuration.getName());
+        object.addProperty("custom_name", "");
+        object.addProperty("version", configuration.getFirmwareVersion());
+        object.addProperty("operation_key", "");
+        object.addProperty("mac_address", macAddress);
+        state.put("/status", object);
+
+        object = new JsonObject();
+        object.addProperty("ambient_temperature", 21.4375);
+        object.addProperty("current_power", 0.0);
+        object.addProperty("control_signal", 0.0);
+        object.addProperty("lock_active", "No lock");
+        object.addProperty("open_window_active_now", "Enabled not active now");
+        object.addProperty("raw_ambient_temperature", 23.1875);
+        object.addProperty("set_temperature", 21.0);
+        object.addProperty("switched_on", false);
+        object.addProperty("connected_to_cloud", true);
+        object.addProperty("operation_mode", "Weekly program");
+        state.put("/control-status", object);
+
+        object = new JsonObject();
+        object.addProperty("mode", "Weekly program");
+        state.put("/operation-mode", object);
+
+        state.put("/temperature-calibration-offset", valueObject(new JsonPrimitive(0.0)));
+        state.put("/commercial-lock", valueObject(new JsonPrimitive(false)));
+        state.put("/child-lock", valueObject(new JsonPrimitive(false)));
+        state.put("/display-unit", valueObject(new JsonPrimitive("Celsius")));
+        state.put("/cloud-communication", valueObject(new JsonPrimitive(true)));
+        state.put("/oil-heater-power", valueObject(new JsonPrimitive(100)));
+
+        object = new JsonObject();
+        object.addProperty("limited_heating_power", 100);
+        state.put("/limited-heating-power", object);
+
+        object = new JsonObject();
+        object.addProperty("regulator_type", "pid");
+        state.put("/controller-type", object);
+
+        object = new JsonObject();
+        object.addProperty("predictive_heating_type", "Off");
+        state.put("/predictive-heating-type", object);
+
+        object = new JsonObject();
+        object.addProperty("timezone_offset", 60);
+        state.put("/timezone-offset", object);
+
+        object = new JsonObject();
+        object.addProperty("kp", 70.0);
+        object.addProperty("ki", 0.02);
+        object.addProperty("kd", 4500.0);
+        object.addProperty("kd_filter_N", 24.0);
+        object.addProperty("windup_limit_percentage", 95.0);
+        state.put("/pid-parameters", object);
+
+        object = new JsonObject();
+        object.addProperty("temp_hysteresis_upper", 0.5);
+        object.addProperty("temp_hysteresis_lower", 0.5);
+        object.addProperty("regulator_type", "hysteresis");
+        state.put("/hysteresis-parameters", object);
+
+        object = new JsonObject();
+        object.addProperty("enabled", false);
+        object.addProperty("min_allowed_temp_in_commercial_lock", 11.0);
+        object.addProperty("max_allowed_temp_in_commercial_lock", 35.0);
+        state.put("/commercial-lock-customization", object);
+
+        object = new JsonObject();
+        object.addProperty("drop_temperature_threshold", 5.0);
+        object.addProperty("drop_time_range", 900);
+        object.addProperty("enabled", true);
+        object.addProperty("increase_temperature_threshold", 3.0);
+        object.addProperty("increase_time_range", 900);
+        object.addProperty("max_time", 3600);
+        object.addProperty("active_now", false);
+        state.put("/open-window", object);
+
+        setTemperatures.put("Off", 0.0);
+        setTemperatures.put("Normal", 21.0);
+        setTemperatures.put("Comfort", 21.0);
+        setTemperatures.put("Sleep", 17.0);
+        setTemperatures.put("Away", 12.0);
+        setTemperatures.put("AlwaysHeating", 35.0);
+    }
+
+    private static JsonObject valueObject(JsonElement value) {
+        JsonObject result = new JsonObject();
+        result.add("value", value);
+        return result;
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.simulator;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+
+/**
+ * The configuration of a single {@link SimulatedDevice}. All setters return {@code this}, so that calls
+ * can be chained.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public class SimulatorConfiguration {
+
+    private int port;
+
+    private String name = "Mill Panel Heater";
+
+    private String macAddress = "";
+
+    private String firmwareVersion = "0x230630";
+
+    @Nullable
+    private String apiKey;
+
+    private long latencyMillis;
+
+    private long jitterMillis;
+
+    private double errorRate;
+
+    private int errorStatus = 500;
+
+    private double apiErrorRate;
+
+    private final Set<String> unsupportedEndpoints = new HashSet<>();
+
+    private int unsupportedStatus = 404;
+
+    private int maxConnections;
+
+    /**
+     * @return The port to listen to, or {@code 0} to use a free port.
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * @param port the port to listen to, or {@code 0} to use a free port.
+     * @return This {@link SimulatorConfiguration}.
+     */
+    public SimulatorConfiguration setPort(int port) {
+        this.port = port;
+        return this;
+    }
+
+    /**
+     * @return The device name reported by {@code /status}.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @param name the device name reported by {@code /status}.
+     * @return This {@link SimulatorConfiguration}.
+     */
+    public SimulatorConfiguration setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * @return The MAC address reported by {@code /status}, or an empty string to generate one.
+     */
+    public String getMacAddress() {
+        return macAddress;
+    }
+
+    /**
+     * @param macAddress the MAC address reported by {@code /status}, or an empty string to generate one.
+     * @return This {@link SimulatorConfiguration}.
+     */
+    public SimulatorConfiguration setMacAddress(String macAddress) {
+        this.macAddress = macAddress;
+        return this;
+    }
+
+    /**
+     * @return The firmware version reported by {@code /status}.
+     */
+    public String getFirmwareVersion() {
+        return firmwareVersion;
+    }
+
+    /**
+     * @param firmwareVersion the firmware version reported by {@code /status}.
+     * @return This {@link SimulatorConfiguration}.
+     */
+    public SimulatorConfiguration setFirmwareVersion(String firmwareVersion) {
+        this.firmwareVersion = firmwareVersion;
+        return this;
+    }
+
+    /**
+     * @return The API key, or {@code null} if none is set. When set, the device uses {@code HTTPS} and
+     *         requires the API key in the {@code Authentication} header.
+     */
+    @Nullable
+    public String getApiKey() {
+        return apiKey;
+    }
+
+    /**
+     * @param apiKey the API key, or {@code null} to use plain {@code HTTP} without authentication.
+     * @return This {@link SimulatorConfiguration}.
+     */
+    public SimulatorConfiguration setApiKey(@Nullable String apiKey) {
+        this.apiKey = apiKey;
+        return this;
+    }
+
+    /**
+     * @return The base response latency in milliseconds.
+     */
+    public long getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    /**
+     * @param latencyMillis the base response latency in milliseconds.
+     * @return This {@link SimulatorConfiguration}.
+     */
+    public SimulatorConfiguration setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+        return this;
+    }
+
+    /**
+     * @return The maximum random latency in milliseconds that is added to the base latency.
+     */
+    public long getJitterMillis() {
+        return jitterMillis;
+    }
+
+    /**
+     * @param jitterMillis the maximum random latency in milliseconds that is added to the base latency.
+     * @return This {@link SimulatorConfiguration}.
+     */
+    public SimulatorConfiguration setJitterMillis(long jitterMillis) {
+        this.jitterMillis = jitterMillis;
+        return this;
+    }
+
+    /**
+     * @return The fraction of requests, from {@code 0} to {@code 1}, that fail with {@link #getErrorStatus()}.
+     */
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    /**
+     * @param errorRate the fraction of requests, from {@code 0} to {@code 1}, that fail with
+     *        {@link #getErrorStatus()}.
+     * @return This {@link SimulatorConfiguration}.
+     */
+    public SimulatorConfiguration setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    /**
+     * @return The {@code HTTP status} used for injected errors.
+     */
+    public int getErrorStatus() {
+        return errorStatus;
+    }
+
+    /**
+     * @param errorStatus the {@code HTTP status} used for injected errors.
+     * @return This {@link SimulatorConfiguration}.
+     */
+    public SimulatorConfiguration setErrorStatus(int errorStatus) {
+        this.errorStatus = errorStatus;
+        return this;
+    }
+
+    /**
+     * @return The fraction of requests, from {@code 0} to {@code 1}, that return {@code HTTP status} 200
+     *         with a failed API {@code status}.
+     */
+    public double getApiErrorRate() {
+        return apiErrorRate;
+    }
+
+    /**
+     * @param apiErrorRate the fraction of requests, from {@code 0} to {@code 1}, that return
+     *        {@code HTTP status} 200 with a failed API {@code status}.
+     * @return This {@link SimulatorConfiguration}.
+     */
+    public SimulatorConfiguration setApiErrorRate(double apiErrorRate) {
+        this.apiErrorRate = apiErrorRate;
+        return this;
+    }
+
+    /**
+     * @return The endpoints, like {@code "/oil-heater-power"}, that respond with {@link #getUnsupportedStatus()}.
+     */
+    public Set<String> getUnsupportedEndpoints() {
+        return Collections.unmodifiableSet(unsupportedEndpoints);
+    }
+
+    /**
+     * @param endpoints the endpoints, like {@code "/oil-heater-power"}, that respond with
+     *        {@link #getUnsupportedStatus()}.
+     * @return This {@link SimulatorConfiguration}.
+     */
+    public SimulatorConfiguration setUnsupportedEndpoints(Collection<String> endpoints) {
+        unsupportedEndpoints.clear();
+        unsupportedEndpoints.addAll(endpoints);
+        return this;
+    }
+
+    /**
+     * @return The {@code HTTP status} returned by unsupported endpoints.
+     */
+    public int getUnsupportedStatus() {
+        return unsupportedStatus;
+    }
+
+    /**
+     * @param unsupportedStatus the {@code HTTP status} returned by unsupported endpoints.
+     * @return This {@link SimulatorConfiguration}.
+     */
+    public SimulatorConfiguration setUnsupportedStatus(int unsupportedStatus) {
+        this.unsupportedStatus = unsupportedStatus;
+        return this;
+    }
+
+    /**
+     * @return The maximum number of simultaneous connections, or {@code 0} for no limit.
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * @param maxConnections the maximum number of simultaneous connections, or {@code 0} for no limit.
+     * @return This {@link SimulatorConfiguration}.
+     */
+    public SimulatorConfiguration setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+        return this;
+    }
+}
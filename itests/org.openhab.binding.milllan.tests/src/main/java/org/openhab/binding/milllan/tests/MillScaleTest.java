@@ -0,0 +1,498 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.openhab.binding.milllan.internal.MillBindingConstants.*;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.milllan.internal.MillPanelHeaterHandler;
+import org.openhab.binding.milllan.internal.MillThingHandlerFactory;
+import org.openhab.binding.milllan.internal.api.OperationMode;
+import org.openhab.binding.milllan.simulator.DeviceSimulator;
+import org.openhab.binding.milllan.simulator.SimulatedDevice;
+import org.openhab.binding.milllan.simulator.SimulatorConfiguration;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventPublisher;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateChangedEvent;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.StringItem;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.test.java.JavaOSGiTest;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingRegistry;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.ThingHandlerFactory;
+import org.openhab.core.thing.link.ItemChannelLink;
+import org.openhab.core.thing.link.ItemChannelLinkRegistry;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+
+/**
+ * Scale test that runs {@link MillPanelHeaterHandler}s against {@link SimulatedDevice}s, for each of the
+ * configured numbers of devices. For each size, steady-state requests per second, scheduler thread
+ * occupancy, heap growth, event bus update rate and command-to-state latency are measured, and the results
+ * are written to a JSON report.
+ * <p>
+ * The test is configured with the following framework or system properties:
+ * <ul>
+ * <li>{@code milllan.scale.sizes}: The comma separated numbers of devices, default {@code 10,100,500}.</li>
+ * <li>{@code milllan.scale.report}: The report file, default {@code scale-report.json}.</li>
+ * <li>{@code milllan.scale.refreshInterval}: The frequent refresh interval in seconds, default {@code 5}.</li>
+ * <li>{@code milllan.scale.infrequentRefreshInterval}: The infrequent refresh interval in seconds,
+ * default {@code 30}.</li>
+ * <li>{@code milllan.scale.steadySeconds}: The length of the measurement window in seconds, default
+ * {@code 60}.</li>
+ * <li>{@code milllan.scale.latencyMillis}: The simulated device latency in milliseconds, default
+ * {@code 5}.</li>
+ * <li>{@code milllan.scale.jitterMillis}: The simulated device jitter in milliseconds, default {@code 10}.</li>
+ * <li>{@code milllan.scale.commandSamples}: The number of commands used to measure command-to-state
+ * latency, default {@code 20}.</li>
+ * </ul>
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public class MillScaleTest extends JavaOSGiTest {
+
+    private static final String PROPERTY_PREFIX = "milllan.scale.";
+
+    /** The channels that are linked to items for each device */
+    private static final List<String> LINKED_CHANNELS = List.of(
+        CHANNEL_AMBIENT_TEMPERATURE,
+        CHANNEL_SET_TEMPERATURE,
+        CHANNEL_CURRENT_POWER,
+        CHANNEL_LOCK_STATUS,
+        CHANNEL_OPERATION_MODE
+    );
+
+    /** The interval between scheduler samples in milliseconds */
+    private static final long SAMPLE_INTERVAL_MILLIS = 100L;
+
+    @NonNullByDefault({})
+    private ThingRegistry thingRegistry;
+
+    @NonNullByDefault({})
+    private ItemRegistry itemRegistry;
+
+    @NonNullByDefault({})
+    private ItemChannelLinkRegistry linkRegistry;
+
+    @NonNullByDefault({})
+    private EventPublisher eventPublisher;
+
+    @NonNullByDefault({})
+    private MillThingHandlerFactory thingHandlerFactory;
+
+    private final EventCounter eventCounter = new EventCounter();
+
+    @BeforeEach
+    public void setUp() {
+        registerVolatileStorageService();
+        thingRegistry = getService(ThingRegistry.class);
+        itemRegistry = getService(ItemRegistry.class);
+        linkRegistry = getService(ItemChannelLinkRegistry.class);
+        eventPublisher = getService(EventPublisher.class);
+        thingHandlerFactory = getService(ThingHandlerFactory.class, MillThingHandlerFactory.class);
+        assertNotNull(thingRegistry);
+        assertNotNull(itemRegistry);
+        assertNotNull(linkRegistry);
+        assertNotNull(eventPublisher);
+        assertNotNull(thingHandlerFactory);
+        registerService(eventCounter, EventSubscriber.class.getName());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        unregisterService(eventCounter);
+    }
+
+    @Test
+    public void scaleTest() throws Exception {
+        int[] sizes = Arrays.stream(getProperty("sizes", "10,100,500").split(","))
+            .map(String::trim).filter(s -> !s.isEmpty()).mapToInt(Integer::parseInt).toArray();
+        JsonObject report = new JsonObject();
+        report.addProperty("timestamp", Instant.now().toString());
+        report.addProperty("javaVersion", System.getProperty("java.version"));
+        report.addProperty("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.addProperty("maxHeapBytes", Runtime.getRuntime().maxMemory());
+        report.addProperty("refreshIntervalSeconds", getIntProperty("refreshInterval", 5));
+        report.addProperty("infrequentRefreshIntervalSeconds", getIntProperty("infrequentRefreshInterval", 30));
+        report.addProperty("steadyStateSeconds", getIntProperty("steadySeconds", 60));
+        report.addProperty("simulatedLatencyMillis", getIntProperty("latencyMillis", 5));
+        report.addProperty("simulatedJitterMillis", getIntProperty("jitterMillis", 10));
+        JsonArray results = new JsonArray();
+        for (int size : sizes) {
+            results.add(runScenario(size));
+        }
+        report.add("results", results);
+        writeReport(report);
+    }
+
+    /**
+     * Runs one scenario with the specified number of devices.
+     *
+     * @param size the number of devices.
+     * @return The scenario results.
+     * @throws Exception If an error occurs during the scenario.
+     */
+    private JsonObject runScenario(int size) throws Exception {
+        int refreshInterval = getIntProperty("refreshInterval", 5);
+        int steadySeconds = getIntProperty("steadySeconds", 60);
+        JsonObject result = new JsonObject();
+        result.addProperty("devices", size);
+
+        try (DeviceSimulator simulator = new DeviceSimulator(Math.max(DeviceSimulator.DEFAULT_MAX_THREADS, size * 2))) {
+            simulator.start();
+            List<SimulatedDevice> devices = simulator.addDevices(
+                size,
+                new SimulatorConfiguration()
+                    .setLatencyMillis(getIntProperty("latencyMillis", 5))
+                    .setJitterMillis(getIntProperty("jitterMillis", 10))
+            );
+            long heapBaseline = usedHeapAfterGC();
+
+            // Create the things, items and links
+            long start = System.nanoTime();
+            List<Thing> things = new ArrayList<>(size);
+            List<String> items = new ArrayList<>(size * LINKED_CHANNELS.size());
+            List<ItemChannelLink> links = new ArrayList<>(size * LINKED_CHANNELS.size());
+            for (int i = 0; i < size; i++) {
+                SimulatedDevice device = devices.get(i);
+                ThingUID thingUID = new ThingUID(THING_TYPE_PANEL_HEATER, "scale" + size + "_" + i);
+                Configuration configuration = new Configuration();
+                configuration.put(CONFIG_PARAM_HOSTNAME, device.getHostname());
+                configuration.put(CONFIG_PARAM_REFRESH_INTERVAL, BigDecimal.valueOf(refreshInterval));
+                configuration.put(
+                    CONFIG_PARAM_INFREQUENT_REFRESH_INTERVAL,
+                    BigDecimal.valueOf(getIntProperty("infrequentRefreshInterval", 30))
+                );
+                Thing thing = thingHandlerFactory.createThing(THING_TYPE_PANEL_HEATER, configuration, thingUID, null);
+                assertNotNull(thing);
+                thingRegistry.add(thing);
+                things.add(thing);
+                for (String channelId : LINKED_CHANNELS) {
+                    String itemName = itemName(thingUID, channelId);
+                    GenericItem item = CHANNEL_OPERATION_MODE.equals(channelId) ||
+                        CHANNEL_LOCK_STATUS.equals(channelId) ? new StringItem(itemName) : new NumberItem(itemName);
+                    itemRegistry.add(item);
+                    items.add(itemName);
+                    ItemChannelLink link = new ItemChannelLink(itemName, new ChannelUID(thingUID, channelId));
+                    linkRegistry.add(link);
+                    links.add(link);
+                }
+            }
+
+            // Wait for all things to go online
+            waitForAssert(() -> {
+                for (Thing thing : things) {
+                    Thing current = thingRegistry.get(thing.getUID());
+                    assertNotNull(current);
+                    assertEquals(ThingStatus.ONLINE, current.getStatus(), current.getUID().toString());
+                }
+            }, Math.max(60000L, size * 200L), 100L);
+            result.addProperty("onlineMillis", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+            // Let the polling settle
+            Thread.sleep(TimeUnit.SECONDS.toMillis(refreshInterval * 2L));
+
+            // Steady state measurement
+            SchedulerSampler sampler = new SchedulerSampler();
+            long heapBefore = usedHeapAfterGC();
+            long requestsBefore = totalRequests(devices);
+            long eventsBefore = eventCounter.stateEvents.get();
+            long threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+            start = System.nanoTime();
+            sampler.start();
+            Thread.sleep(TimeUnit.SECONDS.toMillis(steadySeconds));
+            sampler.stop();
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long requests = totalRequests(devices) - requestsBefore;
+            long events = eventCounter.stateEvents.get() - eventsBefore;
+            long heapAfter = usedHeapAfterGC();
+
+            result.addProperty("requestsPerSecond", requests / seconds);
+            result.addProperty("eventUpdatesPerSecond", events / seconds);
+            result.add("scheduler", sampler.toJson());
+            result.addProperty("threadsBefore", threadsBefore);
+            result.addProperty("threadsAfter", ManagementFactory.getThreadMXBean().getThreadCount());
+            JsonObject heap = new JsonObject();
+            heap.addProperty("baselineBytes", heapBaseline);
+            heap.addProperty("steadyStartBytes", heapBefore);
+            heap.addProperty("steadyEndBytes", heapAfter);
+            heap.addProperty("steadyGrowthBytes", heapAfter - heapBefore);
+            heap.addProperty("perDeviceBytes", (heapBefore - heapBaseline) / (double) size);
+
+            // Command-to-state latency
+            result.add("commandToStateMillis", measureCommandLatency(things));
+
+            // Clean up
+            for (ItemChannelLink link : links) {
+                linkRegistry.remove(link.getUID());
+            }
+            for (String itemName : items) {
+                itemRegistry.remove(itemName);
+            }
+            for (Thing thing : things) {
+                thingRegistry.forceRemove(thing.getUID());
+            }
+            waitForAssert(() -> {
+                for (Thing thing : things) {
+                    assertNull(thingRegistry.get(thing.getUID()));
+                }
+            }, 30000L, 100L);
+            heap.addProperty("afterDisposeBytes", usedHeapAfterGC());
+            heap.addProperty("retainedAfterDisposeBytes", usedHeapAfterGC() - heapBaseline);
+            result.add("heap", heap);
+        }
+        return result;
+    }
+
+    /**
+     * Sends operation mode commands to a sample of the things, one at a time, and measures the time until
+     * the new state is received by the item.
+     *
+     * @param things the {@link Thing}s to sample from.
+     * @return The latency statistics.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    private JsonObject measureCommandLatency(List<Thing> things) throws InterruptedException {
+        int samples = Math.min(getIntProperty("commandSamples", 20), things.size());
+        int step = Math.max(1, things.size() / Math.max(1, samples));
+        List<Long> latencies = new ArrayList<>(samples);
+        int timeouts = 0;
+        for (int i = 0; i < samples; i++) {
+            ThingUID thingUID = things.get(i * step).getUID();
+            String itemName = itemName(thingUID, CHANNEL_OPERATION_MODE);
+            String target = i % 2 == 0 ? OperationMode.INDEPENDENT_DEVICE.name() : OperationMode.WEEKLY_PROGRAM.name();
+            CountDownLatch latch = eventCounter.expect(itemName, target);
+            long start = System.nanoTime();
+            eventPublisher.post(ItemEventFactory.createCommandEvent(itemName, new StringType(target)));
+            if (latch.await(30L, TimeUnit.SECONDS)) {
+                latencies.add(System.nanoTime() - start);
+            } else {
+                timeouts++;
+            }
+            eventCounter.expectations.remove(itemName);
+        }
+        JsonObject result = new JsonObject();
+        result.addProperty("samples", latencies.size());
+        result.addProperty("timeouts", timeouts);
+        if (!latencies.isEmpty()) {
+            latencies.sort(null);
+            result.addProperty("p50", percentileMillis(latencies, 50));
+            result.addProperty("p95", percentileMillis(latencies, 95));
+            result.addProperty("max", latencies.get(latencies.size() - 1) / 1e6);
+        }
+        return result;
+    }
+
+    private static double percentileMillis(List<Long> sorted, int percentile) {
+        int idx = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(idx, sorted.size() - 1))) / 1e6;
+    }
+
+    private static long totalRequests(List<SimulatedDevice> devices) {
+        long result = 0L;
+        for (SimulatedDevice device : devices) {
+            result += device.getRequestCount();
+        }
+        return result;
+    }
+
+    private static long usedHeapAfterGC() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(200L);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static String itemName(ThingUID thingUID, String channelId) {
+        return (thingUID.getId() + "_" + channelId).replace('-', '_');
+    }
+
+    private String getProperty(String key, String defaultValue) {
+        String result = bundleContext.getProperty(PROPERTY_PREFIX + key);
+        return result == null || result.isBlank() ? defaultValue : result.trim();
+    }
+
+    private int getIntProperty(String key, int defaultValue) {
+        return Integer.parseInt(getProperty(key, Integer.toString(defaultValue)));
+    }
+
+    private void writeReport(JsonObject report) throws IOException {
+        Path path = Paths.get(getProperty("report", "scale-report.json"));
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            gson.toJson(report, writer);
+        }
+    }
+
+    /**
+     * Counts item state events and completes command expectations.
+     */
+    private static class EventCounter implements EventSubscriber {
+
+        private final AtomicLong stateEvents = new AtomicLong();
+
+        private final Map<String, Expectation> expectations = new ConcurrentHashMap<>();
+
+        CountDownLatch expect(String itemName, String state) {
+            Expectation expectation = new Expectation(state);
+            expectations.put(itemName, expectation);
+            return expectation.latch;
+        }
+
+        @Override
+        public Set<String> getSubscribedEventTypes() {
+            return Set.of(ItemStateEvent.TYPE, ItemStateChangedEvent.TYPE);
+        }
+
+        @Override
+        public void receive(Event event) {
+            if (event instanceof ItemStateEvent) {
+                stateEvents.incrementAndGet();
+            } else if (event instanceof ItemStateChangedEvent) {
+                ItemStateChangedEvent changedEvent = (ItemStateChangedEvent) event;
+                Expectation expectation = expectations.get(changedEvent.getItemName());
+                if (expectation != null && expectation.state.equals(changedEvent.getItemState().toString())) {
+                    expectation.latch.countDown();
+                }
+            }
+        }
+    }
+
+    /**
+     * An expected item state.
+     */
+    private static class Expectation {
+
+        private final String state;
+
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        Expectation(String state) {
+            this.state = state;
+        }
+    }
+
+    /**
+     * Periodically samples the thing handler scheduler.
+     */
+    private static class SchedulerSampler {
+
+        private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+        private final List<int[]> samples = new ArrayList<>();
+
+        @Nullable
+        private ScheduledFuture<?> future;
+
+        void start() {
+            ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("thingHandler");
+            if (!(scheduler instanceof ThreadPoolExecutor)) {
+                return;
+            }
+            ThreadPoolExecutor pool = (ThreadPoolExecutor) scheduler;
+            future = executor.scheduleAtFixedRate(() -> {
+                synchronized (samples) {
+                    samples.add(new int[] {pool.getActiveCount(), pool.getPoolSize(), pool.getQueue().size()});
+                }
+            }, 0L, SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        void stop() {
+            ScheduledFuture<?> localFuture = future;
+            if (localFuture != null) {
+                localFuture.cancel(false);
+            }
+            executor.shutdownNow();
+        }
+
+        JsonObject toJson() {
+            JsonObject result = new JsonObject();
+            synchronized (samples) {
+                result.addProperty("samples", samples.size());
+                if (samples.isEmpty()) {
+                    return result;
+                }
+                double activeSum = 0.0;
+                int activeMax = 0;
+                int poolMax = 0;
+                int queuedMax = 0;
+                int saturated = 0;
+                for (int[] sample : samples) {
+                    activeSum += sample[0];
+                    activeMax = Math.max(activeMax, sample[0]);
+                    poolMax = Math.max(poolMax, sample[1]);
+                    queuedMax = Math.max(queuedMax, sample[2]);
+                    if (sample[1] > 0 && sample[0] >= sample[1]) {
+                        saturated++;
+                    }
+                }
+                result.addProperty("activeThreadsAvg", activeSum / samples.size());
+                result.addProperty("activeThreadsMax", activeMax);
+                result.addProperty("poolSizeMax", poolMax);
+                result.addProperty("queuedTasksMax", queuedMax);
+                result.addProperty("saturatedFraction", saturated / (double) samples.size());
+            }
+            return result;
+        }
+    }
+}
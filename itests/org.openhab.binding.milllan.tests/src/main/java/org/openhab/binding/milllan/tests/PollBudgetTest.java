@@ -0,0 +1,149 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.openhab.binding.milllan.internal.MillBindingConstants.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.milllan.internal.MillPanelHeaterHandler;
+import org.openhab.binding.milllan.internal.api.RequestDeadline;
+import org.openhab.binding.milllan.internal.configuration.MillConfigDescriptionProvider;
+import org.openhab.binding.milllan.internal.discovery.MillAddressRegistry;
+import org.openhab.binding.milllan.internal.exception.MillCommunicationException;
+import org.openhab.binding.milllan.internal.exception.MillException;
+import org.openhab.binding.milllan.internal.http.MillHTTPClientProvider;
+import org.openhab.binding.milllan.internal.poll.PollCadence;
+import org.openhab.binding.milllan.internal.poll.PollEndpoint;
+import org.openhab.binding.milllan.internal.poll.PollPlan;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.test.java.JavaOSGiTest;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.builder.ThingBuilder;
+
+
+/**
+ * Tests how the time budget of a poll cycle is applied to the polled endpoints, using a handler whose poll
+ * methods record the deadline instead of contacting a device.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public class PollBudgetTest extends JavaOSGiTest {
+
+    @NonNullByDefault({})
+    private RecordingHandler handler;
+
+    @BeforeEach
+    public void setUp() {
+        MillConfigDescriptionProvider configDescriptionProvider = getService(MillConfigDescriptionProvider.class);
+        MillHTTPClientProvider httpClientProvider = getService(MillHTTPClientProvider.class);
+        MillAddressRegistry addressRegistry = getService(MillAddressRegistry.class);
+        assertNotNull(configDescriptionProvider);
+        assertNotNull(httpClientProvider);
+        assertNotNull(addressRegistry);
+        Configuration configuration = new Configuration();
+        configuration.put(CONFIG_PARAM_HOSTNAME, "127.0.0.1");
+        Thing thing = ThingBuilder.create(THING_TYPE_PANEL_HEATER, new ThingUID(THING_TYPE_PANEL_HEATER, "budget"))
+            .withConfiguration(configuration).build();
+        handler = new RecordingHandler(thing, configDescriptionProvider, httpClientProvider, addressRegistry);
+    }
+
+    @Test
+    public void coreEndpointIgnoresExhaustedBudget() {
+        // A budget of 1 ns has run out before the first request
+        handler.poll(List.of(new PollPlan.Step(PollEndpoint.CONTROL_STATUS, PollCadence.FREQUENT, 0)), 1L);
+
+        assertEquals(Long.MAX_VALUE, handler.coreRemainingNanos, "The core endpoint was polled with a deadline");
+        assertNull(handler.offlineCause, "The Thing was set offline because the budget ran out");
+        assertEquals(Long.MAX_VALUE, RequestDeadline.remainingNanos(), "The deadline wasn't cleared");
+    }
+
+    @Test
+    public void nonCoreEndpointKeepsBudget() {
+        long budgetNanos = TimeUnit.SECONDS.toNanos(10L);
+        handler.poll(
+            List.of(
+                new PollPlan.Step(PollEndpoint.CONTROL_STATUS, PollCadence.FREQUENT, 0),
+                new PollPlan.Step(PollEndpoint.STATUS, PollCadence.FREQUENT, 1)
+            ),
+            budgetNanos
+        );
+
+        assertEquals(Long.MAX_VALUE, handler.coreRemainingNanos, "The core endpoint was polled with a deadline");
+        assertTrue(
+            handler.statusRemainingNanos > 0L && handler.statusRemainingNanos <= budgetNanos,
+            "The non-core endpoint wasn't polled with the deadline of the budget"
+        );
+        assertNull(handler.offlineCause);
+        assertEquals(Long.MAX_VALUE, RequestDeadline.remainingNanos(), "The deadline wasn't cleared");
+    }
+
+    /**
+     * A {@link MillPanelHeaterHandler} that records the remaining time until the deadline of the current thread
+     * when it polls, and fails the way a request does when the deadline has passed.
+     */
+    private static class RecordingHandler extends MillPanelHeaterHandler {
+
+        private volatile long coreRemainingNanos;
+
+        private volatile long statusRemainingNanos;
+
+        @Nullable
+        private volatile MillException offlineCause;
+
+        RecordingHandler(
+            Thing thing,
+            MillConfigDescriptionProvider configDescriptionProvider,
+            MillHTTPClientProvider httpClientProvider,
+            MillAddressRegistry addressRegistry
+        ) {
+            super(thing, configDescriptionProvider, httpClientProvider, () -> null, addressRegistry);
+        }
+
+        void poll(List<PollPlan.Step> steps, long budgetNanos) {
+            pollEndpoints(steps, budgetNanos);
+        }
+
+        @Override
+        public void pollControlStatus() throws MillException {
+            coreRemainingNanos = RequestDeadline.remainingNanos();
+            checkDeadline();
+        }
+
+        @Override
+        public void pollStatus() throws MillException {
+            statusRemainingNanos = RequestDeadline.remainingNanos();
+            checkDeadline();
+        }
+
+        @Override
+        protected void setOffline(MillException e) {
+            offlineCause = e;
+        }
+
+        private static void checkDeadline() throws MillException {
+            if (RequestDeadline.limit(2000L) <= 0L) {
+                throw MillCommunicationException.of(MillCommunicationException.Type.DEADLINE_PASSED, null);
+            }
+        }
+    }
+}
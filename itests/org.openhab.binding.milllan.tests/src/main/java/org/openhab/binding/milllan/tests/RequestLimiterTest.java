@@ -0,0 +1,114 @@
+/*
+ * Mill LAN Binding, an add-on for openHAB for controlling Mill devices which
+ * exposes a local REST API. Copyright (c) 2024 Nadahar
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.milllan.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.milllan.internal.api.RequestLimiter;
+import org.openhab.binding.milllan.internal.exception.MillException;
+
+
+/**
+ * Tests the rate limiting of the {@link RequestLimiter}, in particular that requests that are rejected or
+ * interrupted don't keep their rate slot.
+ *
+ * @author Nadahar - Initial contribution
+ */
+@NonNullByDefault
+public class RequestLimiterTest {
+
+    @Test
+    public void recoversAfterRejectedBurst() throws Exception {
+        // One request every 100 ms, with at most 250 ms of waiting
+        RequestLimiter limiter = new RequestLimiter(0, 10.0, 250L, TimeUnit.MILLISECONDS);
+        int burst = 20;
+        CountDownLatch go = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>(burst);
+        for (int i = 0; i < burst; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    go.await();
+                    limiter.acquire();
+                    limiter.release();
+                    accepted.incrementAndGet();
+                } catch (MillException e) {
+                    rejected.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        go.countDown();
+        for (Thread thread : threads) {
+            thread.join(5000L);
+        }
+        assertEquals(burst, accepted.get() + rejected.get());
+        assertTrue(rejected.get() > 0, "The burst should exceed the maximum waiting time");
+        assertTrue(accepted.get() <= 4, "Too many requests accepted: " + accepted.get());
+
+        // The rejected requests must not have booked slots, so the backlog is cleared by now
+        Thread.sleep(500L);
+        for (int i = 0; i < 5; i++) {
+            long waitNanos = limiter.acquire();
+            limiter.release();
+            assertTrue(
+                waitNanos <= TimeUnit.MILLISECONDS.toNanos(150L),
+                "Waited " + TimeUnit.NANOSECONDS.toMillis(waitNanos) + " ms for a request after the backlog cleared"
+            );
+        }
+    }
+
+    @Test
+    public void interruptedRequestGivesBackSlot() throws Exception {
+        // One request per second
+        RequestLimiter limiter = new RequestLimiter(0, 1.0, 5L, TimeUnit.SECONDS);
+        limiter.acquire();
+        limiter.release();
+
+        AtomicInteger interrupted = new AtomicInteger();
+        Thread waiting = new Thread(() -> {
+            try {
+                limiter.acquire();
+                limiter.release();
+            } catch (MillException e) {
+                interrupted.incrementAndGet();
+            }
+        });
+        waiting.start();
+        Thread.sleep(200L);
+        waiting.interrupt();
+        waiting.join(5000L);
+        assertEquals(1, interrupted.get());
+
+        // The next request gets the slot of the interrupted request instead of the one after it
+        long waitNanos = limiter.acquire();
+        limiter.release();
+        assertTrue(
+            waitNanos < TimeUnit.MILLISECONDS.toNanos(1500L),
+            "Waited " + TimeUnit.NANOSECONDS.toMillis(waitNanos) + " ms for the slot of the interrupted request"
+        );
+    }
+}